@@ -1,6 +1,7 @@
 plugins {
     java
     alias(libs.plugins.spring.boot)
+    alias(libs.plugins.spring.boot.aot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
 }
@@ -21,12 +22,36 @@ dependencyManagement {
     }
 }
 
+// benchmark source set (src/jmh/java)
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+// load test source set (src/loadTest/java)
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.spring.boot.starter.jdbc)
+    runtimeOnly(libs.h2)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
+
+    "loadTestImplementation"(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -34,6 +59,17 @@ java {
     sourceCompatibility = JavaVersion.VERSION_17
 }
 
+// 실행 JDK : gradle bootRun -PruntimeJdk=21 --args="--spring.profiles.active=virtual"
+// 컴파일은 17 기준으로 두고, 가상 스레드 모드(application-virtual.yml)를 실행할 때만 21 이상의 JDK 로 띄운다.
+findProperty("runtimeJdk")?.let { runtimeJdk ->
+    val launcher = javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(runtimeJdk.toString()))
+    }
+    tasks.withType<JavaExec>().configureEach {
+        javaLauncher.set(launcher)
+    }
+}
+
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
@@ -50,3 +86,79 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+// benchmark tasks : gradle jmh -PjmhArgs="<benchmark regex> <jmh options>"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args((findProperty("jmhArgs") as String?)?.split(" ") ?: emptyList<String>())
+}
+// load test tasks : gradle loadTest -PloadArgs="rate=500 duration=60s distribution=zipf" (옵션은 LoadTestConfig 참고)
+tasks.register<JavaExec>("loadTest") {
+    group = "benchmark"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.LoadTestMain")
+    workingDir = projectDir
+    args((findProperty("loadArgs") as String?)?.split(" ") ?: emptyList<String>())
+}
+// in-flight capacity tasks : gradle inFlightCapacity -PruntimeJdk=21 -PcapacityArgs="200 1000 5000 10000"
+tasks.register<JavaExec>("inFlightCapacity") {
+    group = "benchmark"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.InFlightCapacityMain")
+    args((findProperty("capacityArgs") as String?)?.split(" ") ?: emptyList<String>())
+}
+// binary protocol tasks : gradle binaryBenchmark -PbinaryArgs="requests=200000 concurrency=256 users=1000"
+tasks.register<JavaExec>("binaryBenchmark") {
+    group = "benchmark"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.BinaryProtocolBenchmarkMain")
+    args((findProperty("binaryArgs") as String?)?.split(" ") ?: emptyList<String>())
+}
+// cluster scaling tasks : gradle clusterScaling -PclusterArgs="workers=10 duration=10s users=10000"
+tasks.register<JavaExec>("clusterScaling") {
+    group = "benchmark"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.ClusterScalingMain")
+    args((findProperty("clusterArgs") as String?)?.split(" ") ?: emptyList<String>())
+}
+// startup image tasks : AOT 처리된 클래스 + CDS 아카이브 (build/startup, application-startup.yml 참고)
+val startupDir = layout.buildDirectory.dir("startup")
+val startupJar by tasks.registering(Jar::class) {
+    group = "startup"
+    archiveFileName.set("hhplus-tdd-app.jar")
+    destinationDirectory.set(layout.buildDirectory.dir("startup-jar"))
+    from(sourceSets.main.get().output)
+    from(sourceSets["aot"].output)
+}
+val startupLib by tasks.registering(Sync::class) {
+    group = "startup"
+    from(configurations.runtimeClasspath)
+    from(startupJar)
+    into(startupDir.map { it.dir("lib") })
+}
+tasks.register<Exec>("startupImage") {
+    group = "startup"
+    description = "startup 프로파일로 한 번 기동해 CDS 아카이브를 만들고 build/startup/run.sh 를 생성한다."
+    dependsOn(startupLib)
+    val dir = startupDir.get().asFile
+    val jvmArgs = "-Dspring.aot.enabled=true -Dspring.profiles.active=startup"
+    workingDir(dir)
+    doFirst {
+        val classpath = dir.resolve("lib").listFiles()!!.sortedBy { it.name }.joinToString(":") { "lib/${it.name}" }
+        dir.resolve("classpath.txt").writeText(classpath)
+        // spring.context.exit=onRefresh : 컨텍스트 refresh 직후 종료하며 로딩된 클래스를 아카이브에 기록한다.
+        commandLine(listOf("java", "-XX:ArchiveClassesAtExit=app.jsa", "-Dspring.context.exit=onRefresh")
+                + jvmArgs.split(" ") + listOf("-cp", classpath, "io.hhplus.tdd.TddApplication"))
+    }
+    doLast {
+        val classpath = dir.resolve("classpath.txt").readText()
+        val script = dir.resolve("run.sh")
+        script.writeText("""
+            |#!/bin/sh
+            |cd "${'$'}(dirname "${'$'}0")"
+            |exec java -XX:SharedArchiveFile=app.jsa $jvmArgs ${'$'}JAVA_OPTS -cp "$classpath" io.hhplus.tdd.TddApplication "${'$'}@"
+            |""".trimMargin())
+        script.setExecutable(true)
+    }
+}
@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# 기본 기동(java -jar)과 startup 프로파일(AOT + CDS + 지연 초기화) 기동을 비교한다.
+# - time-to-first-request : 프로세스 시작부터 GET /point/{id} 가 처음 200 을 응답하기까지 걸린 시간
+# - rss : 워밍업 요청 이후 프로세스의 VmRSS
+#
+# 사용법: gradle bootJar startupImage && scripts/startup-benchmark.sh [반복 횟수]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+WARMUP=${WARMUP:-50}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+BOOT_JAR=$(ls "$ROOT"/build/libs/*.jar | head -n 1)
+STARTUP_RUN="$ROOT/build/startup/run.sh"
+
+# $1 = 라벨, 나머지 = 실행 명령. "라벨 첫응답ms rssKB" 한 줄을 출력한다.
+measure() {
+  local label=$1
+  shift
+  local start
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" >/dev/null 2>&1 &
+  local pid=$!
+  until curl -sf "http://localhost:$PORT/point/1" >/dev/null; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$label: 애플리케이션이 기동 중 종료되었습니다." >&2
+      exit 1
+    fi
+    sleep 0.005
+  done
+  local first_request_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+  for _ in $(seq "$WARMUP"); do
+    curl -sf "http://localhost:$PORT/point/1" >/dev/null
+  done
+  local rss_kb
+  rss_kb=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$label $first_request_ms $rss_kb"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+results=$(mktemp)
+trap 'rm -f "$results"' EXIT
+
+for run in $(seq "$RUNS"); do
+  measure default java -jar "$BOOT_JAR" >> "$results"
+  measure startup "$STARTUP_RUN" >> "$results"
+  echo "run $run/$RUNS done" >&2
+done
+
+printf "%-10s %28s %18s\n" profile "time-to-first-request(ms)" "rss-after-warmup(MB)"
+for label in default startup; do
+  ttfr=$(awk -v l="$label" '$1 == l { print $2 }' "$results" | median)
+  rss=$(awk -v l="$label" '$1 == l { print $3 }' "$results" | median)
+  printf "%-10s %28s %18s\n" "$label" "$ttfr" "$(( rss / 1024 ))"
+done
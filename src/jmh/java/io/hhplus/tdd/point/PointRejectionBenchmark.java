@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 부족 요청의 거절 처리량 비교
+ * - exception : 기존 방식. IllegalArgumentException 생성(스택 트레이스 포함) + 잔액 메시지 + ApiControllerAdvice 의 에러 로그 포맷
+ * - result : PointRejection 반환 + 미리 만든 응답 재사용
+ * - stackDepth 로 요청 처리 스레드(Tomcat/Spring MVC)의 호출 깊이를 흉내 낸다. 로그 출력 I/O 는 포함하지 않는다.
+ * - 실행: gradle jmh -PjmhArgs="PointRejectionBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointRejectionBenchmark {
+
+    private static final Map<PointRejection, ErrorResponse> RESPONSES = new EnumMap<>(PointRejection.class);
+
+    static {
+        for (PointRejection rejection : PointRejection.values()) {
+            RESPONSES.put(rejection, new ErrorResponse("400", rejection.message()));
+        }
+    }
+
+    @Param({"10", "120"})
+    public int stackDepth;
+
+    private final UserPoint userPoint = new UserPoint(1L, 100L, 0L);
+
+    @Benchmark
+    @Threads(4)
+    public Object exception() {
+        return nested(stackDepth, true);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object result() {
+        return nested(stackDepth, false);
+    }
+
+    private Object nested(int depth, boolean throwing) {
+        if (depth > 0) {
+            return nested(depth - 1, throwing);
+        }
+        if (throwing) {
+            try {
+                return userPoint.use(1_000L);
+            } catch (IllegalArgumentException e) {
+                String logged = MessageFormatter.format("Illegal argument error: {}", e.getMessage()).getMessage();
+                return new ErrorResponse("400", logged);
+            }
+        }
+        PointResult result = userPoint.tryUse(1_000L);
+        return result instanceof PointRejection rejection ? RESPONSES.get(rejection) : result;
+    }
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전분(lot) 1천만 개를 원장과 타이밍 휠에 등록하는 시간과 lot 당 메모리 측정
+ * - 100만 명이 10번씩 충전하며, 충전 시각은 1ms 에 1,000건씩 늘어난다.
+ * - lot 당 메모리는 등록 전후 GC 후 힙 사용량 차이로 계산해 출력한다. (-Xmx6g 이상 권장)
+ * - 실행: gradle jmh -PjmhArgs="PointExpiryBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g", "-XX:+UseParallelGC"})
+public class PointExpiryBenchmark {
+
+    private static final int USERS = 1_000_000;
+
+    @Param({"10000000"})
+    public int lots;
+
+    private PointLotLedger ledger;
+    private long baseMillis;
+    private long heapBefore;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ledger = null;
+        heapBefore = usedHeap();
+        ledger = new PointLotLedger(new PointExpiryProperties(true, Duration.ofDays(365), Duration.ofSeconds(1)));
+        baseMillis = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public PointLotLedger schedule() {
+        for (int i = 0; i < lots; i++) {
+            long userId = i % USERS;
+            long chargedMillis = baseMillis + i / 1_000;
+            ledger.onCommitted(new PointCommittedEvent(TransactionType.CHARGE, 100L,
+                    new UserPoint(userId, 100L, chargedMillis),
+                    new PointHistory(i, userId, 100L, TransactionType.CHARGE, chargedMillis)));
+        }
+        return ledger;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        System.out.printf("%nscheduled lots: %d, bytes per lot: %.1f%n",
+                ledger.scheduledLots(), (usedHeap() - heapBefore) / (double) lots);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.monitor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 호출마다 더해지는 HotUserSketch 기록 비용 측정 (목표: 호출당 100ns 미만)
+ * - 10% 의 요청은 소수의 인기 유저, 나머지는 100만 명에게 고르게 분포시킨다.
+ * - 실행: gradle jmh -PjmhArgs="HotUserSketchBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotUserSketchBenchmark {
+
+    private static final int IDS = 1 << 16;
+
+    private HotUserSketch sketch;
+    private long[] userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sketch = new HotUserSketch(new HotUserProperties(16384, 20, Duration.ofSeconds(10)));
+        userIds = new long[IDS];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < IDS; i++) {
+            userIds[i] = random.nextInt(10) == 0 ? random.nextInt(10) : random.nextInt(1_000_000);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordAccess(Cursor cursor) {
+        sketch.recordAccess(userIds[cursor.next++ & (IDS - 1)]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordLockWait(Cursor cursor) {
+        sketch.recordLockWait(userIds[cursor.next++ & (IDS - 1)], 1_000L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordAccessContended(Cursor cursor) {
+        sketch.recordAccess(userIds[cursor.next++ & (IDS - 1)]);
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.point.repository.hedge.HedgeProperties;
+import io.hhplus.tdd.point.repository.hedge.HedgedReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * hedging 유무에 따른 조회 응답 시간 분포(p50/p90/p99)와 추가 조회 비율 비교
+ * - uniform : UserPointTable.selectById 와 같은 0~200ms 균등 분포
+ * - longtail : 95% 는 0~20ms, 5% 는 200~400ms
+ * - 추가 조회 비율은 각 시행이 끝날 때 출력한다. (lookups / reads)
+ * - 실행: gradle jmh -PjmhArgs="HedgedReadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class HedgedReadBenchmark {
+
+    @Param({"uniform", "longtail"})
+    public String distribution;
+
+    @Param({"false", "true"})
+    public boolean hedge;
+
+    private HedgedReader hedgedReader;
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hedgedReader = new HedgedReader(new HedgeProperties(hedge, 0.9, 10, Duration.ofMillis(5), 1024, 256),
+                new SimpleMeterRegistry(), ExecutionMode.PLATFORM);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[%s, hedge=%s] lookups per read: %.3f%n",
+                distribution, hedge, lookups.get() / (double) reads.get());
+        hedgedReader.shutdown();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long read() {
+        reads.incrementAndGet();
+        return hedgedReader.read(this::lookup);
+    }
+
+    private long lookup() {
+        lookups.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = distribution.equals("uniform")
+                ? random.nextLong(200)
+                : random.nextInt(100) < 5 ? 200 + random.nextLong(200) : random.nextLong(20);
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ignored) {
+            // 늦게 끝난 쪽이 취소된 경우
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point.repository;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.hedge.HedgeProperties;
+import io.hhplus.tdd.point.repository.hedge.HedgedReader;
+import io.hhplus.tdd.point.repository.jdbc.JdbcHistoryProperties;
+import io.hhplus.tdd.point.repository.jdbc.JdbcPointHistoryRepository;
+import io.hhplus.tdd.point.repository.jdbc.JdbcUserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 충전 한 건의 저장소 작업(잔고 조회 -> 내역 저장 -> 잔고 갱신) 처리량을 인메모리 테이블과 파일 모드 H2 로 비교한다.
+ * - 스레드마다 서로 다른 유저를 맡으므로 스레드 수가 곧 동시 유저 수다. (1, 16, 128)
+ * - 인메모리 테이블은 호출마다 최대 200~300ms 의 임의 지연(throttle)이 있다.
+ * - 실행: gradle jmh -PjmhArgs="PointRepositoryBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class PointRepositoryBenchmark {
+
+    @Param({"table", "jdbc"})
+    public String store;
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private HikariDataSource dataSource;
+    private final AtomicLong userIds = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (store.equals("table")) {
+            userPointRepository = new UserPointRepositoryImpl(new UserPointTable(),
+                    new HedgedReader(new HedgeProperties(false, 0.9, 10, Duration.ofMillis(5), 1024, 256), new SimpleMeterRegistry(), ExecutionMode.PLATFORM));
+            pointHistoryRepository = new PointHistoryRepositoryImpl(new PointHistoryTable());
+            return;
+        }
+        Path dataDir = Files.createTempDirectory("point-h2");
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:file:" + dataDir.resolve("point") + ";DB_CLOSE_ON_EXIT=FALSE");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(16);
+        dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource("db/point-schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        userPointRepository = new JdbcUserPointRepository(jdbcTemplate);
+        pointHistoryRepository = new JdbcPointHistoryRepository(jdbcTemplate, transactionTemplate, new JdbcHistoryProperties(256));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (pointHistoryRepository instanceof JdbcPointHistoryRepository jdbc) {
+            jdbc.stop();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class User {
+        long id;
+
+        @Setup(Level.Trial)
+        public void setUp(PointRepositoryBenchmark benchmark) {
+            id = benchmark.userIds.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserPoint users1(User user) {
+        return charge(user.id);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public UserPoint users16(User user) {
+        return charge(user.id);
+    }
+
+    @Benchmark
+    @Threads(128)
+    public UserPoint users128(User user) {
+        return charge(user.id);
+    }
+
+    private UserPoint charge(long userId) {
+        VersionedUserPoint current = userPointRepository.findForUpdate(userId);
+        pointHistoryRepository.save(userId, 1L, TransactionType.CHARGE, System.currentTimeMillis());
+        return userPointRepository.update(userId, current.version(), current.userPoint().point() + 1).userPoint();
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.binary.BinaryPointServer;
+import io.hhplus.tdd.point.binary.PointBinaryClient;
+import io.hhplus.tdd.point.binary.PointReply;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 충전 요청을 REST(PATCH /point/{id}/charge)와 바이너리 프로토콜로 보내 처리량과 요청당 서버 할당량을 비교한다.
+ * - 테이블의 인위적인 지연 대신 메모리 H2(jdbc 프로파일)를 써서 요청 처리 비용이 드러나게 한다.
+ * - 요청당 할당량은 서버 쪽 스레드(Tomcat, AsyncPointService 실행기, 바이너리 셀렉터, 내역 배치 writer)의
+ *   할당 바이트 합을 요청 수로 나눈 값이다. 같은 JVM 의 부하 생성 스레드는 제외한다.
+ * - 실행: gradle binaryBenchmark -PbinaryArgs="requests=200000 concurrency=256 users=1000"
+ */
+public final class BinaryProtocolBenchmarkMain {
+
+    private static final String[] SERVER_THREAD_PREFIXES = {
+            "http-nio-", "point-async-", "point-binary-selector", "point-history-batch-writer"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            options.put(keyValue[0], keyValue[1]);
+        }
+        int requests = Integer.parseInt(options.getOrDefault("requests", "200000"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+        int users = Integer.parseInt(options.getOrDefault("users", "1000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "50000"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class).run(
+                "--spring.profiles.active=jdbc",
+                "--spring.datasource.url=jdbc:h2:mem:binary-benchmark;DB_CLOSE_DELAY=-1",
+                "--server.port=0",
+                "--point.binary.enabled=true",
+                "--point.binary.port=0",
+                "--point.expiry.enabled=false",
+                "--logging.level.io.hhplus.tdd=warn");
+        URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        try (PointBinaryClient binaryClient = PointBinaryClient.connect("localhost",
+                context.getBean(BinaryPointServer.class).port())) {
+            // 잔고가 최대치를 넘지 않도록 1 포인트씩 충전한다.
+            LongFunction<CompletableFuture<Boolean>> rest = userId -> httpClient.sendAsync(
+                            HttpRequest.newBuilder(baseUri.resolve("/point/" + userId + "/charge"))
+                                    .header("Content-Type", "application/json")
+                                    .method("PATCH", HttpRequest.BodyPublishers.ofString("1"))
+                                    .build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> response.statusCode() == 200);
+            LongFunction<CompletableFuture<Boolean>> binary = userId -> binaryClient.charge(userId, 1L)
+                    .thenApply(PointReply::isOk);
+
+            System.out.printf("requests %d, concurrency %d, users %d%n", requests, concurrency, users);
+            System.out.printf("%-7s %9s %7s %9s %10s %16s%n", "path", "requests", "errors", "time(s)", "req/s", "alloc/req(bytes)");
+            run("warmup", rest, warmup, concurrency, users, false);
+            run("warmup", binary, warmup, concurrency, users, false);
+            run("rest", rest, requests, concurrency, users, true);
+            run("binary", binary, requests, concurrency, users, true);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(String path, LongFunction<CompletableFuture<Boolean>> call, int requests,
+                            int concurrency, int users, boolean print) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLong errors = new AtomicLong();
+        Map<Long, Long> allocatedBefore = serverAllocatedBytes();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            call.apply(1L + i % users).whenComplete((ok, error) -> {
+                if (error != null || !ok) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(concurrency);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        long allocated = 0L;
+        for (Map.Entry<Long, Long> entry : serverAllocatedBytes().entrySet()) {
+            allocated += entry.getValue() - allocatedBefore.getOrDefault(entry.getKey(), 0L);
+        }
+        if (print) {
+            System.out.printf("%-7s %9d %7d %9.2f %10.0f %16.0f%n",
+                    path, requests, errors.get(), seconds, requests / seconds, (double) allocated / requests);
+        }
+    }
+
+    // 서버 쪽 스레드별 누적 할당 바이트
+    private static Map<Long, Long> serverAllocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocated = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            for (String prefix : SERVER_THREAD_PREFIXES) {
+                if (thread.getName().startsWith(prefix)) {
+                    allocated.put(thread.getId(), threadMXBean.getThreadAllocatedBytes(thread.getId()));
+                    break;
+                }
+            }
+        }
+        return allocated;
+    }
+}
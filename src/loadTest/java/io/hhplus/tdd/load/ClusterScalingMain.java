@@ -0,0 +1,136 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.cluster.ClusterForwardingInterceptor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * localhost 에 인스턴스 1개와 3개로 클러스터를 띄워, 임의의 인스턴스로 조회 요청을 보낼 때의 처리량을 비교한다.
+ * - 인스턴스 처리량이 비동기 작업 스레드 수에 묶이도록 workers 를 작게 두고, 3 인스턴스의 처리 용량보다 많은 동시 요청을 보낸다.
+ * - 담당이 아닌 인스턴스로 들어온 요청은 담당 인스턴스로 전달되므로 전달 건수도 함께 출력한다.
+ * - 실행: gradle clusterScaling -PclusterArgs="workers=10 duration=10s users=10000"
+ */
+public final class ClusterScalingMain {
+
+    private static final int VIRTUAL_NODES = 160;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            options.put(keyValue[0], keyValue[1]);
+        }
+        int workers = Integer.parseInt(options.getOrDefault("workers", "10"));
+        long durationMillis = Long.parseLong(options.getOrDefault("duration", "10s").replace("s", "")) * 1000L;
+        int users = Integer.parseInt(options.getOrDefault("users", "10000"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", String.valueOf(workers * 3 * 2)));
+
+        System.out.printf("workers %d, clients %d, duration %dms, users %d%n", workers, clients, durationMillis, users);
+        System.out.printf("%-9s %9s %7s %10s %10s%n", "instances", "requests", "errors", "forwarded", "req/s");
+        Result single = run(1, workers, clients, durationMillis, users);
+        Result triple = run(3, workers, clients, durationMillis, users);
+        System.out.printf("scaling %.2fx%n", triple.throughput() / single.throughput());
+    }
+
+    private static Result run(int size, int workers, int clients, long durationMillis, int users) throws Exception {
+        List<String> nodes = reserveNodes(size);
+        List<ConfigurableApplicationContext> instances = new ArrayList<>();
+        try {
+            for (String node : nodes) {
+                instances.add(startInstance(node, nodes, workers));
+            }
+            Result result = measure(nodes, clients, durationMillis, users);
+            System.out.printf("%-9d %9d %7d %10d %10.0f%n",
+                    size, result.completed(), result.errors(), result.forwarded(), result.throughput());
+            return result;
+        } finally {
+            instances.forEach(ConfigurableApplicationContext::close);
+        }
+    }
+
+    // 클라이언트가 임의의 인스턴스로 조회 요청을 보내고, 초당 성공한 요청 수를 잰다. 실패한 요청은 errors 로 센다.
+    private static Result measure(List<String> nodes, int clients, long durationMillis, int users)
+            throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService executorService = Executors.newFixedThreadPool(clients);
+        CountDownLatch countDownLatch = new CountDownLatch(clients);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong forwarded = new AtomicLong();
+        long deadline = System.currentTimeMillis() + durationMillis;
+        for (int i = 0; i < clients; i++) {
+            executorService.submit(() -> {
+                try {
+                    while (System.currentTimeMillis() < deadline) {
+                        long userId = ThreadLocalRandom.current().nextLong(1, users + 1);
+                        String entry = nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
+                        try {
+                            HttpResponse<Void> response = httpClient.send(
+                                    HttpRequest.newBuilder(URI.create(entry + "/point/" + userId)).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                completed.incrementAndGet();
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                            if (response.headers().firstValue(ClusterForwardingInterceptor.OWNER_HEADER).isPresent()) {
+                                forwarded.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+        return new Result(completed.get(), errors.get(), forwarded.get(), completed.get() * 1000.0 / durationMillis);
+    }
+
+    private static List<String> reserveNodes(int size) throws IOException {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                nodes.add("http://localhost:" + socket.getLocalPort());
+            }
+        }
+        return nodes;
+    }
+
+    private static ConfigurableApplicationContext startInstance(String node, List<String> nodes, int workers) {
+        return new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=" + URI.create(node).getPort(),
+                "--point.async.workers=" + workers,
+                "--point.cluster.enabled=true",
+                "--point.cluster.self=" + node,
+                "--point.cluster.nodes=" + String.join(",", nodes),
+                "--point.cluster.virtual-nodes=" + VIRTUAL_NODES,
+                "--point.expiry.enabled=false",
+                "--logging.level.io.hhplus.tdd=warn");
+    }
+
+    private record Result(long completed, long errors, long forwarded, double throughput) {
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하를 주는 PointController 엔드포인트
+ */
+enum Endpoint {
+    POINT, HISTORIES, CHARGE, USE;
+
+    HttpRequest request(URI baseUri, long userId, LoadTestConfig config) {
+        Duration timeout = config.timeout();
+        return switch (this) {
+            case POINT -> get(baseUri.resolve("/point/" + userId), timeout);
+            case HISTORIES -> get(baseUri.resolve("/point/" + userId + "/histories"), timeout);
+            case CHARGE -> patch(baseUri.resolve("/point/" + userId + "/charge"), config.chargeAmount(), timeout);
+            case USE -> patch(baseUri.resolve("/point/" + userId + "/use"), config.useAmount(), timeout);
+        };
+    }
+
+    private static HttpRequest get(URI uri, Duration timeout) {
+        return HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+    }
+
+    private static HttpRequest patch(URI uri, long amount, Duration timeout) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포(마이크로초)와 응답 상태별 요청 수
+ * - responseTime : 예정 시각부터 응답까지. 서버가 밀려 요청이 늦게 나간 시간도 포함한다. (coordinated omission 보정)
+ * - serviceTime : 실제로 보낸 시각부터 응답까지
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    final Histogram responseTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    final LongAdder ok = new LongAdder();       // 2xx
+    final LongAdder rejected = new LongAdder(); // 4xx (잔액 부족 등 업무상 거절)
+    final LongAdder errors = new LongAdder();   // 5xx, 연결 실패, 제한 시간 초과
+    final LongAdder dropped = new LongAdder();  // maxInFlight 를 넘어 보내지 못한 요청
+
+    // status 가 0 이면 응답을 받지 못한 요청
+    void record(long intendedNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(Math.min(toMicros(completedNanos - intendedNanos), HIGHEST_MICROS));
+        serviceTime.recordValue(Math.min(toMicros(completedNanos - sentNanos), HIGHEST_MICROS));
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status >= 400 && status < 500) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0L));
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.TddApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드에서 동시에 처리 중인 충전/사용 요청 수 비교
+ * - 모드마다 같은 JVM 에 TddApplication 을 띄우고, 서로 다른 유저에게 충전/사용 요청을 N 개 동시에 보낸다.
+ * - 유효 동시 처리 수 = 응답 시간 합 / 전체 소요 시간 (Little's law)
+ *   플랫폼 스레드 모드는 Tomcat 스레드 수(200) 근처에서 멈추고, 가상 스레드 모드는 N 에 가깝게 늘어나야 한다.
+ * - 가상 스레드 모드는 JDK 21 이상에서만 실행한다. (gradle inFlightCapacity -PruntimeJdk=21)
+ * - 실행: gradle inFlightCapacity -PcapacityArgs="200 1000 5000 10000"
+ */
+public final class InFlightCapacityMain {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws Exception {
+        int[] concurrencies = args.length == 0
+                ? new int[]{200, 1_000, 5_000, 10_000}
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        List<ExecutionMode> modes = new ArrayList<>(List.of(ExecutionMode.PLATFORM));
+        if (Runtime.version().feature() >= 21) {
+            modes.add(ExecutionMode.VIRTUAL);
+        } else {
+            System.out.printf("warning: JDK %d 에서는 가상 스레드 모드를 건너뜁니다. (-PruntimeJdk=21)%n",
+                    Runtime.version().feature());
+        }
+
+        System.out.printf("%-9s %7s %10s %7s %12s %10s %10s%n",
+                "mode", "N", "completed", "errors", "makespan(ms)", "mean(ms)", "in-flight");
+        for (ExecutionMode mode : modes) {
+            ConfigurableApplicationContext context = start(mode);
+            try {
+                URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                run(baseUri, 100, 1L); // 워밍업
+                long userOffset = 1_000L;
+                for (int concurrency : concurrencies) {
+                    Result result = run(baseUri, concurrency, userOffset);
+                    userOffset += concurrency;
+                    System.out.printf("%-9s %7d %10d %7d %12.0f %10.1f %10.1f%n", mode, concurrency,
+                            result.completed, result.errors, result.makespanMillis(), result.meanMillis(), result.inFlight());
+                }
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(ExecutionMode mode) {
+        // 연결 수 제한은 두 모드에 같게 두어 스레드 종류만 다르게 한다.
+        return new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=1000",
+                "--spring.threads.virtual.enabled=" + (mode == ExecutionMode.VIRTUAL),
+                "--point.expiry.enabled=false",
+                "--logging.level.io.hhplus.tdd=warn");
+    }
+
+    // 유저 concurrency 명에게 충전(짝수 번째) 또는 사용(홀수 번째) 요청을 한꺼번에 보낸다.
+    private static Result run(URI baseUri, int concurrency, long firstUserId) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+            AtomicLong latencySum = new AtomicLong();
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            List<CompletableFuture<?>> futures = new ArrayList<>(concurrency);
+            long startTime = System.nanoTime();
+            for (int i = 0; i < concurrency; i++) {
+                long userId = firstUserId + i;
+                // 사용 요청은 잔고가 없어 400 으로 끝나지만, 잠금/조회/검증은 충전과 같은 경로를 탄다.
+                String path = "/point/" + userId + (i % 2 == 0 ? "/charge" : "/use");
+                HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("100"))
+                        .build();
+                long sentAt = System.nanoTime();
+                futures.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, throwable) -> {
+                            latencySum.addAndGet(System.nanoTime() - sentAt);
+                            if (throwable != null || response.statusCode() >= 500) {
+                                errors.incrementAndGet();
+                            } else {
+                                completed.incrementAndGet();
+                            }
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .exceptionally(throwable -> null)
+                    .join();
+            long makespanNanos = System.nanoTime() - startTime;
+            return new Result(completed.get(), errors.get(), latencySum.get(), makespanNanos);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private record Result(int completed, int errors, long latencySumNanos, long makespanNanos) {
+
+        double makespanMillis() {
+            return makespanNanos / 1_000_000.0;
+        }
+
+        double meanMillis() {
+            int total = completed + errors;
+            return total == 0 ? 0.0 : latencySumNanos / 1_000_000.0 / total;
+        }
+
+        double inFlight() {
+            return (double) latencySumNanos / makespanNanos;
+        }
+    }
+}
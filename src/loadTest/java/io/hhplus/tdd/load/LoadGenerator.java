@@ -0,0 +1,106 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 설정한 도착률로 요청을 보내는 open-loop 부하 생성기
+ * - 요청마다 예정 시각을 먼저 정하고, 그 시각이 되면 응답을 기다리지 않고 비동기로 보낸다.
+ *   서버가 느려져도 보내는 속도는 줄지 않으며, 응답 시간은 예정 시각부터 잰다.
+ * - 보내는 스레드가 밀려 예정 시각을 지났으면 바로 보내고, 밀린 시간도 응답 시간에 포함된다.
+ */
+final class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final UserIdDistribution userIds;
+    private final Endpoint[] mixTable;
+    private final Semaphore inFlight;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    LoadGenerator(LoadTestConfig config, URI baseUri) {
+        this.config = config;
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.userIds = UserIdDistribution.of(config);
+        this.mixTable = mixTable(config.mix());
+        this.inFlight = new Semaphore(config.maxInFlight());
+        for (Endpoint endpoint : config.mix().keySet()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    /**
+     * 워밍업과 측정 시간 동안 부하를 주고, 측정 구간에 예정된 요청의 결과를 반환한다.
+     */
+    Map<Endpoint, EndpointStats> run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + config.warmup().toNanos();
+        long endNanos = measureStartNanos + config.duration().toNanos();
+
+        double nextNanos = startNanos;
+        while (nextNanos < endNanos) {
+            long intendedNanos = (long) nextNanos;
+            long waitNanos;
+            while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            Endpoint endpoint = mixTable[random.nextInt(mixTable.length)];
+            send(endpoint, userIds.next(random), intendedNanos, intendedNanos >= measureStartNanos);
+            nextNanos += config.arrival() == LoadTestConfig.Arrival.POISSON
+                    ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+        }
+
+        // 남은 응답을 기다린다. 제한 시간이 지나면 HttpClient 가 실패로 끝낸다.
+        if (!inFlight.tryAcquire(config.maxInFlight(), config.timeout().toMillis() + 5_000L, TimeUnit.MILLISECONDS)) {
+            System.err.println("일부 요청이 끝나지 않았습니다: " + (config.maxInFlight() - inFlight.availablePermits()));
+        }
+        return stats;
+    }
+
+    private void send(Endpoint endpoint, long userId, long intendedNanos, boolean measured) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                endpointStats.dropped.increment();
+            }
+            return;
+        }
+        long sentNanos = System.nanoTime();
+        httpClient.sendAsync(endpoint.request(baseUri, userId, config), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long completedNanos = System.nanoTime();
+                    inFlight.release();
+                    if (measured) {
+                        endpointStats.record(intendedNanos, sentNanos, completedNanos, error == null ? response.statusCode() : 0);
+                    }
+                });
+    }
+
+    // 비율만큼 엔드포인트를 채운 표. 표에서 고르게 하나를 뽑는다.
+    private static Endpoint[] mixTable(Map<Endpoint, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("요청 비율의 합이 0 입니다.");
+        }
+        Endpoint[] table = new Endpoint[total];
+        int index = 0;
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[index++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+}
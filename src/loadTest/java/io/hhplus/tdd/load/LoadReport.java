@@ -0,0 +1,77 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커밋 간 비교를 위한 부하 테스트 보고서 (JSON 으로 저장)
+ * - 응답 시간 분포는 HdrHistogram 압축 형식(base64)으로도 담아, Histogram.decodeFromCompressedByteBuffer 로 다른 퍼센타일을 다시 계산할 수 있다.
+ */
+record LoadReport(
+        String label,
+        String commit,
+        String startedAt,
+        LoadTestConfig config,
+        double offeredRate,
+        List<EndpointReport> endpoints
+) {
+    /**
+     * @param throughput 측정 시간 동안 초당 완료된 요청 수
+     * @param responseTime 예정 시각 기준 응답 시간 (coordinated omission 보정)
+     * @param serviceTime 보낸 시각 기준 응답 시간
+     * @param responseHistogram responseTime 분포 (HdrHistogram 압축, base64)
+     */
+    record EndpointReport(
+            Endpoint endpoint,
+            long requests,
+            long ok,
+            long rejected,
+            long errors,
+            long dropped,
+            double throughput,
+            Percentiles responseTime,
+            Percentiles serviceTime,
+            String responseHistogram
+    ) {
+    }
+
+    // 단위: ms
+    record Percentiles(double mean, double p50, double p90, double p99, double p999, double max) {
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(histogram.getMean() / 1_000.0,
+                    millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1_000.0);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+    }
+
+    static LoadReport of(LoadTestConfig config, String commit, String startedAt, Map<Endpoint, EndpointStats> stats) {
+        double seconds = config.duration().toMillis() / 1_000.0;
+        List<EndpointReport> endpoints = new ArrayList<>();
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            long requests = endpointStats.responseTime.getTotalCount();
+            endpoints.add(new EndpointReport(entry.getKey(), requests,
+                    endpointStats.ok.sum(), endpointStats.rejected.sum(), endpointStats.errors.sum(),
+                    endpointStats.dropped.sum(), requests / seconds,
+                    Percentiles.of(endpointStats.responseTime), Percentiles.of(endpointStats.serviceTime),
+                    encode(endpointStats.responseTime)));
+        }
+        return new LoadReport(config.label(), commit, startedAt, config, config.rate(), endpoints);
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
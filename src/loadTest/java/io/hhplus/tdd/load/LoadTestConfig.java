@@ -0,0 +1,104 @@
+package io.hhplus.tdd.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 인자는 key=value 형식이며, 없는 키는 기본값을 쓴다.
+ * @param target 대상 서버 주소. 비어 있으면 같은 JVM 에 TddApplication 을 띄운다. (예: http://localhost:8080)
+ * @param rate 초당 요청 수. 응답을 기다리지 않고 예정 시각마다 보낸다. (open-loop)
+ * @param arrival constant(일정 간격) 또는 poisson(지수 분포 간격)
+ * @param warmup 측정 전 같은 부하를 주는 시간 (기록하지 않는다.)
+ * @param duration 측정 시간
+ * @param users 요청할 유저 ID 범위 (1 ~ users)
+ * @param distribution uniform 또는 zipf (ID 가 작을수록 자주 요청된다.)
+ * @param zipfExponent zipf 분포의 지수
+ * @param mix 엔드포인트별 요청 비율 (예: point:70,histories:10,charge:15,use:5)
+ * @param chargeAmount 충전 요청 금액
+ * @param useAmount 사용 요청 금액
+ * @param maxInFlight 응답을 기다리는 요청 수 상한. 넘으면 보내지 않고 dropped 로 센다.
+ * @param timeout 요청 제한 시간
+ * @param label 보고서 이름
+ * @param reportDir 보고서를 쓰는 디렉터리
+ * @param compare 비교할 이전 보고서(JSON) 경로
+ * @param appArgs 내장 서버에 넘길 설정 (app.point.history.store=sharded → --point.history.store=sharded)
+ */
+record LoadTestConfig(
+        String target,
+        double rate,
+        Arrival arrival,
+        Duration warmup,
+        Duration duration,
+        int users,
+        String distribution,
+        double zipfExponent,
+        Map<Endpoint, Integer> mix,
+        long chargeAmount,
+        long useAmount,
+        int maxInFlight,
+        Duration timeout,
+        String label,
+        String reportDir,
+        String compare,
+        List<String> appArgs
+) {
+    enum Arrival {
+        CONSTANT, POISSON
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index <= 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+            }
+            String key = arg.substring(0, index);
+            if (key.startsWith("app.")) {
+                appArgs.add("--" + arg.substring("app.".length()));
+            } else {
+                values.put(key, arg.substring(index + 1));
+            }
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                values.remove("target"),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                Arrival.valueOf(values.getOrDefault("arrival", "poisson").toUpperCase()),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                values.getOrDefault("distribution", "zipf"),
+                Double.parseDouble(values.getOrDefault("zipfExponent", "1.0")),
+                parseMix(values.getOrDefault("mix", "point:70,histories:10,charge:15,use:5")),
+                Long.parseLong(values.getOrDefault("chargeAmount", "100")),
+                Long.parseLong(values.getOrDefault("useAmount", "50")),
+                Integer.parseInt(values.getOrDefault("maxInFlight", "10000")),
+                DurationStyle.detectAndParse(values.getOrDefault("timeout", "30s")),
+                values.getOrDefault("label", "load"),
+                values.getOrDefault("reportDir", "build/load-test"),
+                values.remove("compare"),
+                List.copyOf(appArgs));
+        List.of("rate", "arrival", "warmup", "duration", "users", "distribution", "zipfExponent", "mix",
+                "chargeAmount", "useAmount", "maxInFlight", "timeout", "label", "reportDir").forEach(values::remove);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션입니다: " + values.keySet());
+        }
+        return config;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":");
+            mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
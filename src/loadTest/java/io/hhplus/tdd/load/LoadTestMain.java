@@ -0,0 +1,133 @@
+package io.hhplus.tdd.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.hhplus.tdd.TddApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PointController 부하 테스트
+ * - target 이 없으면 같은 JVM 에 임의 포트로 TddApplication 을 띄운다. (부하 생성기와 CPU 를 나눠 쓴다.)
+ * - 결과는 reportDir 에 JSON 보고서와 엔드포인트별 .hgrm(퍼센타일 분포)으로 저장하고,
+ *   compare 로 이전 보고서를 주면 엔드포인트별 응답 시간 변화를 출력한다.
+ * - 실행: gradle loadTest -PloadArgs="rate=500 duration=60s distribution=zipf app.point.history.store=sharded"
+ */
+public final class LoadTestMain {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ConfigurableApplicationContext context = null;
+        URI baseUri;
+        if (config.target() == null) {
+            List<String> appArgs = new ArrayList<>(config.appArgs());
+            appArgs.add("--server.port=0");
+            appArgs.add("--logging.level.io.hhplus.tdd=warn");
+            context = new SpringApplicationBuilder(TddApplication.class).run(appArgs.toArray(String[]::new));
+            baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        } else {
+            baseUri = URI.create(config.target());
+        }
+
+        try {
+            String startedAt = LocalDateTime.now().toString();
+            System.out.printf("load test: %s, %.0f req/s (%s), warmup %s, duration %s, %s users (%s)%n",
+                    baseUri, config.rate(), config.arrival(), config.warmup(), config.duration(),
+                    config.users(), config.distribution());
+            Map<Endpoint, EndpointStats> stats = new LoadGenerator(config, baseUri).run();
+
+            LoadReport report = LoadReport.of(config, commit(), startedAt, stats);
+            Path reportFile = write(report, stats);
+            print(report, System.out);
+            System.out.println("report: " + reportFile);
+            if (config.compare() != null) {
+                compare(objectMapper().readValue(Path.of(config.compare()).toFile(), LoadReport.class), report, System.out);
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static Path write(LoadReport report, Map<Endpoint, EndpointStats> stats) throws IOException {
+        Path dir = Path.of(report.config().reportDir());
+        Files.createDirectories(dir);
+        String name = report.label() + "-" + LocalDateTime.now().format(FILE_TIME) + "-" + report.commit();
+        Path reportFile = dir.resolve(name + ".json");
+        objectMapper().writeValue(reportFile.toFile(), report);
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Path hgrm = dir.resolve(name + "-" + entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm), false, StandardCharsets.UTF_8)) {
+                entry.getValue().responseTime.outputPercentileDistribution(out, 1_000.0); // ms
+            }
+        }
+        return reportFile;
+    }
+
+    private static void print(LoadReport report, PrintStream out) {
+        out.printf("%n%-10s %9s %7s %7s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "4xx", "errors",
+                "dropped", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (LoadReport.EndpointReport endpoint : report.endpoints()) {
+            LoadReport.Percentiles p = endpoint.responseTime();
+            out.printf("%-10s %9d %7d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", endpoint.endpoint(),
+                    endpoint.requests(), endpoint.rejected(), endpoint.errors(), endpoint.dropped(), endpoint.throughput(),
+                    p.p50(), p.p90(), p.p99(), p.p999(), p.max());
+        }
+    }
+
+    // 같은 엔드포인트의 p50/p99/p99.9 응답 시간 변화
+    private static void compare(LoadReport baseline, LoadReport current, PrintStream out) {
+        out.printf("%ncompare with %s (%s)%n", baseline.label(), baseline.commit());
+        out.printf("%-10s %22s %22s %22s%n", "endpoint", "p50(ms)", "p99(ms)", "p99.9(ms)");
+        for (LoadReport.EndpointReport endpoint : current.endpoints()) {
+            baseline.endpoints().stream()
+                    .filter(previous -> previous.endpoint() == endpoint.endpoint())
+                    .findFirst()
+                    .ifPresent(previous -> out.printf("%-10s %22s %22s %22s%n", endpoint.endpoint(),
+                            change(previous.responseTime().p50(), endpoint.responseTime().p50()),
+                            change(previous.responseTime().p99(), endpoint.responseTime().p99()),
+                            change(previous.responseTime().p999(), endpoint.responseTime().p999())));
+        }
+    }
+
+    private static String change(double before, double after) {
+        double percent = before == 0.0 ? 0.0 : (after - before) * 100.0 / before;
+        return String.format("%.1f -> %.1f (%+.0f%%)", before, after, percent);
+    }
+
+    private static String commit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 요청할 유저 ID 분포
+ */
+interface UserIdDistribution {
+
+    long next(SplittableRandom random);
+
+    static UserIdDistribution of(LoadTestConfig config) {
+        return switch (config.distribution()) {
+            case "uniform" -> random -> random.nextLong(1, config.users() + 1L);
+            case "zipf" -> new Zipf(config.users(), config.zipfExponent());
+            default -> throw new IllegalArgumentException("알 수 없는 분포입니다: " + config.distribution());
+        };
+    }
+
+    /**
+     * ID k 가 1 / k^exponent 에 비례하는 확률로 뽑히는 분포
+     * - 누적 확률 표를 미리 만들고 이진 탐색으로 뽑는다. (유저 100만 명이면 8MB)
+     */
+    final class Zipf implements UserIdDistribution {
+        private final double[] cumulative;
+
+        Zipf(int users, double exponent) {
+            cumulative = new double[users];
+            double sum = 0.0;
+            for (int k = 1; k <= users; k++) {
+                sum += 1.0 / Math.pow(k, exponent);
+                cumulative[k - 1] = sum;
+            }
+            for (int i = 0; i < users; i++) {
+                cumulative[i] /= sum;
+            }
+            cumulative[users - 1] = 1.0; // 반올림 오차로 범위를 벗어나지 않게 한다.
+        }
+
+        @Override
+        public long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1L;
+        }
+    }
+}
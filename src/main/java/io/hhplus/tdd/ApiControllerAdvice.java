@@ -1,6 +1,17 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.audit.PointAuditRunningException;
+import io.hhplus.tdd.point.cluster.ClusterForwardException;
+import io.hhplus.tdd.point.cluster.ClusterForwardingInterceptor;
+import io.hhplus.tdd.point.cluster.ClusterHandoffException;
+import io.hhplus.tdd.point.cluster.ClusterNotOwnerException;
+import io.hhplus.tdd.point.cluster.ClusterRebalancingException;
+import io.hhplus.tdd.point.replication.ReplicaLagException;
+import io.hhplus.tdd.point.replication.ReplicaReadOnlyException;
+import io.hhplus.tdd.point.service.PointOverloadedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -24,6 +35,66 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         return ResponseEntity.badRequest().body(new ErrorResponse("400", e.getMessage()));
     }
 
+    // 클러스터 모드에서 담당 인스턴스에 요청을 전달하지 못했을 때
+    @ExceptionHandler(ClusterForwardException.class)
+    public ResponseEntity<ErrorResponse> handleClusterForwardException(ClusterForwardException e) {
+        log.error("Cluster forward error: {}", e.getMessage(), e.getCause());
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(new ErrorResponse("502", e.getMessage()));
+    }
+
+    // 다른 인스턴스가 전달한 요청의 유저를 담당하지 않을 때 (421 Misdirected Request)
+    @ExceptionHandler(ClusterNotOwnerException.class)
+    public ResponseEntity<ErrorResponse> handleClusterNotOwnerException(ClusterNotOwnerException e) {
+        log.warn("Cluster not owner: {}", e.getMessage());
+        return ResponseEntity.status(421)
+                .header(ClusterForwardingInterceptor.OWNER_HEADER, e.owner())
+                .body(new ErrorResponse("421", e.getMessage()));
+    }
+
+    // 담당 인스턴스를 옮기는 중인 유저의 요청일 때
+    @ExceptionHandler(ClusterRebalancingException.class)
+    public ResponseEntity<ErrorResponse> handleClusterRebalancingException(ClusterRebalancingException e) {
+        log.info("Cluster rebalancing: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    // 구성원 변경 중 유저 상태를 옮기지 못해 변경을 취소했을 때
+    @ExceptionHandler(ClusterHandoffException.class)
+    public ResponseEntity<ErrorResponse> handleClusterHandoffException(ClusterHandoffException e) {
+        log.error("Cluster handoff error: {}", e.getMessage(), e.getCause());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    // 읽기 전용 복제 인스턴스에 쓰기 요청을 했을 때
+    @ExceptionHandler(ReplicaReadOnlyException.class)
+    public ResponseEntity<ErrorResponse> handleReplicaReadOnlyException(ReplicaReadOnlyException e) {
+        log.warn("Replica read only: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(new ErrorResponse("405", e.getMessage()));
+    }
+
+    // 복제 인스턴스가 요청한 버전까지 따라잡지 못했을 때
+    @ExceptionHandler(ReplicaLagException.class)
+    public ResponseEntity<ErrorResponse> handleReplicaLagException(ReplicaLagException e) {
+        log.warn("Replica lag: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    // 비동기 처리 대기 작업이 가득 찼거나 대기 시간 안에 실행되지 못했을 때
+    @ExceptionHandler(PointOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handlePointOverloadedException(PointOverloadedException e) {
+        log.warn("Point overloaded: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    // 감사가 이미 진행 중일 때
+    @ExceptionHandler(PointAuditRunningException.class)
+    public ResponseEntity<ErrorResponse> handlePointAuditRunningException(PointAuditRunningException e) {
+        log.warn("Point audit running: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse("409", e.getMessage()));
+    }
+
     // PathVariable type mismatch
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException e) {
@@ -0,0 +1,14 @@
+package io.hhplus.tdd;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration(proxyBeanMethods = false)
+public class ExecutionConfig {
+
+    @Bean
+    ExecutionMode executionMode(Environment environment) {
+        return ExecutionMode.of(environment);
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청/서비스 작업을 실행하는 스레드 종류
+ * - VIRTUAL : spring.threads.virtual.enabled=true 이고 JDK 21 이상에서 실행 중일 때 (virtual 프로파일)
+ *   Tomcat 요청 처리와 @Scheduled 작업은 Spring Boot 가, 애플리케이션이 직접 만드는 조회 스레드는 threadFactory 가 가상 스레드로 만든다.
+ * - PLATFORM : 그 외
+ */
+public enum ExecutionMode {
+    PLATFORM, VIRTUAL;
+
+    private static final int VIRTUAL_THREAD_JDK = 21;
+
+    public static ExecutionMode of(Environment environment) {
+        boolean enabled = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        return enabled && Runtime.version().feature() >= VIRTUAL_THREAD_JDK ? VIRTUAL : PLATFORM;
+    }
+
+    // 이름이 prefix + 번호인 스레드를 만든다. 플랫폼 스레드는 데몬 스레드로 만든다.
+    public ThreadFactory threadFactory(String prefix) {
+        if (this == VIRTUAL) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
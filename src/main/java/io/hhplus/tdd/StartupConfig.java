@@ -0,0 +1,61 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointController;
+import io.hhplus.tdd.point.binary.BinaryPointServer;
+import io.hhplus.tdd.point.replication.ReplicationClient;
+import io.hhplus.tdd.point.replication.ReplicationServer;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.hhplus.tdd.point.service.PointService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기동 시간 최적화 설정 (startup 프로파일에서 spring.main.lazy-initialization=true 로 사용)
+ * - 포인트 조회/충전/사용 요청 경로의 빈은 첫 요청이 느려지지 않도록 기동 시점에 만든다.
+ * - @Scheduled 메서드가 있는 빈은 생성되어야 스케줄이 등록되므로 지연 초기화하지 않는다.
+ * - 복제 스트림 서버/클라이언트, 바이너리 프로토콜 서버는 생성 시 포트를 열거나 연결을 시작하므로 지연 초기화하지 않는다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter pointRequestPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                PointController.class,
+                AsyncPointService.class,
+                PointService.class,
+                UserPointRepository.class,
+                PointHistoryRepository.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter replicationBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ReplicationServer.class, ReplicationClient.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter binaryProtocolBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(BinaryPointServer.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethod(beanType);
+    }
+
+    private static boolean hasScheduledMethod(Class<?> beanType) {
+        AtomicBoolean scheduled = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                method -> scheduled.set(true),
+                method -> !scheduled.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return scheduled.get();
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.audit.PointAuditResult;
+import io.hhplus.tdd.point.audit.PointAuditService;
+import io.hhplus.tdd.point.monitor.SlowOperationRecorder;
+import io.hhplus.tdd.point.service.ExportFormat;
+import io.hhplus.tdd.point.service.PointExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 운영/정산용 관리자 API
+ */
+@RestController
+@RequestMapping("/admin/point")
+@RequiredArgsConstructor
+public class PointAdminController {
+
+    private final PointExportService pointExportService;
+    private final SlowOperationRecorder slowOperationRecorder;
+    private final PointAuditService pointAuditService;
+
+    /**
+     * 모든 유저의 잔고와 내역을 요청 시점 기준으로 스트리밍한다.
+     * @param format CSV 또는 NDJSON
+     * @param gzip true 인 경우 gzip 으로 압축해서 내보낸다.
+     */
+    @GetMapping("export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        long asOfMillis = System.currentTimeMillis();
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                pointExportService.export(format, asOfMillis, out);
+                return;
+            }
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 16 * 1024);
+            pointExportService.export(format, asOfMillis, gzipOut);
+            gzipOut.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header("X-Export-As-Of", String.valueOf(asOfMillis));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 임계값(point.slow-operations.threshold)을 넘은 최근 작업의 구간별 소요 시간을 최근 순으로 조회한다.
+     */
+    @GetMapping("slow-operations")
+    public List<SlowOperationRecorder.SlowOperation> slowOperations() {
+        return slowOperationRecorder.recent();
+    }
+
+    /**
+     * 모든 유저의 잔고가 내역 합계와 같은지 감사하고, 끝나면 불일치 유저를 반환한다.
+     * 감사가 이미 진행 중이면 기다리지 않고 409 로 거절한다.
+     */
+    @PostMapping("audit")
+    public PointAuditResult audit() {
+        return pointAuditService.audit();
+    }
+}
@@ -1,49 +1,119 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.point.cluster.ClusterForwardingInterceptor;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.hhplus.tdd.point.service.MultiPointResult;
+import io.hhplus.tdd.point.service.MultiPointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * 포인트 조회/충전/사용 API
+ * - 단건 조회와 충전/사용은 AsyncPointService 에 맡기고 CompletableFuture 를 반환해, 요청 스레드는 처리 완료를 기다리지 않는다.
+ */
 @RestController
 @RequestMapping("/point")
 @RequiredArgsConstructor
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
-    private final PointService pointService;
+    private static final int REJECTION_LOG_SAMPLE = 1024; // 거절 사유별로 1024 건마다 한 번 로그를 남긴다.
+    // 거절 응답은 사유별로 미리 만들어 두고 재사용한다. (ResponseEntity 의 헤더는 읽기 전용)
+    private static final Map<PointRejection, ResponseEntity<ErrorResponse>> REJECTION_RESPONSES = new EnumMap<>(PointRejection.class);
+
+    static {
+        for (PointRejection rejection : PointRejection.values()) {
+            REJECTION_RESPONSES.put(rejection, ResponseEntity.badRequest().body(new ErrorResponse("400", rejection.message())));
+        }
+    }
+
+    private final AsyncPointService asyncPointService;
+    private final MultiPointService multiPointService;
+    private final AtomicLongArray rejectionCounts = new AtomicLongArray(PointRejection.values().length);
 
     @GetMapping("{id}")
-    public UserPoint point(
+    public CompletableFuture<UserPoint> point(
             @PathVariable long id
     ) {
-        return pointService.findPoint(id);
+        return asyncPointService.findPointAsync(id);
+    }
+
+    /**
+     * 여러 유저의 잔고를 한 번에 조회한다. (GET /point?ids=1,2,3)
+     * 제한 시간 안에 조회된 잔고와 ID 별 실패 사유를 함께 반환한다.
+     */
+    @GetMapping
+    public MultiPointResult points(
+            @RequestParam List<Long> ids
+    ) {
+        return multiPointService.findPoints(ids);
+    }
+
+    // ID 가 많아 URL 에 담기 어려운 경우 본문으로 받는다. (POST /point/batch, [1, 2, 3])
+    // 클러스터 모드에서 다른 인스턴스가 담당 ID 묶음을 전달할 때도 쓴다.
+    @PostMapping("batch")
+    public MultiPointResult pointsBatch(
+            @RequestBody List<Long> ids,
+            @RequestHeader(value = ClusterForwardingInterceptor.FORWARDED_HEADER, required = false) String forwardedBy
+    ) {
+        return multiPointService.findPoints(ids, forwardedBy != null);
     }
 
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
+    public CompletableFuture<List<PointHistory>> history(
             @PathVariable long id
     ) {
-        return pointService.findHistory(id);
+        return asyncPointService.findHistoryAsync(id);
+    }
+
+    /**
+     * 최근 내역을 limit 건까지 시간순으로 조회한다. (GET /point/{id}/histories/recent?limit=20)
+     * limit 을 생략하면 보관하는 최대 건수(point.recent-history.capacity)만큼 조회한다.
+     */
+    @GetMapping("{id}/histories/recent")
+    public CompletableFuture<List<PointHistory>> recentHistory(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "${point.recent-history.capacity:20}") int limit
+    ) {
+        return asyncPointService.findRecentHistoryAsync(id, limit);
     }
 
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<ResponseEntity<?>> charge(
             @PathVariable long id,
             @RequestBody long amount
     ) {
         log.debug("charge point: {}, {}", id, amount);
-        return pointService.charge(id, amount);
+        return asyncPointService.chargeAsync(id, amount).thenApply(this::respond);
     }
 
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<ResponseEntity<?>> use(
             @PathVariable long id,
             @RequestBody long amount
     ) {
-        return pointService.use(id, amount);
+        return asyncPointService.useAsync(id, amount).thenApply(this::respond);
+    }
+
+    private ResponseEntity<?> respond(PointResult result) {
+        if (result instanceof UserPoint userPoint) {
+            return ResponseEntity.ok(userPoint);
+        }
+        PointRejection rejection = (PointRejection) result;
+        long count = rejectionCounts.incrementAndGet(rejection.ordinal());
+        if (count % REJECTION_LOG_SAMPLE == 1) {
+            log.warn("point rejected: {}, total: {}", rejection, count);
+        }
+        return REJECTION_RESPONSES.get(rejection);
     }
 }
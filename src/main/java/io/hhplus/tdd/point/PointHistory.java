@@ -14,8 +14,8 @@ public record PointHistory(
         return new PointHistory(System.currentTimeMillis(), userId, amount, type, System.currentTimeMillis());
     }
 
-    // 포인트 히스토리를 저장
-    public void save(PointHistoryRepository pointHistoryRepository) {
-        pointHistoryRepository.save(this.userId, this.amount, this.type, this.updateMillis);
+    // 포인트 히스토리를 저장하고, 저장소가 발급한 ID 가 담긴 히스토리를 반환
+    public PointHistory save(PointHistoryRepository pointHistoryRepository) {
+        return pointHistoryRepository.save(this.userId, this.amount, this.type, this.updateMillis);
     }
 }
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 거절 사유 목록
+ * - 메시지는 고정 문자열이며, 잔액을 포함한 상세 메시지는 예외를 던지는 charge/use 에서만 만든다.
+ */
+public enum PointRejection implements PointResult {
+    INVALID_CHARGE_AMOUNT("충전할 포인트는 0보다 커야 합니다.", false),
+    EXCEEDS_MAX_BALANCE("포인트 최대 잔고는 " + UserPoint.MAX_POINT + "포인트 입니다.", true),
+    INVALID_USE_AMOUNT("사용할 포인트는 0보다 커야 합니다.", false),
+    INSUFFICIENT_BALANCE("포인트 잔액이 부족합니다.", true);
+
+    private final String message;
+    private final boolean withBalance;
+
+    PointRejection(String message, boolean withBalance) {
+        this.message = message;
+        this.withBalance = withBalance;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    // 현재 잔액을 덧붙인 상세 메시지
+    public String describe(long balance) {
+        return withBalance ? message + " 잔액: " + balance : message;
+    }
+}
@@ -0,0 +1,9 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 결과
+ * - 성공하면 반영 후 잔고(UserPoint), 거절되면 미리 정해진 거절 사유(PointRejection)이다.
+ * - 거절이 잦은 요청에서도 예외나 메시지 문자열을 만들지 않기 위해 사용한다.
+ */
+public sealed interface PointResult permits UserPoint, PointRejection {
+}
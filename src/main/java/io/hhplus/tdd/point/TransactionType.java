@@ -5,7 +5,13 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 기간이 지난 충전분 소멸
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE, USE, EXPIRE;
+
+    // 잔고에 더해지는 값. 충전은 더하고 사용/소멸은 뺀다.
+    public long signed(long amount) {
+        return this == CHARGE ? amount : -amount;
+    }
+}
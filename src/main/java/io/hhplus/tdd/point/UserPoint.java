@@ -6,8 +6,8 @@ public record UserPoint(
         long id,
         long point,
         long updateMillis
-) {
-    private static final long MAX_POINT = 1_000_000L; // 최대 포인트 잔고 100만
+) implements PointResult {
+    static final long MAX_POINT = 1_000_000L; // 최대 포인트 잔고 100만
 
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
@@ -15,25 +15,64 @@ public record UserPoint(
 
     // 포인트 충전 및 검증 로직
     public UserPoint charge(long amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("충전할 포인트는 0보다 커야 합니다.");
+        return orThrow(tryCharge(amount));
+    }
+
+    // 포인트 사용 및 검증 로직
+    public UserPoint use(long amount) {
+        return orThrow(tryUse(amount));
+    }
+
+    // 잔고와 관계없는 충전 금액 검증. 유저 락을 잡기 전에 거를 수 있다. 문제가 없으면 null
+    public static PointRejection validateChargeAmount(long amount) {
+        return amount <= 0 ? PointRejection.INVALID_CHARGE_AMOUNT : null;
+    }
+
+    // 잔고와 관계없는 사용 금액 검증. 유저 락을 잡기 전에 거를 수 있다. 문제가 없으면 null
+    public static PointRejection validateUseAmount(long amount) {
+        return amount <= 0 ? PointRejection.INVALID_USE_AMOUNT : null;
+    }
+
+    // 포인트 충전 검증 후 충전된 잔고 또는 거절 사유를 반환한다.
+    public PointResult tryCharge(long amount) {
+        PointRejection invalidAmount = validateChargeAmount(amount);
+        if (invalidAmount != null) {
+            return invalidAmount;
         }
         long totalAmount = this.point + amount;
         if (totalAmount > MAX_POINT) {
-            throw new IllegalArgumentException("포인트 최대 잔고는 " + MAX_POINT + "포인트 입니다. 잔액: " + this.point);
+            return PointRejection.EXCEEDS_MAX_BALANCE;
         }
-        return new UserPoint(this.id, this.point + amount, System.currentTimeMillis());
+        return new UserPoint(this.id, totalAmount, System.currentTimeMillis());
     }
 
-    // 포인트 사용 및 검증 로직
-    public UserPoint use(long amount) {
-        if (amount <= 0) {
-            throw new IllegalArgumentException("사용할 포인트는 0보다 커야 합니다.");
+    // 포인트 사용 검증 후 차감된 잔고 또는 거절 사유를 반환한다.
+    public PointResult tryUse(long amount) {
+        PointRejection invalidAmount = validateUseAmount(amount);
+        if (invalidAmount != null) {
+            return invalidAmount;
         }
         long havePoint = this.point - amount;
         if (havePoint < 0) {
-            throw new IllegalArgumentException("포인트 잔액이 부족합니다. 잔액: " + this.point);
+            return PointRejection.INSUFFICIENT_BALANCE;
         }
         return new UserPoint(this.id, havePoint, System.currentTimeMillis());
     }
+
+    // 기간이 지난 충전분 소멸. 잔고보다 많이 소멸시키지 않는다.
+    public UserPoint expire(long amount) {
+        return new UserPoint(this.id, Math.max(this.point - amount, 0L), System.currentTimeMillis());
+    }
+
+    private UserPoint orThrow(PointResult result) {
+        return orThrow(result, this.point);
+    }
+
+    // 거절 사유면 잔액을 덧붙인 상세 메시지로 예외를 던진다. 서비스의 charge/use 도 같은 메시지를 쓴다.
+    public static UserPoint orThrow(PointResult result, long balance) {
+        if (result instanceof PointRejection rejection) {
+            throw new IllegalArgumentException(rejection.describe(balance));
+        }
+        return (UserPoint) result;
+    }
 }
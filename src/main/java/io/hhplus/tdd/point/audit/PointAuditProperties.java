@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔고-내역 감사 설정
+ * @param cron 정기 감사 일정. "-" 이면 요청 시에만 실행한다.
+ * @param parallelism 감사 작업 스레드 수. 0 이면 CPU 코어 수
+ * @param ioParallelism 잔고와 내역을 동시에 조회하는 최대 작업 수. 조회는 I/O 를 기다리므로 parallelism 보다 크게 둔다.
+ * @param leafSize 더 나누지 않고 한 작업이 처리하는 유저 수
+ * @param p99Budget 감사 중 허용하는 서비스 요청 p99 응답 시간. 넘으면 감사 속도를 줄인다.
+ * @param maxMismatches 결과에 담는 불일치 유저 수 (개수는 모두 센다)
+ */
+@ConfigurationProperties("point.audit")
+public record PointAuditProperties(
+        @DefaultValue("-") String cron,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("32") int ioParallelism,
+        @DefaultValue("256") int leafSize,
+        @DefaultValue("1s") Duration p99Budget,
+        @DefaultValue("1000") int maxMismatches
+) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.audit;
+
+import java.util.List;
+
+/**
+ * 잔고-내역 감사 결과
+ * @param auditedUsers 감사한 유저 수
+ * @param mismatchCount 불일치 유저 수
+ * @param mismatches 불일치 유저 (최대 point.audit.max-mismatches 명)
+ * @param elapsedMillis 소요 시간
+ * @param throttledMillis 서비스 p99 를 지키기 위해 쉰 시간 합계 (작업 스레드 전체)
+ */
+public record PointAuditResult(
+        long auditedUsers,
+        long mismatchCount,
+        List<Mismatch> mismatches,
+        long elapsedMillis,
+        long throttledMillis
+) {
+    /**
+     * 유저 락을 잡고 다시 확인한 뒤에도 잔고와 내역 합계가 다른 유저
+     * @param balance UserPoint.point
+     * @param ledger 내역 합계 (충전 - 사용 - 소멸)
+     */
+    public record Mismatch(long userId, long balance, long ledger) {
+    }
+}
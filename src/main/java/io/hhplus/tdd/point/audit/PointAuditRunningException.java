@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.audit;
+
+/**
+ * 감사가 이미 진행 중이라 새 감사를 시작하지 않은 경우
+ */
+public class PointAuditRunningException extends RuntimeException {
+
+    public PointAuditRunningException() {
+        super("감사가 이미 진행 중입니다.");
+    }
+}
@@ -0,0 +1,230 @@
+package io.hhplus.tdd.point.audit;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 잔고(UserPoint.point)가 내역 합계(충전 - 사용 - 소멸)와 같은지 감사한다.
+ * - 정렬한 유저 ID 를 fork-join 작업으로 나누고, 작업마다 저장소의 sumByUsers 로 범위의 내역 합계를 한 번에 구한다.
+ * - 잔고와 내역은 락 없이 읽으므로 그 사이 처리된 요청 때문에 다를 수 있다. 다른 유저만 유저 락을 잡고 다시 확인한다.
+ * - 잔고는 findById 로 한 번만 조회한다. 조회 API 용 findForRead 는 헤징으로 같은 조회를 더 보낼 수 있어 쓰지 않는다.
+ * - 조회는 ManagedBlocker 로 감싸, 작업 스레드가 I/O 를 기다리는 동안 풀이 스레드를 보충해 다른 범위를 조회하게 한다.
+ *   동시에 조회하는 작업은 ioParallelism 개까지이고, 그 이상은 보충하지 않고 기다린다.
+ * - 작업마다 서비스 요청 p99 를 확인해 예산을 넘으면 쉬는 시간을 늘린다. (PointAuditThrottle)
+ * - 감사는 한 번에 하나만 실행한다. 진행 중에 요청하면 기다리지 않고 PointAuditRunningException 으로 거절한다.
+ * - 정기 감사는 전용 스레드에 넘겨 실행한다. 스케줄러 스레드는 다른 @Scheduled 작업(소멸, 집계 등)과 함께 쓰므로 오래 잡지 않는다.
+ */
+@Slf4j
+@Service
+public class PointAuditService {
+
+    private static final String LIVE_TIMER = "http.server.requests";
+    private static final double P99 = 0.99;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointService pointService;
+    private final PointAuditProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ForkJoinPool pool;
+    private final ExecutorService scheduledExecutor;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public PointAuditService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                             PointService pointService, PointAuditProperties properties, MeterRegistry meterRegistry) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointService = pointService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        int parallelism = properties.parallelism() > 0 ? properties.parallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false,
+                0, Math.max(properties.ioParallelism(), parallelism), 1, saturated -> true, 60, TimeUnit.SECONDS);
+        this.scheduledExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-audit-scheduled");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(cron = "${point.audit.cron:-}")
+    public void scheduledAudit() {
+        scheduledExecutor.execute(() -> {
+            try {
+                audit();
+            } catch (PointAuditRunningException e) {
+                log.info("scheduled point audit skipped: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("scheduled point audit failed", e);
+            }
+        });
+    }
+
+    /**
+     * @throws PointAuditRunningException 감사가 이미 진행 중인 경우
+     */
+    public PointAuditResult audit() {
+        if (!running.tryLock()) {
+            throw new PointAuditRunningException();
+        }
+        try {
+            long startTime = System.nanoTime();
+            long[] userIds = userPointRepository.findAllIds().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(userIds);
+            PointAuditThrottle throttle = new PointAuditThrottle(properties.p99Budget().toMillis(), this::liveP99Millis);
+            Mismatches mismatches = new Mismatches(properties.maxMismatches());
+            pool.invoke(new AuditTask(userIds, 0, userIds.length, throttle, mismatches));
+
+            PointAuditResult result = new PointAuditResult(userIds.length, mismatches.count.get(), mismatches.list(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(throttle.throttledNanos()));
+            if (result.mismatchCount() > 0) {
+                log.warn("point audit found {} mismatches in {} users, time taken: {} ms",
+                        result.mismatchCount(), result.auditedUsers(), result.elapsedMillis());
+            } else {
+                log.info("point audit passed: {} users, time taken: {} ms, throttled: {} ms",
+                        result.auditedUsers(), result.elapsedMillis(), result.throttledMillis());
+            }
+            return result;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduledExecutor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    // 관리자/모니터링 요청을 뺀 서비스 요청 timer 중 가장 큰 p99 (퍼센타일은 application.yml 에서 켠다.)
+    private double liveP99Millis() {
+        double p99 = 0.0;
+        for (Timer timer : meterRegistry.find(LIVE_TIMER).timers()) {
+            String uri = timer.getId().getTag("uri");
+            if (uri == null || uri.startsWith("/admin") || uri.startsWith("/actuator")) {
+                continue;
+            }
+            for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+                if (value.percentile() == P99) {
+                    p99 = Math.max(p99, value.value(TimeUnit.MILLISECONDS));
+                }
+            }
+        }
+        return p99;
+    }
+
+    // 유저 락 안에서 잔고와 내역을 함께 읽어 다시 비교한다.
+    private void recheck(long userId, Mismatches mismatches) {
+        PointSnapshot snapshot = pointService.findSnapshot(userId, Long.MAX_VALUE);
+        long ledger = 0L;
+        for (PointHistory history : snapshot.histories()) {
+            ledger += history.type().signed(history.amount());
+        }
+        if (ledger != snapshot.userPoint().point()) {
+            mismatches.add(new PointAuditResult.Mismatch(userId, snapshot.userPoint().point(), ledger));
+        }
+    }
+
+    private final class AuditTask extends RecursiveTask<Void> implements ForkJoinPool.ManagedBlocker {
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+        private final PointAuditThrottle throttle;
+        private final Mismatches mismatches;
+        private boolean checked;
+
+        AuditTask(long[] userIds, int from, int to, PointAuditThrottle throttle, Mismatches mismatches) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.throttle = throttle;
+            this.mismatches = mismatches;
+        }
+
+        @Override
+        protected Void compute() {
+            if (to - from > properties.leafSize()) {
+                int mid = (from + to) >>> 1;
+                AuditTask left = new AuditTask(userIds, from, mid, throttle, mismatches);
+                left.fork();
+                new AuditTask(userIds, mid, to, throttle, mismatches).compute();
+                left.join();
+                return null;
+            }
+            long startTime = System.nanoTime();
+            try {
+                ForkJoinPool.managedBlock(this);
+                throttle.pace(System.nanoTime() - startTime); // 쉬는 동안은 스레드를 보충하지 않아 감사가 느려진다.
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("감사가 중단되었습니다.", e);
+            }
+            return null;
+        }
+
+        // 범위의 내역 합계와 잔고를 조회해 비교한다.
+        @Override
+        public boolean block() {
+            long[] ledgers = pointHistoryRepository.sumByUsers(userIds, from, to);
+            for (int i = from; i < to; i++) {
+                if (userPointRepository.findById(userIds[i]).point() != ledgers[i - from]) {
+                    recheck(userIds[i], mismatches);
+                }
+            }
+            checked = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return checked;
+        }
+    }
+
+    private static final class Mismatches {
+        private final int limit;
+        private final AtomicLong count = new AtomicLong();
+        private final List<PointAuditResult.Mismatch> list = new ArrayList<>();
+
+        Mismatches(int limit) {
+            this.limit = limit;
+        }
+
+        void add(PointAuditResult.Mismatch mismatch) {
+            if (count.incrementAndGet() > limit) {
+                return;
+            }
+            synchronized (list) {
+                list.add(mismatch);
+            }
+        }
+
+        List<PointAuditResult.Mismatch> list() {
+            synchronized (list) {
+                return List.copyOf(list);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.audit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 서비스 요청 p99 가 예산을 넘지 않도록 감사 작업 사이에 쉬는 시간을 조절한다.
+ * - 작업 시간 대비 쉬는 시간의 비율을 AIMD 로 조절한다. p99 가 예산을 넘으면 비율을 두 배로 늘리고,
+ *   예산 안이면 조금씩 줄인다. (비율 r 이면 작업 스레드가 CPU 를 1 / (1 + r) 만큼만 쓴다.)
+ * - p99 는 CHECK_INTERVAL 마다 한 번만 확인한다.
+ */
+class PointAuditThrottle {
+
+    static final long CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    static final double MIN_RATIO = 0.0;
+    static final double MAX_RATIO = 64.0;
+    static final double STEP = 0.25;
+
+    private final double budgetMillis;
+    private final DoubleSupplier liveP99Millis;
+    private final AtomicLong throttledNanos = new AtomicLong();
+    private volatile double ratio = MIN_RATIO;
+    private volatile long nextCheckNanos = System.nanoTime();
+
+    PointAuditThrottle(double budgetMillis, DoubleSupplier liveP99Millis) {
+        this.budgetMillis = budgetMillis;
+        this.liveP99Millis = liveP99Millis;
+    }
+
+    // 작업 하나를 마친 뒤 호출한다. 작업 시간에 비율을 곱한 만큼 쉰다.
+    void pace(long workNanos) throws InterruptedException {
+        adjust();
+        long pauseNanos = (long) (workNanos * ratio);
+        if (pauseNanos > 0) {
+            throttledNanos.addAndGet(pauseNanos);
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+        }
+    }
+
+    double ratio() {
+        return ratio;
+    }
+
+    long throttledNanos() {
+        return throttledNanos.get();
+    }
+
+    private void adjust() {
+        long now = System.nanoTime();
+        long next = nextCheckNanos;
+        if (now < next) {
+            return;
+        }
+        synchronized (this) {
+            if (nextCheckNanos != next) {
+                return; // 다른 스레드가 이미 확인했다.
+            }
+            nextCheckNanos = now + CHECK_INTERVAL_NANOS;
+            if (liveP99Millis.getAsDouble() > budgetMillis) {
+                ratio = Math.min(Math.max(ratio * 2, STEP), MAX_RATIO);
+            } else {
+                ratio = Math.max(ratio - STEP, MIN_RATIO);
+            }
+        }
+    }
+}
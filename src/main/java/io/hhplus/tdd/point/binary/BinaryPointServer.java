@@ -0,0 +1,354 @@
+package io.hhplus.tdd.point.binary;
+
+import io.hhplus.tdd.point.PointRejection;
+import io.hhplus.tdd.point.PointResult;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.hhplus.tdd.point.service.PointOverloadedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내부 호출용 바이너리 프로토콜 서버 (BinaryProtocol 참고)
+ * - 셀렉터 스레드 하나가 모든 연결의 읽기/쓰기를 맡고, 요청은 AsyncPointService 에 맡겨 셀렉터 스레드가 막히지 않게 한다.
+ *   JSON 변환과 Spring MVC 디스패치 없이 고정 길이 필드를 direct 버퍼에서 바로 읽고 쓴다.
+ * - 응답은 처리가 끝난 스레드가 연결의 쓰기 버퍼에 넣고, 셀렉터 스레드가 모아서 소켓에 쓴다.
+ * - 연결마다 처리 중인 요청(응답을 소켓에 다 쓰기 전까지)은 쓰기 버퍼에 담을 수 있는 수까지만 받는다.
+ *   넘으면 읽기를 멈춰 클라이언트에 TCP 배압을 건다.
+ * - 클러스터 모드에서는 다른 인스턴스가 담당하는 유저의 요청에 NOT_OWNER 로 응답한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.binary", name = "enabled", havingValue = "true")
+public class BinaryPointServer {
+
+    private static final byte NO_REJECTION = BinaryProtocol.NO_REJECTION;
+
+    private final AsyncPointService asyncPointService;
+    private final ClusterMembership clusterMembership; // 클러스터 모드가 아니면 null
+    private final BinaryProtocolProperties properties;
+    private final DirectBufferPool bufferPool;
+    private final int maxInFlight;
+    private final Queue<Connection> pendingFlushes = new ConcurrentLinkedQueue<>();
+    private final Thread selectorThread = new Thread(this::selectLoop, "point-binary-selector");
+    private volatile boolean running = true;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+
+    public BinaryPointServer(AsyncPointService asyncPointService, ObjectProvider<ClusterMembership> clusterMembership,
+                             BinaryProtocolProperties properties) {
+        this.asyncPointService = asyncPointService;
+        this.clusterMembership = clusterMembership.getIfAvailable();
+        this.properties = properties;
+        this.bufferPool = new DirectBufferPool(properties.bufferSize(), properties.maxPooledBuffers());
+        this.maxInFlight = properties.bufferSize() / BinaryProtocol.RESPONSE_FRAME_SIZE;
+        if (maxInFlight == 0 || properties.bufferSize() < BinaryProtocol.REQUEST_FRAME_SIZE) {
+            throw new IllegalArgumentException("point.binary.buffer-size 가 너무 작습니다: " + properties.bufferSize());
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(properties.host(), properties.port()));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        log.info("binary point server started on {}", serverChannel.getLocalAddress());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        selector.wakeup();
+        selectorThread.join(5_000L);
+    }
+
+    // 바인딩된 포트 (port=0 으로 띄운 경우 확인용)
+    public int port() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Connection flushing;
+                while ((flushing = pendingFlushes.poll()) != null) {
+                    flush(flushing);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isWritable()) {
+                        flush(connection);
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        read(connection);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("binary point server stopped: {}", e.getMessage(), e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    close(connection);
+                }
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException e) {
+                log.warn("binary point server close failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(channel, bufferPool.acquire(), bufferPool.acquire());
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        log.debug("binary client connected: {}", channel.getRemoteAddress());
+    }
+
+    private void read(Connection connection) {
+        int read;
+        try {
+            read = connection.channel.read(connection.readBuffer);
+        } catch (IOException e) {
+            log.debug("binary client read failed: {}", e.getMessage());
+            close(connection);
+            return;
+        }
+        if (read < 0) {
+            close(connection);
+            return;
+        }
+        decode(connection);
+    }
+
+    // 읽기 버퍼의 완성된 프레임을 처리 중 요청 한도까지 꺼내 실행한다. 남은 바이트는 다음 읽기와 이어 붙인다.
+    private void decode(Connection connection) {
+        ByteBuffer buffer = connection.readBuffer.flip();
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt(buffer.position());
+            if (length != BinaryProtocol.REQUEST_LENGTH) {
+                log.warn("invalid binary frame length: {}, closing {}", length, connection.channel);
+                close(connection);
+                return;
+            }
+            if (buffer.remaining() < BinaryProtocol.REQUEST_FRAME_SIZE) {
+                break;
+            }
+            if (connection.inFlight.get() >= maxInFlight) {
+                connection.pauseReading();
+                break;
+            }
+            buffer.position(buffer.position() + Integer.BYTES);
+            int requestId = buffer.getInt();
+            byte operation = buffer.get();
+            long userId = buffer.getLong();
+            long amount = buffer.getLong();
+            connection.inFlight.incrementAndGet();
+            dispatch(connection, requestId, operation, userId, amount);
+        }
+        buffer.compact();
+    }
+
+    private void dispatch(Connection connection, int requestId, byte operation, long userId, long amount) {
+        if (operation < 0 || operation >= BinaryProtocol.OPERATIONS.length) {
+            connection.respond(requestId, BinaryProtocol.Status.BAD_REQUEST, NO_REJECTION, userId, 0L, 0L);
+            return;
+        }
+        if (clusterMembership == null) {
+            execute(connection, requestId, operation, userId, amount);
+            return;
+        }
+        // 구성원 변경이 처리 중인 요청을 기다릴 수 있도록 응답할 때까지 enter/exit 로 감싼다.
+        int epoch = clusterMembership.enter();
+        if (!clusterMembership.isLocal(userId)) {
+            clusterMembership.exit(epoch);
+            connection.respond(requestId, BinaryProtocol.Status.NOT_OWNER, NO_REJECTION, userId, 0L, 0L);
+            return;
+        }
+        execute(connection, requestId, operation, userId, amount)
+                .whenComplete((ignored, error) -> clusterMembership.exit(epoch));
+    }
+
+    private CompletableFuture<?> execute(Connection connection, int requestId, byte operation, long userId, long amount) {
+        return switch (BinaryProtocol.OPERATIONS[operation]) {
+            case GET -> asyncPointService.findPointAsync(userId)
+                    .whenComplete((userPoint, error) -> connection.respond(requestId, userId, userPoint, error));
+            case CHARGE -> asyncPointService.chargeAsync(userId, amount)
+                    .whenComplete((result, error) -> connection.respond(requestId, userId, result, error));
+            case USE -> asyncPointService.useAsync(userId, amount)
+                    .whenComplete((result, error) -> connection.respond(requestId, userId, result, error));
+        };
+    }
+
+    // 쓰기 버퍼를 소켓에 쓴다. 다 쓰지 못하면 OP_WRITE 로 이어 쓰고, 처리 중 요청이 줄었으면 멈춘 읽기를 다시 시작한다.
+    private void flush(Connection connection) {
+        if (!connection.key.isValid()) {
+            return;
+        }
+        connection.flushScheduled.set(false);
+        int written;
+        boolean remaining;
+        connection.writeLock.lock();
+        try {
+            ByteBuffer buffer = connection.writeBuffer.flip();
+            try {
+                written = connection.channel.write(buffer);
+            } finally {
+                buffer.compact();
+            }
+            remaining = buffer.position() > 0;
+        } catch (IOException e) {
+            log.debug("binary client write failed: {}", e.getMessage());
+            connection.writeLock.unlock();
+            close(connection);
+            return;
+        }
+        connection.writeLock.unlock();
+
+        connection.flushedBytes += written;
+        connection.inFlight.addAndGet(-(connection.flushedBytes / BinaryProtocol.RESPONSE_FRAME_SIZE));
+        connection.flushedBytes %= BinaryProtocol.RESPONSE_FRAME_SIZE;
+        int interestOps = connection.key.interestOps();
+        connection.key.interestOps(remaining ? interestOps | SelectionKey.OP_WRITE : interestOps & ~SelectionKey.OP_WRITE);
+        if (connection.readingPaused && connection.inFlight.get() < maxInFlight) {
+            connection.resumeReading();
+            decode(connection);
+        }
+    }
+
+    private void close(Connection connection) {
+        if (connection.closed) {
+            return;
+        }
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException ignored) {
+        }
+        bufferPool.release(connection.readBuffer);
+        connection.writeLock.lock();
+        try {
+            // 아직 처리 중인 요청의 응답은 버린다.
+            connection.closed = true;
+            bufferPool.release(connection.writeBuffer);
+        } finally {
+            connection.writeLock.unlock();
+        }
+    }
+
+    /**
+     * 클라이언트 연결 하나
+     * - readBuffer, key, flushedBytes, readingPaused 는 셀렉터 스레드에서만 쓴다.
+     * - writeBuffer 는 응답을 넣는 처리 스레드와 셀렉터 스레드가 writeLock 으로 나눠 쓴다.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer readBuffer;
+        private final ByteBuffer writeBuffer;
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private SelectionKey key;
+        private int flushedBytes;
+        private boolean readingPaused;
+        private volatile boolean closed;
+
+        Connection(SocketChannel channel, ByteBuffer readBuffer, ByteBuffer writeBuffer) {
+            this.channel = channel;
+            this.readBuffer = readBuffer;
+            this.writeBuffer = writeBuffer;
+        }
+
+        void respond(int requestId, long userId, PointResult result, Throwable error) {
+            if (error != null) {
+                if (error instanceof PointOverloadedException) {
+                    respond(requestId, BinaryProtocol.Status.OVERLOADED, NO_REJECTION, userId, 0L, 0L);
+                } else {
+                    log.error("binary request failed: {}", userId, error);
+                    respond(requestId, BinaryProtocol.Status.ERROR, NO_REJECTION, userId, 0L, 0L);
+                }
+            } else if (result instanceof UserPoint userPoint) {
+                respond(requestId, BinaryProtocol.Status.OK, NO_REJECTION, userId, userPoint.point(), userPoint.updateMillis());
+            } else {
+                respond(requestId, BinaryProtocol.Status.REJECTED, (byte) ((PointRejection) result).ordinal(), userId, 0L, 0L);
+            }
+        }
+
+        // 처리 중 요청 수를 쓰기 버퍼 크기로 제한하므로 응답 자리는 항상 남아 있다.
+        void respond(int requestId, BinaryProtocol.Status status, byte rejection, long userId, long point, long updateMillis) {
+            writeLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                writeBuffer.putInt(BinaryProtocol.RESPONSE_LENGTH)
+                        .putInt(requestId)
+                        .put((byte) status.ordinal())
+                        .put(rejection)
+                        .putLong(userId)
+                        .putLong(point)
+                        .putLong(updateMillis);
+            } finally {
+                writeLock.unlock();
+            }
+            if (flushScheduled.compareAndSet(false, true)) {
+                pendingFlushes.offer(this);
+                selector.wakeup();
+            }
+        }
+
+        void pauseReading() {
+            readingPaused = true;
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+
+        void resumeReading() {
+            readingPaused = false;
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        }
+    }
+}
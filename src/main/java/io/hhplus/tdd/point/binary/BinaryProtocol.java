@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.binary;
+
+/**
+ * 내부 호출용 포인트 바이너리 프로토콜 (big-endian, 고정 길이 필드)
+ * - 요청 프레임 25 바이트 : length(int, 21) | requestId(int) | operation(byte) | userId(long) | amount(long)
+ * - 응답 프레임 34 바이트 : length(int, 30) | requestId(int) | status(byte) | rejection(byte) | userId(long) | point(long) | updateMillis(long)
+ * - 한 연결에서 응답을 기다리지 않고 요청을 이어 보낼 수 있다. 응답은 끝난 순서대로 오므로 requestId 로 짝을 맞춘다.
+ *   같은 유저의 충전/사용은 보낸 순서대로 처리된다.
+ * - length 가 위와 다른 프레임을 받으면 연결을 끊는다.
+ */
+public final class BinaryProtocol {
+
+    public static final int REQUEST_LENGTH = 4 + 1 + 8 + 8;
+    public static final int RESPONSE_LENGTH = 4 + 1 + 1 + 8 + 8 + 8;
+    public static final int REQUEST_FRAME_SIZE = 4 + REQUEST_LENGTH;
+    public static final int RESPONSE_FRAME_SIZE = 4 + RESPONSE_LENGTH;
+    public static final byte NO_REJECTION = -1;
+
+    public enum Operation {
+        GET, CHARGE, USE
+    }
+
+    /**
+     * 응답 상태
+     * - REJECTED : 충전/사용 거절. rejection 에 PointRejection 순번이 온다.
+     * - OVERLOADED : 처리 대기 작업이 가득 찼거나 대기 시간을 넘겨 실행하지 않았다.
+     * - NOT_OWNER : 클러스터 모드에서 다른 인스턴스가 담당하는 유저
+     * - BAD_REQUEST : 알 수 없는 operation
+     */
+    public enum Status {
+        OK, REJECTED, OVERLOADED, NOT_OWNER, BAD_REQUEST, ERROR
+    }
+
+    static final Operation[] OPERATIONS = Operation.values();
+    static final Status[] STATUSES = Status.values();
+
+    private BinaryProtocol() {
+    }
+}
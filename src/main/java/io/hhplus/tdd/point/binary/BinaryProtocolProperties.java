@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.binary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 내부 호출용 바이너리 프로토콜 설정
+ * @param enabled 바이너리 프로토콜 서버 사용 여부
+ * @param host 바인딩 주소 (내부 호출 전용이므로 기본은 localhost)
+ * @param port TCP 포트 (0 이면 임의 포트)
+ * @param bufferSize 연결마다 쓰는 읽기/쓰기 direct 버퍼 크기. 연결 하나의 최대 처리 중 요청 수는 bufferSize / 응답 프레임 크기이다.
+ * @param maxPooledBuffers 연결이 끊긴 뒤 재사용하려고 보관하는 최대 버퍼 수
+ */
+@ConfigurationProperties("point.binary")
+public record BinaryProtocolProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("localhost") String host,
+        @DefaultValue("7080") int port,
+        @DefaultValue("65536") int bufferSize,
+        @DefaultValue("256") int maxPooledBuffers
+) {
+}
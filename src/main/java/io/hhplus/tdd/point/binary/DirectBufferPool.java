@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.binary;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * 연결마다 쓰는 direct 버퍼 풀
+ * - direct 버퍼는 할당/해제 비용이 크므로 연결이 끊기면 버리지 않고 다음 연결에 다시 쓴다.
+ * - 셀렉터 스레드에서만 사용하므로 동기화하지 않는다.
+ */
+final class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final ArrayDeque<ByteBuffer> buffers = new ArrayDeque<>();
+
+    DirectBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void release(ByteBuffer buffer) {
+        if (buffers.size() < maxPooled) {
+            buffers.push(buffer.clear());
+        }
+    }
+
+    int pooled() {
+        return buffers.size();
+    }
+}
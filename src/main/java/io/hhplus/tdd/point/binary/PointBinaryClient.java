@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point.binary;
+
+import io.hhplus.tdd.point.PointRejection;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 바이너리 프로토콜 클라이언트 (BinaryProtocol 참고)
+ * - 여러 스레드에서 함께 쓸 수 있으며, 응답을 기다리지 않고 요청을 이어 보낸다. (파이프라이닝)
+ * - 응답은 수신 스레드가 requestId 로 짝을 맞춰 CompletableFuture 를 완료한다.
+ * - 연결이 끊기면 응답을 받지 못한 요청은 모두 IOException 으로 완료되며, 다시 연결하지 않는다.
+ */
+@Slf4j
+public class PointBinaryClient implements AutoCloseable {
+
+    private static final PointRejection[] REJECTIONS = PointRejection.values();
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BinaryProtocol.REQUEST_FRAME_SIZE);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Integer, CompletableFuture<PointReply>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger requestIds = new AtomicInteger();
+    private final Thread receiver;
+    private volatile boolean closed;
+
+    private PointBinaryClient(SocketChannel channel) {
+        this.channel = channel;
+        this.receiver = new Thread(this::receiveLoop, "point-binary-client-" + channel.socket().getLocalPort());
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+    }
+
+    public static PointBinaryClient connect(String host, int port) throws IOException {
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        return new PointBinaryClient(channel);
+    }
+
+    public CompletableFuture<PointReply> get(long userId) {
+        return send(BinaryProtocol.Operation.GET, userId, 0L);
+    }
+
+    public CompletableFuture<PointReply> charge(long userId, long amount) {
+        return send(BinaryProtocol.Operation.CHARGE, userId, amount);
+    }
+
+    public CompletableFuture<PointReply> use(long userId, long amount) {
+        return send(BinaryProtocol.Operation.USE, userId, amount);
+    }
+
+    // 응답을 기다리는 요청 수
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private CompletableFuture<PointReply> send(BinaryProtocol.Operation operation, long userId, long amount) {
+        CompletableFuture<PointReply> future = new CompletableFuture<>();
+        int requestId = requestIds.incrementAndGet();
+        pending.put(requestId, future);
+        writeLock.lock();
+        try {
+            if (closed) {
+                throw new IOException("연결이 닫혔습니다.");
+            }
+            writeBuffer.clear()
+                    .putInt(BinaryProtocol.REQUEST_LENGTH)
+                    .putInt(requestId)
+                    .put((byte) operation.ordinal())
+                    .putLong(userId)
+                    .putLong(amount)
+                    .flip();
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } catch (IOException e) {
+            pending.remove(requestId);
+            future.completeExceptionally(e);
+        } finally {
+            writeLock.unlock();
+        }
+        return future;
+    }
+
+    private void receiveLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        IOException failure = null;
+        try {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.remaining() >= BinaryProtocol.RESPONSE_FRAME_SIZE) {
+                    int length = buffer.getInt();
+                    if (length != BinaryProtocol.RESPONSE_LENGTH) {
+                        throw new IOException("잘못된 응답 프레임 길이: " + length);
+                    }
+                    complete(buffer);
+                }
+                buffer.compact();
+            }
+            failure = new IOException("서버가 연결을 닫았습니다.");
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            if (!closed) {
+                log.warn("binary point connection lost: {}", failure == null ? "unknown" : failure.getMessage());
+            }
+            closed = true;
+            IOException cause = failure != null ? failure : new IOException("연결이 닫혔습니다.");
+            pending.values().forEach(future -> future.completeExceptionally(cause));
+            pending.clear();
+        }
+    }
+
+    private void complete(ByteBuffer buffer) {
+        int requestId = buffer.getInt();
+        BinaryProtocol.Status status = BinaryProtocol.STATUSES[buffer.get()];
+        byte rejection = buffer.get();
+        PointReply reply = new PointReply(status,
+                rejection == BinaryProtocol.NO_REJECTION ? null : REJECTIONS[rejection],
+                buffer.getLong(), buffer.getLong(), buffer.getLong());
+        CompletableFuture<PointReply> future = pending.remove(requestId);
+        if (future != null) {
+            future.complete(reply);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.binary;
+
+import io.hhplus.tdd.point.PointRejection;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 바이너리 프로토콜 응답 하나
+ * @param rejection status 가 REJECTED 일 때의 거절 사유, 그 외에는 null
+ */
+public record PointReply(
+        BinaryProtocol.Status status,
+        PointRejection rejection,
+        long userId,
+        long point,
+        long updateMillis
+) {
+    public boolean isOk() {
+        return status == BinaryProtocol.Status.OK;
+    }
+
+    public UserPoint userPoint() {
+        return new UserPoint(userId, point, updateMillis);
+    }
+}
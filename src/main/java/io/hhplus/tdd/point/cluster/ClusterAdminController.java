@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.service.PointHandoff;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 클러스터 구성원 조회/변경 API
+ * - 구성원 변경은 아무 인스턴스에 한 번 요청하면, 그 인스턴스가 모든 인스턴스에 준비 - 이전 - 확정을 요청한다.
+ * - handoff/* 는 인스턴스끼리 쓰는 API 다. (ClusterHandoff)
+ */
+@RestController
+@RequestMapping("/admin/point/cluster")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterAdminController {
+
+    private final ClusterMembership clusterMembership;
+    private final ClusterHandoff clusterHandoff;
+
+    @GetMapping("nodes")
+    public List<String> nodes() {
+        return clusterMembership.nodes();
+    }
+
+    @PutMapping("nodes")
+    public List<String> updateNodes(
+            @RequestBody List<String> nodes
+    ) {
+        return clusterHandoff.rebalance(nodes);
+    }
+
+    @PostMapping("handoff/prepare")
+    public void prepare(
+            @RequestBody List<String> nodes
+    ) {
+        clusterHandoff.prepare(nodes);
+    }
+
+    @PostMapping("handoff/transfer")
+    public int transfer() {
+        return clusterHandoff.transfer();
+    }
+
+    @PostMapping("handoff/import")
+    public int importUsers(
+            @RequestBody List<PointHandoff> users
+    ) {
+        return clusterHandoff.importUsers(users);
+    }
+
+    @PostMapping("handoff/commit")
+    public void commit() {
+        clusterHandoff.commit();
+    }
+
+    @PostMapping("handoff/abort")
+    public void abort() {
+        clusterHandoff.abort();
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 클러스터 모드에서 /point/{id} 요청을 담당 인스턴스로 전달하도록 설정한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterConfig implements WebMvcConfigurer {
+
+    private final ClusterMembership clusterMembership;
+    private final ClusterProperties clusterProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ClusterForwardingInterceptor(clusterMembership, clusterProperties))
+                .addPathPatterns("/point/**");
+    }
+}
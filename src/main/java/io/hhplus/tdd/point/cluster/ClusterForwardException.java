@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 담당 인스턴스에 요청을 전달하지 못한 경우
+ */
+public class ClusterForwardException extends RuntimeException {
+
+    public ClusterForwardException(String owner, Throwable cause) {
+        super("담당 인스턴스에 요청을 전달하지 못했습니다: " + owner, cause);
+    }
+}
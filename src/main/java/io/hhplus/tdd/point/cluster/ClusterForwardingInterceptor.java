@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.cluster;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다른 인스턴스가 담당하는 유저의 /point/{id} 요청을 담당 인스턴스로 전달하고, 받은 응답을 그대로 돌려준다.
+ * - 전달한 요청에는 FORWARDED_HEADER 를 붙인다. 이 헤더가 있는 요청도 담당 여부를 확인하며,
+ *   구성원 정보가 인스턴스마다 달라 담당이 아니면 다시 전달하지 않고 421 로 거절한다. (요청이 인스턴스 사이를 오가지 않게 한다.)
+ * - 담당이 옮겨지는 중인 유저의 요청은 503 으로 거절한다.
+ * - 로컬에서 처리하는 요청은 ClusterMembership.enter/exit 로 감싸, 구성원 변경이 처리 중인 요청을 기다릴 수 있게 한다.
+ * - 요청/응답 헤더는 연결 단위(hop-by-hop) 헤더를 빼고 모두 옮긴다.
+ */
+@Slf4j
+public class ClusterForwardingInterceptor implements HandlerInterceptor {
+
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+    public static final String OWNER_HEADER = "X-Point-Owner";
+
+    private static final String EPOCH_ATTRIBUTE = ClusterForwardingInterceptor.class.getName() + ".epoch";
+    // 연결 단위 헤더와 HttpClient 가 직접 정하는 헤더
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "te", "trailer", "upgrade",
+            "content-length", "host", "expect");
+
+    private final ClusterMembership membership;
+    private final ClusterProperties properties;
+    private final HttpClient httpClient;
+
+    public ClusterForwardingInterceptor(ClusterMembership membership, ClusterProperties properties) {
+        this.membership = membership;
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.forwardTimeout())
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (request.getAttribute(EPOCH_ATTRIBUTE) != null) {
+            return true; // 비동기 응답을 위한 재진입. 담당 여부는 처음 들어왔을 때 확인했다.
+        }
+        Long userId = userIdOf(request);
+        if (userId == null) {
+            return true;
+        }
+        int epoch = membership.enter();
+        if (membership.isLocal(userId)) {
+            request.setAttribute(EPOCH_ATTRIBUTE, epoch);
+            return true;
+        }
+        membership.exit(epoch);
+        if (membership.isMoving(userId)) {
+            throw new ClusterRebalancingException(userId);
+        }
+        String owner = membership.ownerOf(userId);
+        if (request.getHeader(FORWARDED_HEADER) != null) {
+            throw new ClusterNotOwnerException(userId, owner);
+        }
+        forward(owner, request, response);
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object epoch = request.getAttribute(EPOCH_ATTRIBUTE);
+        if (epoch != null) {
+            request.removeAttribute(EPOCH_ATTRIBUTE);
+            membership.exit((int) epoch);
+        }
+    }
+
+    private void forward(String owner, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("forward {} {} to {}", request.getMethod(), request.getRequestURI(), owner);
+        String query = request.getQueryString();
+        URI uri = URI.create(owner + request.getRequestURI() + (query == null ? "" : "?" + query));
+        HttpRequest.Builder forwardRequest = HttpRequest.newBuilder(uri)
+                .timeout(properties.forwardTimeout())
+                .method(request.getMethod(), HttpRequest.BodyPublishers.ofByteArray(request.getInputStream().readAllBytes()));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (isHopByHop(name) || name.equalsIgnoreCase(FORWARDED_HEADER)) {
+                continue;
+            }
+            for (String value : Collections.list(request.getHeaders(name))) {
+                forwardRequest.header(name, value);
+            }
+        }
+        forwardRequest.header(FORWARDED_HEADER, membership.self());
+
+        HttpResponse<byte[]> forwardResponse;
+        try {
+            forwardResponse = httpClient.send(forwardRequest.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClusterForwardException(owner, e);
+        } catch (IOException e) {
+            throw new ClusterForwardException(owner, e);
+        }
+
+        response.setStatus(forwardResponse.statusCode());
+        for (Map.Entry<String, List<String>> header : forwardResponse.headers().map().entrySet()) {
+            if (isHopByHop(header.getKey()) || header.getKey().startsWith(":")) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
+            }
+        }
+        response.setHeader(OWNER_HEADER, owner);
+        response.getOutputStream().write(forwardResponse.body());
+    }
+
+    private static boolean isHopByHop(String name) {
+        return HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long userIdOf(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || !variables.containsKey("id")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(variables.get("id"));
+        } catch (NumberFormatException e) {
+            return null; // 잘못된 ID 는 현재 인스턴스에서 400 으로 응답한다.
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.service.PointHandoff;
+import io.hhplus.tdd.point.service.PointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클러스터 구성원 변경 시 담당이 바뀌는 유저의 상태를 새 담당 인스턴스로 옮긴다.
+ * - 변경을 요청받은 인스턴스가 기존/새 구성원 모두에 준비 - 이전 - 확정을 차례로 요청한다.
+ *   준비: 담당이 바뀌는 유저의 요청을 막고 처리 중인 요청을 기다린다. (ClusterMembership.prepare)
+ *   이전: 인스턴스마다 지금 담당하는 유저 중 옮겨 갈 유저의 잔고, 내역, 충전분을 새 담당 인스턴스로 보낸다.
+ *   확정: 링을 교체하고, 넘겨준 유저의 충전분을 정리한다.
+ * - 준비나 이전이 실패하면 모두 취소해 기존 구성원을 유지한다. 새 담당 인스턴스에 일부 옮겨진 상태는 다음 이전 때 덮어쓴다.
+ * - 확정은 여러 번 요청해도 결과가 같다. 이전까지 끝났으면 취소하지 않고 모든 인스턴스에 확정을 다시 시도하며,
+ *   끝내 확정하지 못한 인스턴스는 기억해 두었다가 다음 구성원 변경 요청 때 가장 먼저 다시 확정한다.
+ * - 변경은 한 번에 하나만 진행한다. 진행 중에 요청하면 기다리지 않고 거절한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterHandoff {
+
+    static final String PATH = "/admin/point/cluster/handoff/";
+    private static final int BATCH_SIZE = 500; // 한 번에 보내는 유저 수
+    private static final int COMMIT_ATTEMPTS = 3;
+    private static final long COMMIT_RETRY_MILLIS = 200L;
+
+    private final ClusterMembership membership;
+    private final ClusterProperties properties;
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Set<Long> handedOff = ConcurrentHashMap.newKeySet(); // 이번 변경에서 넘겨준 유저
+    private final Set<Long> received = ConcurrentHashMap.newKeySet();  // 이번 변경에서 넘겨받은 유저
+    private final Set<String> uncommitted = ConcurrentHashMap.newKeySet(); // 확정 요청이 실패한 인스턴스
+    private final ReentrantLock rebalancing = new ReentrantLock();
+
+    public ClusterHandoff(ClusterMembership membership, ClusterProperties properties,
+                          PointService pointService, ObjectMapper objectMapper) {
+        this.membership = membership;
+        this.properties = properties;
+        this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.forwardTimeout())
+                .build();
+    }
+
+    /**
+     * 구성원을 nodes 로 바꾸고, 담당이 바뀌는 유저의 상태를 옮긴다.
+     * @throws ClusterHandoffException 다른 변경이 진행 중이거나, 준비나 이전에 실패해 변경을 취소했거나,
+     *                                  확정하지 못한 인스턴스가 남은 경우
+     */
+    public List<String> rebalance(List<String> nodes) {
+        if (!rebalancing.tryLock()) {
+            throw new ClusterHandoffException("다른 구성원 변경이 진행 중입니다.", null);
+        }
+        try {
+            if (!uncommitted.isEmpty()) {
+                commitAll(List.copyOf(uncommitted)); // 지난 변경을 마저 확정해야 새 변경을 시작한다.
+            }
+            return rebalanceLocked(nodes);
+        } finally {
+            rebalancing.unlock();
+        }
+    }
+
+    private List<String> rebalanceLocked(List<String> nodes) {
+        List<String> next = List.copyOf(new LinkedHashSet<>(nodes));
+        Set<String> participants = new LinkedHashSet<>(membership.nodes());
+        participants.addAll(next);
+        int moved = 0;
+        try {
+            for (String node : participants) {
+                send(node, "prepare", next);
+            }
+            for (String node : participants) {
+                moved += send(node, "transfer", null);
+            }
+        } catch (RuntimeException e) {
+            for (String node : participants) {
+                try {
+                    send(node, "abort", null);
+                } catch (RuntimeException abortError) {
+                    log.warn("cluster rebalance abort failed: {} ({})", node, abortError.getMessage());
+                }
+            }
+            throw e instanceof ClusterHandoffException handoffError
+                    ? handoffError
+                    : new ClusterHandoffException("구성원 변경에 실패했습니다: " + e.getMessage(), e);
+        }
+        commitAll(participants);
+        log.info("cluster membership changed to {}, handed off {} users", next, moved);
+        return membership.nodes();
+    }
+
+    // 모든 인스턴스에 확정을 요청한다. 한 인스턴스가 실패해도 멈추지 않고 나머지 인스턴스를 확정한다.
+    private void commitAll(Collection<String> nodes) {
+        List<String> committed = new ArrayList<>();
+        for (String node : nodes) {
+            if (commitWithRetry(node)) {
+                committed.add(node);
+                uncommitted.remove(node);
+            } else {
+                uncommitted.add(node);
+            }
+        }
+        if (!uncommitted.isEmpty()) {
+            throw new ClusterHandoffException("구성원 변경을 확정하지 못한 인스턴스가 있습니다: " + uncommitted
+                    + " (확정한 인스턴스: " + committed + "). 이 인스턴스에 구성원 변경을 다시 요청하면 확정부터 다시 시도합니다.", null);
+        }
+    }
+
+    private boolean commitWithRetry(String node) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                send(node, "commit", null);
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("cluster commit failed: {} ({}/{}): {}", node, attempt, COMMIT_ATTEMPTS, e.getMessage());
+                if (attempt == COMMIT_ATTEMPTS) {
+                    return false;
+                }
+            }
+            try {
+                Thread.sleep(COMMIT_RETRY_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    public void prepare(List<String> nodes) {
+        handedOff.clear();
+        received.clear();
+        membership.prepare(nodes, properties.handoffTimeout());
+    }
+
+    // 지금 담당하는 유저 중 담당이 바뀌는 유저를 새 담당 인스턴스로 보내고, 보낸 유저 수를 반환한다.
+    public int transfer() {
+        String self = membership.self();
+        Map<String, List<Long>> outgoing = new HashMap<>();
+        for (Long userId : pointService.findAllUserIds()) {
+            if (self.equals(membership.ownerOf(userId)) && membership.isMoving(userId)) {
+                outgoing.computeIfAbsent(membership.nextOwnerOf(userId), k -> new ArrayList<>()).add(userId);
+            }
+        }
+        int moved = 0;
+        for (Map.Entry<String, List<Long>> entry : outgoing.entrySet()) {
+            List<Long> userIds = entry.getValue();
+            for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+                List<PointHandoff> batch = new ArrayList<>(BATCH_SIZE);
+                for (Long userId : userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size()))) {
+                    batch.add(pointService.exportUser(userId));
+                }
+                send(entry.getKey(), "import", batch);
+                batch.forEach(user -> handedOff.add(user.userId()));
+            }
+            moved += userIds.size();
+        }
+        log.info("handed off {} users to {}", moved, outgoing.keySet());
+        return moved;
+    }
+
+    public int importUsers(List<PointHandoff> users) {
+        for (PointHandoff user : users) {
+            pointService.importUser(user);
+            received.add(user.userId());
+        }
+        return users.size();
+    }
+
+    public void commit() {
+        membership.commit();
+        handedOff.forEach(pointService::releaseUser);
+        handedOff.clear();
+        received.clear();
+    }
+
+    public void abort() {
+        membership.abort();
+        received.forEach(pointService::releaseUser); // 담당하지 않게 된 유저의 충전분이 이 인스턴스에서 소멸되지 않게 한다.
+        handedOff.clear();
+        received.clear();
+    }
+
+    // 현재 인스턴스면 바로 호출하고, 다른 인스턴스면 관리자 API 로 요청한다.
+    @SuppressWarnings("unchecked")
+    private int send(String node, String phase, Object body) {
+        if (node.equals(membership.self())) {
+            switch (phase) {
+                case "prepare" -> prepare((List<String>) body);
+                case "transfer" -> {
+                    return transfer();
+                }
+                case "import" -> {
+                    return importUsers((List<PointHandoff>) body);
+                }
+                case "commit" -> commit();
+                case "abort" -> abort();
+                default -> throw new IllegalArgumentException(phase);
+            }
+            return 0;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(node + PATH + phase))
+                    .timeout(properties.handoffTimeout().plus(properties.forwardTimeout()))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new ClusterHandoffException(
+                        node + " 의 " + phase + " 요청이 실패했습니다: " + response.statusCode() + " " + response.body(), null);
+            }
+            return response.body().isBlank() ? 0 : Integer.parseInt(response.body().trim());
+        } catch (IOException e) {
+            throw new ClusterHandoffException(node + " 에 " + phase + " 요청을 보내지 못했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClusterHandoffException(node + " 의 " + phase + " 요청이 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 구성원 변경 중 유저 상태를 옮기지 못한 경우. 변경은 취소되고 기존 구성원이 유지된다.
+ */
+public class ClusterHandoffException extends RuntimeException {
+
+    public ClusterHandoffException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,170 @@
+package io.hhplus.tdd.point.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클러스터 구성원과 유저 담당 인스턴스 정보
+ * - 구성원은 point.cluster.nodes 설정으로 시작한다.
+ * - 구성원 변경은 준비(prepare) - 상태 이전 - 확정(commit) 순서로 진행된다. (ClusterHandoff)
+ *   준비 중에는 담당이 바뀌는 유저를 어느 인스턴스에서도 처리하지 않고, 확정할 때 해시 링을 교체한다.
+ * - 로컬에서 처리하는 요청은 enter/exit 로 감싼다. 준비 단계는 그 전에 들어온 요청이 모두 끝나기를 기다린다.
+ * - 링과 epoch 는 stateLock 안에서 짧게 바꾸고, 요청이 끝나기를 기다리는 동안에는 락을 잡지 않는다.
+ *   (가상 스레드 모드에서 모니터를 잡은 채 기다리면 캐리어 스레드가 묶인다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterMembership {
+
+    private static final int REBALANCE_SAMPLES = 10_000; // 담당 변경 비율을 추정할 표본 유저 수
+    private static final long DRAIN_POLL_MILLIS = 5L;
+
+    private final ClusterProperties properties;
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private volatile ConsistentHashRing ring;
+    private volatile ConsistentHashRing pending; // 준비 중인 구성원의 링. 변경 중이 아니면 null
+
+    // 준비 단계마다 epoch 를 바꾸고, 이전 epoch 로 들어온 요청 수가 0 이 되기를 기다린다.
+    private final AtomicInteger[] inFlight = {new AtomicInteger(), new AtomicInteger()};
+    private volatile int epoch;
+
+    public ClusterMembership(ClusterProperties properties) {
+        this.properties = properties;
+        if (!properties.nodes().contains(properties.self())) {
+            throw new IllegalArgumentException("클러스터 노드 목록에 현재 인스턴스가 없습니다: " + properties.self());
+        }
+        this.ring = createRing(properties.nodes());
+    }
+
+    public String self() {
+        return properties.self();
+    }
+
+    public List<String> nodes() {
+        return ring.nodes();
+    }
+
+    public String ownerOf(long userId) {
+        return ring.ownerOf(userId);
+    }
+
+    // 준비 중인 구성원 기준의 담당 인스턴스. 변경 중이 아니면 현재 담당 인스턴스
+    public String nextOwnerOf(long userId) {
+        ConsistentHashRing next = pending;
+        return next == null ? ring.ownerOf(userId) : next.ownerOf(userId);
+    }
+
+    // 구성원 변경으로 담당 인스턴스가 바뀌는 중인 유저인지 여부
+    public boolean isMoving(long userId) {
+        ConsistentHashRing next = pending;
+        return next != null && !next.ownerOf(userId).equals(ring.ownerOf(userId));
+    }
+
+    // 이 인스턴스가 지금 처리할 수 있는 유저인지 여부
+    public boolean isLocal(long userId) {
+        return properties.self().equals(ring.ownerOf(userId)) && !isMoving(userId);
+    }
+
+    // 로컬에서 처리할 요청을 기록하고, exit 에 넘길 epoch 를 반환한다. 기록한 뒤에 isLocal 을 확인해야 한다.
+    public int enter() {
+        while (true) {
+            int current = epoch;
+            inFlight[current].incrementAndGet();
+            if (current == epoch) {
+                return current;
+            }
+            inFlight[current].decrementAndGet(); // 그 사이 준비 단계가 시작됐다. 새 epoch 로 다시 기록한다.
+        }
+    }
+
+    public void exit(int enteredEpoch) {
+        inFlight[enteredEpoch].decrementAndGet();
+    }
+
+    /**
+     * 새 구성원으로 변경을 준비한다. 담당이 바뀌는 유저의 새 요청을 막고, 이미 들어온 요청이 끝나기를 기다린다.
+     * @throws ClusterHandoffException 다른 변경이 진행 중이거나 대기 시간 안에 요청이 끝나지 않은 경우
+     */
+    public void prepare(List<String> nodes, Duration timeout) {
+        ConsistentHashRing next = createRing(nodes);
+        int previous;
+        stateLock.lock();
+        try {
+            if (pending != null && !pending.nodes().equals(next.nodes())) {
+                throw new ClusterHandoffException("다른 구성원 변경이 진행 중입니다: " + pending.nodes(), null);
+            }
+            if (pending == null) {
+                pending = next;
+                previous = epoch;
+                epoch = 1 - previous;
+            } else {
+                previous = 1 - epoch; // 같은 변경의 준비를 다시 요청받았다. epoch 는 이미 바뀌었다.
+            }
+        } finally {
+            stateLock.unlock();
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (inFlight[previous].get() > 0) {
+            if (System.nanoTime() > deadline) {
+                throw new ClusterHandoffException("진행 중인 요청이 끝나지 않았습니다: " + inFlight[previous].get() + "건", null);
+            }
+            try {
+                Thread.sleep(DRAIN_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClusterHandoffException("구성원 변경 준비가 중단되었습니다.", e);
+            }
+        }
+    }
+
+    // 준비한 구성원으로 링을 교체하고, 담당이 바뀐 유저 비율을 기록한다. 이미 확정했으면 아무것도 하지 않는다.
+    public void commit() {
+        ConsistentHashRing previous;
+        ConsistentHashRing next;
+        stateLock.lock();
+        try {
+            next = pending;
+            if (next == null) {
+                return;
+            }
+            previous = ring;
+            ring = next;
+            pending = null;
+        } finally {
+            stateLock.unlock();
+        }
+        int moved = 0;
+        for (long userId = 1; userId <= REBALANCE_SAMPLES; userId++) {
+            if (!previous.ownerOf(userId).equals(next.ownerOf(userId))) {
+                moved++;
+            }
+        }
+        log.info("cluster rebalanced: {} -> {}, moved users: {}%",
+                previous.nodes(), next.nodes(), moved * 100.0 / REBALANCE_SAMPLES);
+    }
+
+    // 준비한 변경을 취소하고 기존 구성원을 유지한다.
+    public void abort() {
+        stateLock.lock();
+        try {
+            if (pending != null) {
+                log.warn("cluster rebalance aborted: {} -> {}", ring.nodes(), pending.nodes());
+                pending = null;
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    // 제외되는 인스턴스도 새 링을 알아야 담당 유저를 넘겨줄 수 있으므로, 현재 인스턴스가 없는 목록도 허용한다.
+    private ConsistentHashRing createRing(List<String> nodes) {
+        return new ConsistentHashRing(nodes, properties.virtualNodes());
+    }
+}
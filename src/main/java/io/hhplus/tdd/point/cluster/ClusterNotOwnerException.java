@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 다른 인스턴스가 전달한 요청의 유저를 이 인스턴스가 담당하지 않는 경우 (구성원 정보가 인스턴스마다 다를 때)
+ */
+public class ClusterNotOwnerException extends RuntimeException {
+
+    private final String owner;
+
+    public ClusterNotOwnerException(long userId, String owner) {
+        super("이 인스턴스가 담당하지 않는 유저입니다: " + userId + " (담당: " + owner + ")");
+        this.owner = owner;
+    }
+
+    public String owner() {
+        return owner;
+    }
+}
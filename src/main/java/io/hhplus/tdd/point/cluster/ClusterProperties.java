@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 다중 인스턴스 클러스터 설정
+ * @param enabled 클러스터 모드 사용 여부
+ * @param self 이 인스턴스의 주소 (nodes 중 하나와 같아야 한다.)
+ * @param nodes 클러스터를 구성하는 인스턴스 주소 목록 (예: http://10.0.0.1:8080)
+ * @param virtualNodes 인스턴스 하나가 해시 링에 차지하는 가상 노드 수
+ * @param forwardTimeout 담당 인스턴스로 요청을 전달할 때의 응답 대기 시간
+ * @param handoffTimeout 구성원 변경 시 진행 중인 요청이 끝나기를 기다리거나 유저 상태를 옮길 때의 최대 대기 시간
+ */
+@ConfigurationProperties("point.cluster")
+public record ClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        String self,
+        @DefaultValue List<String> nodes,
+        @DefaultValue("160") int virtualNodes,
+        @DefaultValue("5s") Duration forwardTimeout,
+        @DefaultValue("30s") Duration handoffTimeout
+) {
+}
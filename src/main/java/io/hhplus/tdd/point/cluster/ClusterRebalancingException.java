@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 구성원 변경으로 담당 인스턴스를 옮기는 중인 유저의 요청
+ */
+public class ClusterRebalancingException extends RuntimeException {
+
+    public ClusterRebalancingException(long userId) {
+        super("담당 인스턴스를 옮기는 중인 유저입니다. 잠시 후 다시 시도해 주세요: " + userId);
+    }
+}
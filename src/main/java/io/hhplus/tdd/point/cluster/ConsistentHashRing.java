@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 유저 ID 를 담당 인스턴스에 배정하는 불변 consistent-hash 링
+ * - 인스턴스마다 가상 노드를 여러 개 두어 담당 범위를 고르게 나눈다.
+ * - 인스턴스가 추가/제거되어도 해당 인스턴스 몫의 유저만 담당이 바뀐다.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;    // 정렬된 가상 노드 해시 값
+    private final String[] owners;  // points 와 같은 위치의 인스턴스
+    private final List<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("클러스터 노드가 비어 있습니다.");
+        }
+        this.nodes = List.copyOf(nodes);
+        int size = this.nodes.size() * virtualNodes;
+        long[][] entries = new long[size][];
+        int i = 0;
+        for (int n = 0; n < this.nodes.size(); n++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                entries[i++] = new long[]{hash(this.nodes.get(n) + "#" + v), n};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[size];
+        this.owners = new String[size];
+        for (int k = 0; k < size; k++) {
+            points[k] = entries[k][0];
+            owners[k] = this.nodes.get((int) entries[k][1]);
+        }
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    // 유저 ID 의 해시 값 이후 처음 만나는 가상 노드의 인스턴스가 담당한다.
+    public String ownerOf(long userId) {
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L; // FNV-1a
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 소멸 설정
+ * @param enabled 충전분(lot) 추적 및 소멸 여부. 기본값은 꺼짐이며, 켜면 기간이 지난 충전분이 잔고에서 차감된다.
+ * @param period 충전 후 소멸까지의 기간
+ * @param tick 타이밍 휠 한 칸의 시간. 같은 칸에 만료되는 한 유저의 충전분은 한 번에 소멸된다.
+ */
+@ConfigurationProperties("point.expiry")
+public record PointExpiryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("365d") Duration period,
+        @DefaultValue("1s") Duration tick
+) {
+}
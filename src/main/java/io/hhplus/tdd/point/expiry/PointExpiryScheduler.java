@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.service.PointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 타이밍 휠을 tick 마다 돌려 만료된 충전분을 소멸시킨다.
+ * - 같은 tick 에 만료된 한 유저의 lot 들은 PointService.expire 한 번으로 소멸된다.
+ * - 클러스터 모드에서는 담당을 옮기는 중인 유저를 건너뛴다. 남은 lot 은 새 담당 인스턴스로 옮겨져 그곳에서 소멸된다.
+ * - 소멸하지 못하고 남은 만료 lot(소멸 실패, 건너뛴 유저, 잔고보다 큰 충전분)은 다음 tick 에 다시 소멸을 시도한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.expiry", name = "enabled", havingValue = "true")
+public class PointExpiryScheduler {
+
+    private final PointLotLedger pointLotLedger;
+    private final PointService pointService;
+    private final ClusterMembership clusterMembership; // 클러스터 모드가 아니면 null
+
+    public PointExpiryScheduler(PointLotLedger pointLotLedger, PointService pointService,
+                                ObjectProvider<ClusterMembership> clusterMembership) {
+        this.pointLotLedger = pointLotLedger;
+        this.pointService = pointService;
+        this.clusterMembership = clusterMembership.getIfAvailable();
+    }
+
+    @Scheduled(fixedRateString = "${point.expiry.tick:PT1S}")
+    public void expire() {
+        long nowMillis = System.currentTimeMillis();
+        Set<Long> userIds = pointLotLedger.advance(nowMillis);
+        for (long userId : userIds) {
+            int epoch = clusterMembership == null ? 0 : clusterMembership.enter();
+            try {
+                if (clusterMembership == null || clusterMembership.isLocal(userId)) {
+                    pointService.expire(userId, nowMillis);
+                }
+            } catch (RuntimeException e) {
+                log.error("point expiry failed: {}", userId, e);
+            } finally {
+                if (clusterMembership != null) {
+                    clusterMembership.exit(epoch);
+                }
+            }
+        }
+        int rescheduled = pointLotLedger.rescheduleOverdue();
+        if (!userIds.isEmpty()) {
+            log.info("points expired: {} users, rescheduled lots: {}, time taken: {} ms",
+                    userIds.size(), rescheduled, System.currentTimeMillis() - nowMillis);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.expiry;
+
+/**
+ * 한 번의 충전으로 생긴 포인트 묶음(lot)
+ * - 유저별 FIFO 큐의 원소이면서 타이밍 휠 칸의 이중 연결 리스트 노드다. (lot 마다 별도 타이머 객체를 만들지 않는다.)
+ * - 남은 금액과 released 는 유저 락 안에서만 바뀌고, prev/next 는 휠을 돌리는 스레드만 바꾼다.
+ */
+final class PointLot {
+
+    final long userId;
+    final long expireMillis;
+    int amount; // 남은 금액. 충전 금액은 최대 잔고(100만) 이하라 int 로 충분하다.
+    volatile boolean released; // 담당이 옮겨져 원장에서 지워진 lot
+    PointLot prev; // 휠에 걸려 있지 않으면 null
+    PointLot next;
+
+    PointLot(long userId, int amount, long expireMillis) {
+        this.userId = userId;
+        this.amount = amount;
+        this.expireMillis = expireMillis;
+    }
+}
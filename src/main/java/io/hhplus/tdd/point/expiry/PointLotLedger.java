@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 충전분(lot) 원장
+ * - 충전하면 lot 을 큐 끝에 붙이고 타이밍 휠에 만료 시각을 등록한다.
+ * - 사용/소멸은 오래된 lot 부터 차감하고(FIFO), 다 쓰인 lot 은 휠에서 뗀다.
+ * - 만료되어 휠에서 꺼낸 lot 이 소멸 후에도 남아 있으면(소멸 실패, 다른 인스턴스 담당, 잔고보다 큰 충전분) 다음 tick 에 다시 등록한다.
+ * - PointCommittedEvent 는 유저 락 안에서 발행되므로, 유저별 큐는 유저 락으로 보호된다.
+ * - 애플리케이션이 떠 있는 동안의 충전분만 추적한다.
+ */
+@Component
+public class PointLotLedger {
+
+    private final PointExpiryProperties properties;
+    private final TimingWheel timingWheel;
+    private final Map<Long, ArrayDeque<PointLot>> lots = new ConcurrentHashMap<>();
+    private final List<PointLot> overdue = new ArrayList<>(); // advance 로 꺼낸, 남은 금액이 있던 lot. 휠을 돌리는 스레드만 쓴다.
+
+    public PointLotLedger(PointExpiryProperties properties) {
+        this.properties = properties;
+        this.timingWheel = new TimingWheel(properties.tick().toMillis(), System.currentTimeMillis());
+    }
+
+    @EventListener
+    public void onCommitted(PointCommittedEvent event) {
+        if (!properties.enabled()) {
+            return;
+        }
+        switch (event.type()) {
+            case CHARGE -> charge(event.userId(), event.amount(), event.pointHistory().updateMillis());
+            case USE, EXPIRE -> consume(event.userId(), event.amount());
+        }
+    }
+
+    // 만료 시각이 지난 lot 의 남은 금액 합계. 유저 락 안에서 호출한다.
+    public long expirableAmount(long userId, long nowMillis) {
+        ArrayDeque<PointLot> userLots = lots.get(userId);
+        if (userLots == null) {
+            return 0L;
+        }
+        long amount = 0L;
+        for (PointLot lot : userLots) {
+            if (lot.expireMillis > nowMillis) {
+                break;
+            }
+            amount += lot.amount;
+        }
+        return amount;
+    }
+
+    // nowMillis 까지 만료된 lot 을 휠에서 꺼내고, 소멸시킬 포인트가 남은 유저 ID 를 반환한다.
+    // 한 번에 처리하는 tick 수는 제한되며, 밀린 tick 은 다음 호출에서 이어서 처리한다.
+    public Set<Long> advance(long nowMillis) {
+        Set<Long> userIds = new HashSet<>();
+        timingWheel.advance(nowMillis, lot -> {
+            if (lot.amount > 0) {
+                userIds.add(lot.userId);
+                overdue.add(lot);
+            }
+        });
+        return userIds;
+    }
+
+    /**
+     * advance 로 꺼낸 lot 중 소멸되지 않고 남은 lot 을 다음 tick 에 다시 만료되도록 휠에 등록한다.
+     * advance 를 부른 스레드가 유저들의 소멸을 마친 뒤 호출한다.
+     * @return 다시 등록한 lot 수
+     */
+    public int rescheduleOverdue() {
+        int rescheduled = 0;
+        for (PointLot lot : overdue) {
+            // 유저 락 없이 읽는다. 그 사이 다 쓰인 lot 은 취소 명령이 뒤따르고, 남은 금액이 0 인 lot 은 만료돼도 무시된다.
+            if (lot.amount > 0 && !lot.released) {
+                timingWheel.add(lot);
+                rescheduled++;
+            }
+        }
+        overdue.clear();
+        return rescheduled;
+    }
+
+    // 유저의 남은 lot 을 오래된 순서로 반환한다. 유저 락 안에서 호출한다.
+    public List<LotSnapshot> snapshot(long userId) {
+        ArrayDeque<PointLot> userLots = lots.get(userId);
+        if (userLots == null) {
+            return List.of();
+        }
+        List<LotSnapshot> snapshots = new ArrayList<>(userLots.size());
+        for (PointLot lot : userLots) {
+            snapshots.add(new LotSnapshot(lot.amount, lot.expireMillis));
+        }
+        return snapshots;
+    }
+
+    // 유저의 lot 을 모두 휠에서 떼고 지운다. 담당이 다른 인스턴스로 옮겨졌을 때 유저 락 안에서 호출한다.
+    public void release(long userId) {
+        ArrayDeque<PointLot> userLots = lots.remove(userId);
+        if (userLots == null) {
+            return;
+        }
+        for (PointLot lot : userLots) {
+            lot.released = true;
+            timingWheel.cancel(lot);
+        }
+    }
+
+    // 다른 인스턴스에서 옮겨 온 lot 으로 유저의 lot 을 바꾼다. 만료 시각이 지난 lot 은 다음 tick 에 소멸된다.
+    public void restore(long userId, List<LotSnapshot> snapshots) {
+        release(userId);
+        if (!properties.enabled() || snapshots.isEmpty()) {
+            return;
+        }
+        ArrayDeque<PointLot> userLots = new ArrayDeque<>(snapshots.size());
+        for (LotSnapshot snapshot : snapshots) {
+            PointLot lot = new PointLot(userId, snapshot.amount(), snapshot.expireMillis());
+            userLots.addLast(lot);
+            timingWheel.add(lot);
+        }
+        lots.put(userId, userLots);
+    }
+
+    // 휠에 등록된(만료 전이면서 남은 금액이 있는) lot 수
+    public long scheduledLots() {
+        return timingWheel.size();
+    }
+
+    private void charge(long userId, long amount, long chargedMillis) {
+        PointLot lot = new PointLot(userId, Math.toIntExact(amount), chargedMillis + properties.period().toMillis());
+        lots.computeIfAbsent(userId, k -> new ArrayDeque<>()).addLast(lot);
+        timingWheel.add(lot);
+    }
+
+    private void consume(long userId, long amount) {
+        ArrayDeque<PointLot> userLots = lots.get(userId);
+        if (userLots == null) {
+            return; // 추적하기 전에 충전된 포인트
+        }
+        long remaining = amount;
+        while (remaining > 0 && !userLots.isEmpty()) {
+            PointLot lot = userLots.peekFirst();
+            long used = Math.min(lot.amount, remaining);
+            lot.amount -= (int) used;
+            remaining -= used;
+            if (lot.amount == 0) {
+                userLots.pollFirst();
+                timingWheel.cancel(lot);
+            }
+        }
+        if (userLots.isEmpty()) {
+            lots.remove(userId);
+        }
+    }
+
+    /**
+     * 다른 인스턴스로 옮길 때 쓰는 lot 의 값
+     * @param amount 남은 금액
+     * @param expireMillis 만료 시각
+     */
+    public record LotSnapshot(
+            int amount,
+            long expireMillis
+    ) {
+    }
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.expiry;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * lot 의 만료 시각을 관리하는 계층형 타이밍 휠
+ * - 64칸짜리 휠 5단으로 64^5 tick 까지 표현한다. (tick 1초 기준 약 34년)
+ * - 등록/취소는 칸의 연결 리스트에 붙이고 떼는 O(1) 이며, 상위 단의 lot 은 하위 단으로 최대 4번 옮겨진 뒤 만료된다.
+ * - 상위 단 칸은 해당 칸의 시작 tick 에 하위 단으로 내려보내고(cascade), 0단 칸은 그 tick 에 만료시킨다.
+ * - add/cancel 은 유저 락 안에서 불리므로 휠 락을 잡지 않고 명령 큐(다중 생산자, 단일 소비자)에 넣기만 한다.
+ *   휠 구조는 advance 를 부르는 스레드만 바꾸며, tick 을 처리하기 전에 쌓인 명령을 들어온 순서대로 반영한다.
+ *   한 lot 의 add 와 cancel 은 같은 유저 락 안에서 차례로 들어오므로 순서가 뒤바뀌지 않는다.
+ * - advance 한 번에 처리하는 tick 은 MAX_TICKS_PER_ADVANCE 로 제한한다. 밀린 tick 은 다음 호출에서 이어서 처리한다.
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 5;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+    static final int MAX_TICKS_PER_ADVANCE = 1 << 14;
+
+    private final long tickMillis;
+    private final PointLot[] heads = new PointLot[LEVELS * SLOTS]; // 칸마다 빈 head 노드
+    private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock(); // advance 와 size 가 휠 구조를 바꿀 때만 잡는다.
+    private long currentTick; // 마지막으로 처리한 tick
+    private long size;
+
+    TimingWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int i = 0; i < heads.length; i++) {
+            heads[i] = new PointLot(-1L, 0, 0L);
+        }
+    }
+
+    // 이미 지난 만료 시각은 다음 tick 에 만료된다.
+    void add(PointLot lot) {
+        commands.offer(new Command(lot, true));
+    }
+
+    // 만료 전에 다 쓰인 lot 을 휠에서 뗀다. 이미 만료 처리된 lot 이면 아무것도 하지 않는다.
+    void cancel(PointLot lot) {
+        commands.offer(new Command(lot, false));
+    }
+
+    /**
+     * nowMillis 까지의 tick 을 최대 MAX_TICKS_PER_ADVANCE 개 처리하고, 만료된 lot 을 휠 락 안에서 expired 에 넘긴다.
+     * @return 아직 처리하지 못한 tick 수
+     */
+    long advance(long nowMillis, Consumer<PointLot> expired) {
+        long targetTick = nowMillis / tickMillis;
+        lock.lock();
+        try {
+            applyCommands();
+            long endTick = Math.min(targetTick, currentTick + MAX_TICKS_PER_ADVANCE);
+            while (currentTick < endTick) {
+                long tick = ++currentTick;
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                        cascade(level, tick);
+                    }
+                }
+                PointLot lot = detach(0, (int) (tick & (SLOTS - 1)));
+                while (lot != null) {
+                    PointLot next = lot.next;
+                    lot.prev = lot.next = null;
+                    size--;
+                    expired.accept(lot);
+                    lot = next;
+                }
+            }
+            return Math.max(targetTick - currentTick, 0L);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            applyCommands();
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 쌓인 add/cancel 을 들어온 순서대로 휠에 반영한다. 휠 락 안에서 호출한다.
+    private void applyCommands() {
+        Command command;
+        while ((command = commands.poll()) != null) {
+            PointLot lot = command.lot();
+            if (command.add()) {
+                place(lot, Math.max(deadlineTick(lot), currentTick + 1));
+                size++;
+            } else if (lot.prev != null) {
+                unlink(lot);
+                size--;
+            }
+        }
+    }
+
+    // 상위 단 칸의 lot 을 현재 tick 기준으로 다시 배치한다. 만료 tick 이 현재 tick 이면 0단의 현재 칸으로 간다.
+    private void cascade(int level, long tick) {
+        PointLot lot = detach(level, (int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+        while (lot != null) {
+            PointLot next = lot.next;
+            lot.prev = lot.next = null;
+            place(lot, Math.max(deadlineTick(lot), tick));
+            lot = next;
+        }
+    }
+
+    private void place(PointLot lot, long deadlineTick) {
+        long delta = Math.min(deadlineTick - currentTick, MAX_DELTA);
+        long target = currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        PointLot head = heads[level * SLOTS + (int) ((target >>> (SLOT_BITS * level)) & (SLOTS - 1))];
+        lot.prev = head;
+        lot.next = head.next;
+        if (head.next != null) {
+            head.next.prev = lot;
+        }
+        head.next = lot;
+    }
+
+    private PointLot detach(int level, int slot) {
+        PointLot head = heads[level * SLOTS + slot];
+        PointLot first = head.next;
+        head.next = null;
+        return first;
+    }
+
+    private static void unlink(PointLot lot) {
+        lot.prev.next = lot.next;
+        if (lot.next != null) {
+            lot.next.prev = lot.prev;
+        }
+        lot.prev = lot.next = null;
+    }
+
+    private long deadlineTick(PointLot lot) {
+        return (lot.expireMillis + tickMillis - 1) / tickMillis; // 만료 시각을 올림한 tick
+    }
+
+    private record Command(PointLot lot, boolean add) {
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 요청이 몰리는 유저 목록을 /actuator/hotusers 로 노출한다.
+ */
+@Component
+@Endpoint(id = "hotusers")
+@RequiredArgsConstructor
+public class HotUserEndpoint {
+
+    private final HotUserSketch hotUserSketch;
+
+    @ReadOperation
+    public List<HotUserSketch.HotUser> hotUsers() {
+        return hotUserSketch.topUsers();
+    }
+}
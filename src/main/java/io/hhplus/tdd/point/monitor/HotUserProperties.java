@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.monitor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청이 몰리는 유저 탐지 설정
+ * @param width count-min sketch 한 행의 칸 수 (2의 거듭제곱으로 올림)
+ * @param topK 노출할 상위 유저 수
+ * @param window 카운터를 절반으로 줄이는 주기
+ */
+@ConfigurationProperties("point.hot-users")
+public record HotUserProperties(
+        @DefaultValue("16384") int width,
+        @DefaultValue("20") int topK,
+        @DefaultValue("PT10S") Duration window
+) {
+}
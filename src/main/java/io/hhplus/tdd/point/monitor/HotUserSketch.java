@@ -0,0 +1,196 @@
+package io.hhplus.tdd.point.monitor;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 유저별 요청 빈도와 락 대기 시간을 추정하는 count-min sketch 와 상위 K 명 후보 목록
+ * - 기록은 원자적 덧셈만 사용하므로 락 없이 동작한다.
+ * - 행마다 다른 시드로 해시해, 한 행에서 충돌한 유저끼리 다른 행에서는 대부분 갈라지게 한다. (count-min 오차 한계의 전제)
+ * - 락 대기 시간은 조회를 뺀 락 획득 횟수로 나눠 평균을 낸다. 대기 시간과 횟수는 다른 유저와 가장 덜 겹친(락 획득 횟수가 가장 작은) 한 행에서 함께 읽는다.
+ * - 카운터는 window 마다 절반으로 줄어든다. 따라서 일정한 비율로 요청이 들어오면 카운터는 (초당 요청 수 * window * 2) 에 수렴한다.
+ * - 추정치가 상위 후보의 최솟값보다 큰 유저만 후보 목록에 들어가며, 목록이 가득 차면 추정치가 낮은 절반을 버린다.
+ *   이번 요청으로 추정치가 진입 기준을 막 넘은 유저만 목록을 확인하므로, 기준을 이미 넘은 유저의 요청은 Long 을 만들지 않는다.
+ */
+@Component
+public class HotUserSketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = { // 행별 해시 시드
+            0x2545F4914F6CDD1DL, 0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L};
+    private static final int CANDIDATE_FACTOR = 8; // topK 대비 후보 목록 크기
+
+    private final int width;
+    private final AtomicIntegerArray requests;
+    private final AtomicIntegerArray lockAcquisitions;
+    private final AtomicLongArray lockWaitNanos;
+    private final int topK;
+    private final int candidateCapacity;
+    private final double windowSeconds;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    private volatile long admissionThreshold;
+
+    public HotUserSketch(HotUserProperties properties) {
+        this.width = Integer.highestOneBit(Math.max(properties.width() - 1, 1)) << 1;
+        this.requests = new AtomicIntegerArray(DEPTH * width);
+        this.lockAcquisitions = new AtomicIntegerArray(DEPTH * width);
+        this.lockWaitNanos = new AtomicLongArray(DEPTH * width);
+        this.topK = properties.topK();
+        this.candidateCapacity = properties.topK() * CANDIDATE_FACTOR;
+        this.windowSeconds = properties.window().toMillis() / 1000.0;
+    }
+
+    // 락 없이 처리되는 조회 요청을 기록한다.
+    public void recordAccess(long userId) {
+        record(userId, false, 0L);
+    }
+
+    // 유저 락을 잡기까지 기다린 시간과 함께 요청을 기록한다.
+    public void recordLockWait(long userId, long waitNanos) {
+        record(userId, true, waitNanos);
+    }
+
+    private void record(long userId, boolean locked, long waitNanos) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = slot(userId, row);
+            estimate = Math.min(estimate, requests.incrementAndGet(index));
+            if (locked) {
+                lockAcquisitions.incrementAndGet(index);
+                if (waitNanos > 0) {
+                    lockWaitNanos.getAndAdd(index, waitNanos);
+                }
+            }
+        }
+        // 모든 행이 1 씩 늘었으므로 이번 요청 전 추정치는 estimate - 1 이다.
+        if (estimate - 1 == admissionThreshold && candidates.add(userId)) {
+            if (candidates.size() > candidateCapacity) {
+                prune();
+            }
+        }
+    }
+
+    /**
+     * 추정 요청 수가 많은 순서로 상위 K 명을 반환한다.
+     */
+    public List<HotUser> topUsers() {
+        List<HotUser> hotUsers = new ArrayList<>(candidates.size());
+        for (Long userId : candidates) {
+            long count = estimate(userId);
+            if (count == 0) {
+                continue;
+            }
+            hotUsers.add(new HotUser(userId, count / (windowSeconds * 2), averageLockWaitMillis(userId)));
+        }
+        hotUsers.sort(Comparator.comparingDouble(HotUser::requestsPerSecond).reversed());
+        return hotUsers.size() > topK ? List.copyOf(hotUsers.subList(0, topK)) : hotUsers;
+    }
+
+    // window 마다 모든 카운터를 절반으로 줄여 오래된 요청의 비중을 낮춘다.
+    @Scheduled(fixedRateString = "${point.hot-users.window:PT10S}")
+    public void decay() {
+        for (int i = 0; i < requests.length(); i++) {
+            halve(requests, i);
+            halve(lockAcquisitions, i);
+            halve(lockWaitNanos, i);
+        }
+        admissionThreshold >>>= 1;
+        candidates.removeIf(userId -> estimate(userId) == 0);
+    }
+
+    // 후보 목록에서 추정치가 낮은 절반을 버리고, 남은 후보의 최솟값을 새 진입 기준으로 삼는다.
+    private void prune() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<long[]> estimates = new ArrayList<>(candidates.size());
+            for (Long userId : candidates) {
+                estimates.add(new long[]{userId, estimate(userId)});
+            }
+            estimates.sort(Comparator.comparingLong((long[] e) -> e[1]).reversed());
+            int keep = candidateCapacity / 2;
+            for (int i = keep; i < estimates.size(); i++) {
+                candidates.remove(estimates.get(i)[0]);
+            }
+            admissionThreshold = estimates.get(Math.min(keep, estimates.size()) - 1)[1];
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    private long estimate(long userId) {
+        return estimate(requests, userId);
+    }
+
+    private long estimate(AtomicIntegerArray counters, long userId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(slot(userId, row)));
+        }
+        return estimate;
+    }
+
+    // 락 획득 횟수가 가장 작은 행의 대기 시간을 같은 행의 횟수로 나눈다. (행마다 섞인 다른 유저가 다르다.)
+    private double averageLockWaitMillis(long userId) {
+        int best = slot(userId, 0);
+        for (int row = 1; row < DEPTH; row++) {
+            int index = slot(userId, row);
+            if (lockAcquisitions.get(index) < lockAcquisitions.get(best)) {
+                best = index;
+            }
+        }
+        int acquisitions = lockAcquisitions.get(best);
+        return acquisitions == 0 ? 0.0 : lockWaitNanos.get(best) / 1_000_000.0 / acquisitions;
+    }
+
+    // row 행에서 유저가 쓰는 카운터 위치. 행마다 시드를 달리해 독립적으로 해시한다.
+    private int slot(long userId, int row) {
+        return row * width + (int) (mix(userId ^ SEEDS[row]) & (width - 1));
+    }
+
+    private static void halve(AtomicIntegerArray counters, int index) {
+        int value;
+        do {
+            value = counters.get(index);
+        } while (value != 0 && !counters.compareAndSet(index, value, value >>> 1));
+    }
+
+    private static void halve(AtomicLongArray counters, int index) {
+        long value;
+        do {
+            value = counters.get(index);
+        } while (value != 0 && !counters.compareAndSet(index, value, value >>> 1));
+    }
+
+    // splitmix64 의 마무리 단계. 연속된 유저 ID 도 고르게 흩어지게 한다.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @param userId 유저 ID
+     * @param requestsPerSecond 추정 초당 요청 수
+     * @param averageLockWaitMillis 락 획득 한 번당 평균 대기 시간
+     */
+    public record HotUser(
+            long userId,
+            double requestsPerSecond,
+            double averageLockWaitMillis
+    ) {
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.monitor;
+
+import jdk.jfr.EventType;
+
+import java.util.Arrays;
+
+/**
+ * SlowOperationRecorder 의 풀에서 작업마다 빌려 쓰고 반납하는 작업 구간 기록
+ * - 구간이 끝날 때 mark() 를 호출하면 직전 mark() 이후 시간이 해당 구간에 더해진다.
+ * - JFR 녹화 중이 아니면 객체를 만들지 않는다.
+ */
+public final class OperationTrace {
+
+    private static final EventType PHASE_EVENT_TYPE = EventType.getEventType(PointPhaseEvent.class);
+
+    final long[] phaseNanos = new long[PointPhase.VALUES.length];
+    PointOperation operation;
+    long userId;
+    long startMillis;
+    long startNanos;
+    private long lastNanos;
+    private PointPhaseEvent event;
+
+    void begin(PointOperation operation, long userId) {
+        Arrays.fill(phaseNanos, 0L);
+        this.operation = operation;
+        this.userId = userId;
+        this.startMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.lastNanos = startNanos;
+        this.event = null;
+        if (PHASE_EVENT_TYPE.isEnabled()) {
+            beginEvent();
+        }
+    }
+
+    public void mark(PointPhase phase) {
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - lastNanos;
+        lastNanos = now;
+        if (event != null) {
+            commitEvent(phase);
+        }
+    }
+
+    // 다음 구간을 기록하지 않고 건너뛴다. (구간 사이의 계산 시간 등)
+    public void skip() {
+        lastNanos = System.nanoTime();
+        if (event != null) {
+            beginEvent();
+        }
+    }
+
+    long endNanos() {
+        event = null;
+        return System.nanoTime();
+    }
+
+    private void beginEvent() {
+        event = new PointPhaseEvent();
+        event.begin();
+    }
+
+    private void commitEvent(PointPhase phase) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.phase = phase.name();
+            event.userId = userId;
+            event.commit();
+        }
+        beginEvent();
+    }
+}
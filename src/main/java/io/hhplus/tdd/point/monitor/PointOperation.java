@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.monitor;
+
+/**
+ * 구간별 소요 시간을 기록하는 PointService 작업
+ */
+public enum PointOperation {
+    CHARGE, USE, EXPIRE, FIND_POINT, FIND_HISTORY, FIND_RECENT_HISTORY
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.monitor;
+
+/**
+ * PointService 작업의 처리 구간
+ */
+public enum PointPhase {
+    LOCK_WAIT,          // 유저 락 대기
+    SELECT_POINT,       // UserPointTable.selectById
+    SELECT_HISTORY,     // PointHistoryTable.selectAllByUserId
+    INSERT_HISTORY,     // PointHistoryTable.insert
+    UPDATE_POINT,       // UserPointTable.insertOrUpdate
+    PUBLISH;            // 커밋 이벤트 발행 (복제 로그 등 리스너 실행 포함)
+
+    static final PointPhase[] VALUES = values();
+}
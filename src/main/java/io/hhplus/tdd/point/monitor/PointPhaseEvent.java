@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PointService 작업의 구간 하나를 JFR 이벤트로 기록한다.
+ * - JFR 녹화 중에만 만들어지며, 녹화에서 GC/세이프포인트와 같은 타임라인으로 볼 수 있다.
+ */
+@Name("io.hhplus.tdd.PointPhase")
+@Label("Point Phase")
+@Category({"hhplus", "Point"})
+@Description("PointService 작업의 처리 구간")
+@StackTrace(false)
+class PointPhaseEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("User Id")
+    long userId;
+}
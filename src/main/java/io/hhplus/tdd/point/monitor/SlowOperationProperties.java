@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.monitor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 느린 작업 기록 설정
+ * @param threshold 이 시간 이상 걸린 작업을 기록한다.
+ * @param capacity 최근 느린 작업을 보관할 개수 (2의 거듭제곱으로 올림)
+ */
+@ConfigurationProperties("point.slow-operations")
+public record SlowOperationProperties(
+        @DefaultValue("500ms") Duration threshold,
+        @DefaultValue("256") int capacity
+) {
+}
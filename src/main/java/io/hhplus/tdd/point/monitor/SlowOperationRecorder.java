@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point.monitor;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * PointService 작업의 구간별 소요 시간을 기록하고, 임계값을 넘은 작업을 고정 크기 링 버퍼에 보관한다.
+ * - 구간 기록은 작업마다 풀에서 빌린 OperationTrace 에 하고 end 에서 반납하므로, 평소에는 할당이 없다.
+ *   스레드에 묶지 않으므로 가상 스레드나 스레드 풀에서도 스레드 수만큼 쌓이지 않고, 한 스레드에서 작업이 겹쳐도 섞이지 않는다.
+ *   풀은 스레드별로 시작 칸을 달리하는 배열이라, 여러 스레드가 동시에 빌려도 서로 다른 칸에서 가져간다.
+ * - 링 버퍼는 슬롯마다 시퀀스 번호를 두는 seqlock 방식이다. 쓰기는 락 없이 슬롯을 차지해 덮어쓰고,
+ *   읽기는 쓰는 중이거나 읽는 사이 덮어쓰인 슬롯을 건너뛴다.
+ */
+@Component
+public class SlowOperationRecorder {
+
+    private static final int OPERATION = 0;
+    private static final int USER_ID = 1;
+    private static final int START_MILLIS = 2;
+    private static final int TOTAL_NANOS = 3;
+    private static final int PHASES = 4;
+    private static final int STRIDE = PHASES + PointPhase.VALUES.length;
+    private static final int POOL_PROBES = 4; // 빌리거나 반납할 때 살펴보는 풀 칸 수
+
+    private final AtomicReferenceArray<OperationTrace> pool;
+    private final int poolMask;
+    private final long thresholdNanos;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLongArray sequences; // 슬롯별 시퀀스. 홀수면 쓰는 중, 0 이면 빈 슬롯
+    private final AtomicLongArray slots;
+
+    public SlowOperationRecorder(SlowOperationProperties properties) {
+        int capacity = Integer.highestOneBit(Math.max(properties.capacity() - 1, 1)) << 1;
+        this.thresholdNanos = properties.threshold().toNanos();
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.slots = new AtomicLongArray(capacity * STRIDE);
+        int poolSize = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 4 - 1, 1)) << 1;
+        this.pool = new AtomicReferenceArray<>(poolSize);
+        this.poolMask = poolSize - 1;
+    }
+
+    // 작업 구간 기록을 시작한다. 반환한 trace 는 end 에 넘긴 뒤에는 쓰지 않는다.
+    public OperationTrace begin(PointOperation operation, long userId) {
+        OperationTrace trace = acquire();
+        trace.begin(operation, userId);
+        return trace;
+    }
+
+    public void end(OperationTrace trace) {
+        long totalNanos = trace.endNanos() - trace.startNanos;
+        if (totalNanos >= thresholdNanos) {
+            record(trace, totalNanos);
+        }
+        release(trace);
+    }
+
+    // 풀에서 trace 를 빌린다. 살펴본 칸이 모두 비어 있으면 새로 만든다.
+    private OperationTrace acquire() {
+        int home = home();
+        for (int i = 0; i < POOL_PROBES; i++) {
+            int index = (home + i) & poolMask;
+            OperationTrace trace = pool.get(index);
+            if (trace != null && pool.compareAndSet(index, trace, null)) {
+                return trace;
+            }
+        }
+        return new OperationTrace();
+    }
+
+    // 다 쓴 trace 를 풀에 돌려준다. 살펴본 칸이 모두 차 있으면 버린다.
+    private void release(OperationTrace trace) {
+        int home = home();
+        for (int i = 0; i < POOL_PROBES; i++) {
+            int index = (home + i) & poolMask;
+            if (pool.get(index) == null && pool.compareAndSet(index, null, trace)) {
+                return;
+            }
+        }
+    }
+
+    // 스레드마다 다른 풀 시작 칸
+    private int home() {
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private void record(OperationTrace trace, long totalNanos) {
+        int slot = (int) (cursor.getAndIncrement() & mask);
+        long sequence = sequences.get(slot);
+        if ((sequence & 1) == 1 || !sequences.compareAndSet(slot, sequence, sequence + 1)) {
+            return; // 다른 스레드가 한 바퀴 돌아 같은 슬롯을 쓰는 중이면 이번 기록은 버린다.
+        }
+        int base = slot * STRIDE;
+        slots.setOpaque(base + OPERATION, trace.operation.ordinal());
+        slots.setOpaque(base + USER_ID, trace.userId);
+        slots.setOpaque(base + START_MILLIS, trace.startMillis);
+        slots.setOpaque(base + TOTAL_NANOS, totalNanos);
+        for (int i = 0; i < trace.phaseNanos.length; i++) {
+            slots.setOpaque(base + PHASES + i, trace.phaseNanos[i]);
+        }
+        sequences.setRelease(slot, sequence + 2);
+    }
+
+    // 보관 중인 느린 작업을 최근 순으로 반환한다.
+    public List<SlowOperation> recent() {
+        long end = cursor.get();
+        int capacity = mask + 1;
+        List<SlowOperation> result = new ArrayList<>(capacity);
+        for (long index = end - 1; index >= Math.max(end - capacity, 0); index--) {
+            int slot = (int) (index & mask);
+            SlowOperation operation = read(slot);
+            if (operation != null) {
+                result.add(operation);
+            }
+        }
+        return result;
+    }
+
+    private SlowOperation read(int slot) {
+        long before = sequences.getAcquire(slot);
+        if (before == 0 || (before & 1) == 1) {
+            return null;
+        }
+        int base = slot * STRIDE;
+        PointOperation operation = PointOperation.values()[(int) slots.getOpaque(base + OPERATION)];
+        long userId = slots.getOpaque(base + USER_ID);
+        long startMillis = slots.getOpaque(base + START_MILLIS);
+        long totalNanos = slots.getOpaque(base + TOTAL_NANOS);
+        Map<PointPhase, Double> phases = new EnumMap<>(PointPhase.class);
+        long phaseSum = 0L;
+        for (PointPhase phase : PointPhase.VALUES) {
+            long nanos = slots.getOpaque(base + PHASES + phase.ordinal());
+            phaseSum += nanos;
+            if (nanos > 0) {
+                phases.put(phase, toMillis(nanos));
+            }
+        }
+        VarHandle.acquireFence();
+        if (sequences.get(slot) != before) {
+            return null; // 읽는 사이 덮어쓰였다.
+        }
+        return new SlowOperation(operation, userId, startMillis, toMillis(totalNanos),
+                toMillis(Math.max(totalNanos - phaseSum, 0L)), phases);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 임계값을 넘은 작업 하나
+     * @param otherMillis 구간으로 기록되지 않은 시간 (검증 계산, 로그 등)
+     */
+    public record SlowOperation(
+            PointOperation operation,
+            long userId,
+            long startMillis,
+            double totalMillis,
+            double otherMillis,
+            Map<PointPhase, Double> phaseMillis
+    ) {
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.recent;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저 한 명의 최근 내역을 고정 크기 배열에 순환해 담는 링
+ * - 커밋 이벤트로 새 내역을 붙이고, 가득 차면 가장 오래된 내역을 덮어쓴다.
+ * - 처음 조회할 때 저장소에서 한 번만 읽어 채운다. 읽는 동안 들어온 이벤트는 ID 로 중복을 걸러 합친다.
+ */
+final class HistoryRing {
+
+    // 링 객체, 배열 헤더, 맵 엔트리와 내역 하나당 참조 + PointHistory 객체 크기 추정치
+    private static final long RING_OVERHEAD_BYTES = 128L;
+    private static final long ENTRY_BYTES = 4L + 48L;
+
+    private final PointHistory[] entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReference<CompletableFuture<Void>> loading = new AtomicReference<>();
+    private int next; // 다음에 쓸 위치
+    private int size;
+    private long lastId;
+    private final long createdMillis;
+    private volatile boolean loaded;
+    private volatile long lastAccessMillis;
+
+    HistoryRing(int capacity, long nowMillis) {
+        this.entries = new PointHistory[capacity];
+        this.createdMillis = nowMillis;
+        this.lastAccessMillis = nowMillis;
+    }
+
+    static long estimatedBytes(int capacity) {
+        return RING_OVERHEAD_BYTES + ENTRY_BYTES * capacity;
+    }
+
+    long lastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    long createdMillis() {
+        return createdMillis;
+    }
+
+    // 한 유저의 이벤트는 유저 락 안에서 ID 순서대로 들어오므로 마지막 ID 이하는 이미 담긴 내역이다.
+    void add(PointHistory history) {
+        lock.lock();
+        try {
+            if (history.id() > lastId) {
+                append(history);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 아직 채우지 않았으면 loader 로 한 번 채운다. 다른 스레드가 채우는 중이면 끝날 때까지 기다린다.
+    void loadOnce(Supplier<List<PointHistory>> loader) {
+        if (loaded) {
+            return;
+        }
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> current = loading.compareAndExchange(null, mine);
+        if (current != null) {
+            try {
+                current.join();
+                return;
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            merge(loader.get());
+            loaded = true;
+            mine.complete(null);
+        } catch (RuntimeException e) {
+            loading.set(null); // 다음 조회에서 다시 읽는다.
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 최근 limit 건을 시간순(오래된 것부터)으로 반환한다.
+    List<PointHistory> recent(int limit, long nowMillis) {
+        lastAccessMillis = nowMillis;
+        lock.lock();
+        try {
+            int count = Math.min(limit, size);
+            List<PointHistory> result = new ArrayList<>(count);
+            for (int i = count; i > 0; i--) {
+                result.add(entries[Math.floorMod(next - i, entries.length)]);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 저장소에서 읽은 내역과 그 사이 이벤트로 받은 내역을 ID 순으로 합쳐 최근 capacity 건만 남긴다.
+    private void merge(List<PointHistory> histories) {
+        lock.lock();
+        try {
+            List<PointHistory> merged = new ArrayList<>(entries.length * 2);
+            merged.addAll(histories.subList(Math.max(histories.size() - entries.length, 0), histories.size()));
+            for (int i = size; i > 0; i--) {
+                merged.add(entries[Math.floorMod(next - i, entries.length)]);
+            }
+            merged.sort(Comparator.comparingLong(PointHistory::id));
+            next = 0;
+            size = 0;
+            lastId = 0L;
+            for (PointHistory history : merged) {
+                if (history.id() > lastId) {
+                    append(history);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(PointHistory history) {
+        entries[next] = history;
+        next = (next + 1) % entries.length;
+        size = Math.min(size + 1, entries.length);
+        lastId = history.id();
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.recent;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 최근 내역 캐시 (최근 활동 위젯용)
+ * - 유저마다 최근 capacity 건을 HistoryRing 에 담고, 커밋 이벤트로 갱신한다.
+ *   캐시에 없는 유저는 처음 조회할 때 저장소에서 전체 내역을 한 번 읽어 채운다.
+ * - 유휴 시간 동안 조회되지 않은 유저와 채운 지 maxAge 가 지난 유저는 주기적으로 내보내고,
+ *   유저 수가 메모리 예산을 넘으면 오래 조회되지 않은 유저부터 예산의 90% 까지 내보낸다.
+ * - 커밋 이벤트 없이 내역이 추가되는 저장소(PointHistoryRepository.externallyWritten)면 캐시하지 않고 저장소에서 바로 읽는다.
+ * - 클러스터 모드에서 담당을 넘기거나 넘겨받은 유저는 evict 로 내보낸다. 이전으로 들어온 내역은 이벤트가 없기 때문이다.
+ */
+@Slf4j
+@Component
+public class RecentHistoryCache {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final RecentHistoryProperties properties;
+    private final int maxUsers;
+    private final boolean bypass;
+    private final Map<Long, HistoryRing> rings = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public RecentHistoryCache(PointHistoryRepository pointHistoryRepository, RecentHistoryProperties properties) {
+        if (properties.capacity() <= 0) {
+            throw new IllegalArgumentException("point.recent-history.capacity 는 0보다 커야 합니다.");
+        }
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.properties = properties;
+        this.maxUsers = (int) Math.max(1L, Math.min(Integer.MAX_VALUE,
+                properties.memoryBudget().toBytes() / HistoryRing.estimatedBytes(properties.capacity())));
+        this.bypass = pointHistoryRepository.externallyWritten();
+    }
+
+    // 캐시에 있는 유저에게만 반영한다. 없는 유저는 조회할 때 저장소에서 읽는다.
+    @EventListener
+    public void onCommitted(PointCommittedEvent event) {
+        HistoryRing ring = rings.get(event.userId());
+        if (ring != null) {
+            ring.add(event.pointHistory());
+        }
+    }
+
+    public List<PointHistory> findRecent(long userId, int limit) {
+        if (limit <= 0 || limit > properties.capacity()) {
+            throw new IllegalArgumentException("최근 내역은 1건부터 " + properties.capacity() + "건까지 조회할 수 있습니다.");
+        }
+        if (bypass) {
+            return pointHistoryRepository.findRecentById(userId, limit);
+        }
+        long now = System.currentTimeMillis();
+        HistoryRing ring = rings.get(userId);
+        if (ring != null && ring.createdMillis() < now - properties.maxAge().toMillis()) {
+            rings.remove(userId, ring); // 조회가 이어져도 오래된 캐시는 저장소에서 다시 읽는다.
+            ring = null;
+        }
+        if (ring == null) {
+            // 채우기 전에 맵에 먼저 넣어, 저장소를 읽는 동안 커밋된 내역도 이벤트로 받는다.
+            ring = rings.computeIfAbsent(userId, k -> new HistoryRing(properties.capacity(), now));
+            if (rings.size() > maxUsers) {
+                evictOverBudget();
+            }
+        }
+        ring.loadOnce(() -> pointHistoryRepository.findAllById(userId));
+        return ring.recent(limit, now);
+    }
+
+    // 다음 조회 때 저장소에서 다시 읽는다.
+    public void evict(long userId) {
+        rings.remove(userId);
+    }
+
+    public int cachedUsers() {
+        return rings.size();
+    }
+
+    @Scheduled(fixedRateString = "${point.recent-history.eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        long idleCutoff = now - properties.idleTimeout().toMillis();
+        long ageCutoff = now - properties.maxAge().toMillis();
+        int before = rings.size();
+        rings.values().removeIf(ring -> ring.lastAccessMillis() < idleCutoff || ring.createdMillis() < ageCutoff);
+        log.debug("recent history rings evicted: {}, cached: {}", before - rings.size(), rings.size());
+    }
+
+    private void evictOverBudget() {
+        if (!evictionLock.tryLock()) {
+            return; // 다른 스레드가 정리 중
+        }
+        try {
+            int excess = rings.size() - (int) (maxUsers * 9L / 10);
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 조회 시각이 바뀌지 않도록 먼저 복사해 둔다.
+            List<IdleRing> idleRings = new ArrayList<>(rings.size());
+            rings.forEach((userId, ring) -> idleRings.add(new IdleRing(userId, ring, ring.lastAccessMillis())));
+            idleRings.sort(Comparator.comparingLong(IdleRing::lastAccessMillis));
+            for (int i = 0; i < excess && i < idleRings.size(); i++) {
+                IdleRing idleRing = idleRings.get(i);
+                rings.remove(idleRing.userId(), idleRing.ring());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record IdleRing(long userId, HistoryRing ring, long lastAccessMillis) {
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.recent;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 유저별 최근 내역 캐시 설정
+ * @param capacity 유저마다 보관하는 최근 내역 수 (조회 limit 의 최대값)
+ * @param memoryBudget 전체 캐시가 쓸 수 있는 메모리 추정치. 넘으면 오래 조회되지 않은 유저부터 내보낸다.
+ * @param idleTimeout 이 시간 동안 조회되지 않은 유저의 캐시는 내보낸다.
+ * @param maxAge 저장소에서 채운 뒤 이 시간이 지난 캐시는 계속 조회되더라도 내보내고 다음 조회 때 다시 읽는다.
+ * @param evictionInterval 유휴 캐시를 정리하는 주기
+ */
+@ConfigurationProperties("point.recent-history")
+public record RecentHistoryProperties(
+        @DefaultValue("20") int capacity,
+        @DefaultValue("64MB") DataSize memoryBudget,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("1h") Duration maxAge,
+        @DefaultValue("1m") Duration evictionInterval
+) {
+}
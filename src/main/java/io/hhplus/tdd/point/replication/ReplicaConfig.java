@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.replication;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * follower 에서 /point/** 요청을 읽기 전용으로 처리하도록 설정한다.
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "follower")
+public class ReplicaConfig implements WebMvcConfigurer {
+
+    private final ReplicaStore replicaStore;
+    private final ReplicationProperties replicationProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReplicaReadInterceptor(replicaStore, replicationProperties))
+                .addPathPatterns("/point/**");
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.replication;
+
+/**
+ * follower 가 요청된 버전(X-Min-Version)까지 제한 시간 안에 따라잡지 못한 경우
+ */
+public class ReplicaLagException extends RuntimeException {
+
+    public ReplicaLagException(long requiredVersion, long appliedVersion) {
+        super("복제 인스턴스가 요청한 버전까지 반영되지 않았습니다. 요청 버전: " + requiredVersion
+                + ", 반영 버전: " + appliedVersion);
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * follower 에서 ReplicaStore 의 포인트 내역을 조회한다. 쓰기는 primary 에서만 가능하다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "follower")
+public class ReplicaPointHistoryRepository implements PointHistoryRepository {
+
+    private final ReplicaStore replicaStore;
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        throw new ReplicaReadOnlyException();
+    }
+
+    @Override
+    public List<PointHistory> findAllById(long userId) {
+        return replicaStore.findAllById(userId);
+    }
+
+    // 내역은 primary 의 변경 스트림으로 추가되고 커밋 이벤트는 발행되지 않는다.
+    @Override
+    public boolean externallyWritten() {
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.replication;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * follower 의 /point/** 요청을 조회로 제한하고, X-Min-Version 이 있으면 그 버전까지 반영된 뒤에 조회한다.
+ * - 클라이언트는 primary 쓰기 응답의 X-Replication-Version 을 X-Min-Version 으로 넘겨 자신이 쓴 값을 읽을 수 있다.
+ */
+public class ReplicaReadInterceptor implements HandlerInterceptor {
+
+    public static final String MIN_VERSION_HEADER = "X-Min-Version";
+    private static final String BATCH_READ_PATH = "/point/batch"; // 본문으로 ID 를 받는 조회
+
+    private final ReplicaStore replicaStore;
+    private final ReplicationProperties properties;
+
+    public ReplicaReadInterceptor(ReplicaStore replicaStore, ReplicationProperties properties) {
+        this.replicaStore = replicaStore;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        if (!"GET".equals(request.getMethod()) && !BATCH_READ_PATH.equals(request.getServletPath())) {
+            throw new ReplicaReadOnlyException();
+        }
+        String minVersion = request.getHeader(MIN_VERSION_HEADER);
+        if (minVersion != null) {
+            long requiredVersion = parseVersion(minVersion);
+            if (!replicaStore.awaitVersion(requiredVersion, properties.minVersionTimeout())) {
+                throw new ReplicaLagException(requiredVersion, replicaStore.version());
+            }
+        }
+        // 조회 전에 반영되어 있던 버전을 응답 헤더로 알린다. (조회 결과는 최소 이 버전 이후의 상태)
+        request.setAttribute(ReplicationResponseAdvice.VERSION_ATTRIBUTE, replicaStore.version());
+        return true;
+    }
+
+    private static long parseVersion(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + MIN_VERSION_HEADER + "'의 값 '" + value + "'은 잘못된 요청 값입니다.");
+        }
+    }
+}
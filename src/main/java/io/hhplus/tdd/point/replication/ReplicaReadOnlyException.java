@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.replication;
+
+/**
+ * follower 에 쓰기 요청이 들어온 경우
+ */
+public class ReplicaReadOnlyException extends RuntimeException {
+
+    public ReplicaReadOnlyException() {
+        super("읽기 전용 복제 인스턴스입니다. 충전/사용은 primary 로 요청해 주세요.");
+    }
+}
@@ -0,0 +1,188 @@
+package io.hhplus.tdd.point.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * follower 가 primary 의 변경 스트림을 받아 유지하는 읽기 전용 상태
+ * - 잔고는 레코드에 담긴 반영 후 잔고로 덮어쓰고, 내역은 유저별로 마지막 내역 ID 보다 큰 것만 추가한다.
+ * - primary 가 재시작해 로그가 바뀌면(epoch 변경) 스냅샷부터 다시 받는다. 스냅샷은 새 맵에 쌓아 두었다가 SNAPSHOT_END 에서
+ *   잔고와 내역을 한 번에 교체한다. 그 전까지 조회는 이전 상태로 응답하고, X-Min-Version 을 기다리는 조회는 교체될 때까지 기다린다.
+ * - epoch 도 교체할 때 바꾼다. 스냅샷 도중 연결이 끊기면 이전 epoch 로 다시 접속하므로 primary 가 스냅샷을 처음부터 다시 보낸다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "follower")
+public class ReplicaStore implements ReplicationStatus {
+
+    private volatile State state = new State();
+    private volatile Resync resync; // 다시 받는 중인 스냅샷. 다시 받는 중이 아니면 null
+    private final ReentrantLock versionLock = new ReentrantLock();
+    private final Condition versionAdvanced = versionLock.newCondition();
+    private volatile long epoch; // 받고 있는 primary 로그의 epoch. 아직 받은 적이 없으면 0
+    private volatile long appliedVersion;
+    private volatile long lastPrimaryMillis;
+
+    public UserPoint findById(long id) {
+        UserPoint userPoint = state.balances.get(id);
+        return userPoint == null ? UserPoint.empty(id) : userPoint;
+    }
+
+    public List<PointHistory> findAllById(long userId) {
+        UserHistory userHistory = state.histories.get(userId);
+        return userHistory == null ? List.of() : userHistory.view();
+    }
+
+    public Collection<Long> findAllIds() {
+        return Collections.unmodifiableSet(state.balances.keySet());
+    }
+
+    public void apply(ReplicationRecord record) {
+        Resync pending = resync;
+        State target = pending == null ? state : pending.state;
+        switch (record.kind()) {
+            case COMMIT -> {
+                target.append(record.pointHistory());
+                target.balances.put(record.userId(), record.userPoint());
+                advance(record.version(), record.updateMillis());
+            }
+            case SNAPSHOT_BALANCE -> target.balances.put(record.userId(), record.userPoint());
+            case SNAPSHOT_HISTORY -> target.append(record.pointHistory());
+            case SNAPSHOT_END -> {
+                if (pending != null) {
+                    swap(pending, record.version(), record.updateMillis());
+                } else {
+                    advance(record.version(), record.updateMillis());
+                }
+            }
+            case HEARTBEAT -> advance(record.version(), record.updateMillis());
+        }
+    }
+
+    /**
+     * primary 에 접속해 로그 epoch 를 받았을 때 호출한다.
+     * @param resync true 면 가진 상태가 primary 로그와 어긋났으므로, 이어서 받는 스냅샷을 새 상태에 쌓는다.
+     */
+    public void connected(long primaryEpoch, boolean resync) {
+        if (resync) {
+            this.resync = new Resync(primaryEpoch, new State()); // 끊겼다 다시 받는 스냅샷이면 쌓던 상태는 버린다.
+        } else {
+            this.resync = null;
+            epoch = primaryEpoch;
+        }
+    }
+
+    // 스냅샷을 다 받았는지 여부. 다시 받는 중이면 조회는 이전 상태로 응답한다.
+    public boolean resyncing() {
+        return resync != null;
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    @Override
+    public long version() {
+        return appliedVersion;
+    }
+
+    // 마지막으로 받은 primary 시각 이후 흐른 시간. 변경이 없어도 heartbeat 로 갱신되며, 두 서버의 시계 차이만큼 오차가 있다.
+    @Override
+    public long lagMillis() {
+        return lastPrimaryMillis == 0L ? -1L : Math.max(System.currentTimeMillis() - lastPrimaryMillis, 0L);
+    }
+
+    /**
+     * 지정한 버전까지 반영될 때까지 기다린다.
+     * @return timeout 안에 반영되었으면 true
+     */
+    public boolean awaitVersion(long version, Duration timeout) throws InterruptedException {
+        if (appliedVersion >= version && resync == null) {
+            return true;
+        }
+        long remainingNanos = timeout.toNanos();
+        versionLock.lock();
+        try {
+            // 다시 받는 중에는 이전 epoch 의 버전이 새 primary 의 버전과 이어지지 않으므로 교체될 때까지 기다린다.
+            while (appliedVersion < version || resync != null) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = versionAdvanced.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    private void advance(long version, long primaryMillis) {
+        lastPrimaryMillis = primaryMillis;
+        if (version <= appliedVersion) {
+            return;
+        }
+        versionLock.lock();
+        try {
+            appliedVersion = version;
+            versionAdvanced.signalAll();
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    // 새 스냅샷 상태로 한 번에 바꾸고, 버전을 스냅샷 기준 버전으로 맞춘다. (이전 epoch 의 버전보다 작을 수 있다.)
+    private void swap(Resync completed, long version, long primaryMillis) {
+        versionLock.lock();
+        try {
+            state = completed.state;
+            epoch = completed.epoch;
+            resync = null;
+            lastPrimaryMillis = primaryMillis;
+            appliedVersion = version;
+            versionAdvanced.signalAll();
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    // 잔고와 내역을 함께 교체하기 위해 한 객체로 묶는다.
+    private static final class State {
+        private final Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+        private final Map<Long, UserHistory> histories = new ConcurrentHashMap<>();
+
+        void append(PointHistory pointHistory) {
+            histories.computeIfAbsent(pointHistory.userId(), k -> new UserHistory()).append(pointHistory);
+        }
+    }
+
+    private record Resync(long epoch, State state) {
+    }
+
+    private static final class UserHistory {
+        private final List<PointHistory> entries = new ArrayList<>();
+        private long lastId;
+
+        synchronized void append(PointHistory pointHistory) {
+            if (pointHistory.id() <= lastId) {
+                return; // 스냅샷과 스트림으로 두 번 받은 내역
+            }
+            entries.add(pointHistory);
+            lastId = pointHistory.id();
+        }
+
+        synchronized List<PointHistory> view() {
+            return List.copyOf(entries);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.replication;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * follower 에서 ReplicaStore 의 잔고를 조회한다. 쓰기는 primary 에서만 가능하다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "follower")
+public class ReplicaUserPointRepository implements UserPointRepository {
+
+    private final ReplicaStore replicaStore;
+
+    @Override
+    public UserPoint findById(Long id) {
+        return replicaStore.findById(id);
+    }
+
+    @Override
+    public UserPoint saveOrUpdate(long id, long amount) {
+        throw new ReplicaReadOnlyException();
+    }
+
+    @Override
+    public Collection<Long> findAllIds() {
+        return replicaStore.findAllIds();
+    }
+}
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.replication;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * follower 에서 primary 변경 스트림에 접속해 ReplicaStore 에 반영한다.
+ * - 연결이 끊기면 반영한 다음 버전부터 다시 요청하며, 실패가 이어지면 재접속 간격을 늘린다.
+ * - 접속할 때 마지막으로 받은 로그의 epoch 를 함께 보내, primary 가 재시작했으면 상태를 비우고 스냅샷부터 다시 받는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "follower")
+public class ReplicationClient {
+
+    private static final long MIN_BACKOFF_MILLIS = 100L;
+    private static final long MAX_BACKOFF_MILLIS = 5_000L;
+
+    private final ReplicaStore replicaStore;
+    private final ReplicationProperties properties;
+    private final Thread receiver = new Thread(this::receiveLoop, "replication-receiver");
+    private volatile Socket socket;
+    private volatile boolean running = true;
+
+    public ReplicationClient(ReplicaStore replicaStore, ReplicationProperties properties) {
+        this.replicaStore = replicaStore;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        receiver.interrupt();
+        Socket current = socket;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private void receiveLoop() {
+        long backoffMillis = MIN_BACKOFF_MILLIS;
+        while (running) {
+            try {
+                receive();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("replication stream disconnected: {}, retry in {} ms", e.getMessage(), backoffMillis);
+                }
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private void receive() throws IOException {
+        try (Socket connected = new Socket()) {
+            socket = connected;
+            connected.connect(new InetSocketAddress(properties.primaryHost(), properties.port()));
+            connected.setTcpNoDelay(true);
+            DataOutputStream out = new DataOutputStream(connected.getOutputStream());
+            out.writeLong(replicaStore.epoch());
+            out.writeLong(replicaStore.version() + 1);
+            out.flush();
+            log.info("replication stream connected: {}:{}, from version {}",
+                    properties.primaryHost(), properties.port(), replicaStore.version() + 1);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(connected.getInputStream()));
+            replicaStore.connected(in.readLong(), in.readBoolean());
+            while (running) {
+                replicaStore.apply(ReplicationRecord.readFrom(in));
+            }
+        }
+    }
+}
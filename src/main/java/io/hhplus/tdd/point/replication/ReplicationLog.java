@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.replication;
+
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * primary 에서 저장이 끝난 포인트 변경에 순서대로 버전을 붙여 보관하는 고정 크기 로그
+ * - 가장 최근 logCapacity 건만 유지하며, follower 는 원하는 버전부터 이어서 읽는다.
+ * - 버전은 프로세스가 시작될 때마다 1 부터 다시 붙으므로, 시작할 때 정한 epoch 로 어느 로그의 버전인지 구분한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "primary")
+public class ReplicationLog implements ReplicationStatus {
+
+    private final long epoch = ThreadLocalRandom.current().nextLong(1L, Long.MAX_VALUE); // 0 은 follower 가 아직 받은 로그가 없다는 뜻
+    private final ReplicationRecord[] records;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long head; // 마지막으로 추가된 버전 (없으면 0)
+
+    public ReplicationLog(ReplicationProperties properties) {
+        this.records = new ReplicationRecord[properties.logCapacity()];
+    }
+
+    @EventListener
+    public void onCommitted(PointCommittedEvent event) {
+        lock.lock();
+        try {
+            head++;
+            records[(int) (head % records.length)] = ReplicationRecord.commit(head, event);
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    @Override
+    public long version() {
+        lock.lock();
+        try {
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long lagMillis() {
+        return 0L;
+    }
+
+    // 로그에 남아 있는 가장 오래된 버전
+    public long oldestVersion() {
+        lock.lock();
+        try {
+            return Math.max(head - records.length + 1, 1L);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * fromVersion 부터 최대 maxCount 건을 읽는다. 새 변경이 없으면 waitMillis 동안 기다린다.
+     * @return 읽은 레코드. 기다려도 새 변경이 없으면 빈 목록, fromVersion 이 이미 로그에서 밀려났으면 null
+     */
+    public List<ReplicationRecord> read(long fromVersion, int maxCount, long waitMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+            while (fromVersion > head && remainingNanos > 0) {
+                remainingNanos = appended.awaitNanos(remainingNanos);
+            }
+            if (fromVersion < Math.max(head - records.length + 1, 1L)) {
+                return null;
+            }
+            long toVersion = Math.min(head, fromVersion + maxCount - 1);
+            List<ReplicationRecord> result = new ArrayList<>((int) Math.max(toVersion - fromVersion + 1, 0));
+            for (long version = fromVersion; version <= toVersion; version++) {
+                result.add(records[(int) (version % records.length)]);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
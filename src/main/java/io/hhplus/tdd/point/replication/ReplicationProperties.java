@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.replication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제 설정
+ * @param role none(기본) | primary | follower
+ * @param port primary 가 변경 스트림을 내보내는 TCP 포트
+ * @param primaryHost follower 가 접속할 primary 주소
+ * @param logCapacity primary 가 메모리에 유지하는 최근 변경 수. 이보다 뒤처진 follower 는 스냅샷부터 다시 받는다.
+ * @param heartbeatInterval 변경이 없을 때 primary 가 현재 버전을 알리는 주기
+ * @param minVersionTimeout follower 가 요청된 버전(X-Min-Version)까지 따라잡기를 기다리는 최대 시간
+ */
+@ConfigurationProperties("point.replication")
+public record ReplicationProperties(
+        @DefaultValue("none") String role,
+        @DefaultValue("7070") int port,
+        @DefaultValue("localhost") String primaryHost,
+        @DefaultValue("100000") int logCapacity,
+        @DefaultValue("100ms") Duration heartbeatInterval,
+        @DefaultValue("2s") Duration minVersionTimeout
+) {
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 변경 스트림의 레코드 하나 (고정 길이 58 바이트)
+ * - COMMIT : 충전/사용 한 건. 반영 후 잔고를 그대로 담으므로 같은 레코드를 다시 적용해도 결과가 같다.
+ * - SNAPSHOT_BALANCE / SNAPSHOT_HISTORY / SNAPSHOT_END : 로그보다 뒤처진 follower 에게 보내는 전체 상태
+ * - HEARTBEAT : 변경이 없을 때 primary 의 현재 버전과 시각
+ */
+public record ReplicationRecord(
+        long version,
+        Kind kind,
+        long userId,
+        TransactionType type,
+        long amount,
+        long point,
+        long updateMillis,
+        long historyId,
+        long historyMillis
+) {
+    public enum Kind {
+        COMMIT, SNAPSHOT_BALANCE, SNAPSHOT_HISTORY, SNAPSHOT_END, HEARTBEAT
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int NO_TYPE = -1;
+
+    public static ReplicationRecord commit(long version, PointCommittedEvent event) {
+        UserPoint userPoint = event.userPoint();
+        PointHistory pointHistory = event.pointHistory();
+        return new ReplicationRecord(version, Kind.COMMIT, userPoint.id(), event.type(), event.amount(),
+                userPoint.point(), userPoint.updateMillis(), pointHistory.id(), pointHistory.updateMillis());
+    }
+
+    public static ReplicationRecord balance(long version, UserPoint userPoint) {
+        return new ReplicationRecord(version, Kind.SNAPSHOT_BALANCE, userPoint.id(), null, 0L,
+                userPoint.point(), userPoint.updateMillis(), 0L, 0L);
+    }
+
+    public static ReplicationRecord history(long version, PointHistory pointHistory) {
+        return new ReplicationRecord(version, Kind.SNAPSHOT_HISTORY, pointHistory.userId(), pointHistory.type(),
+                pointHistory.amount(), 0L, 0L, pointHistory.id(), pointHistory.updateMillis());
+    }
+
+    public static ReplicationRecord snapshotEnd(long version) {
+        return new ReplicationRecord(version, Kind.SNAPSHOT_END, 0L, null, 0L, 0L, System.currentTimeMillis(), 0L, 0L);
+    }
+
+    public static ReplicationRecord heartbeat(long version) {
+        return new ReplicationRecord(version, Kind.HEARTBEAT, 0L, null, 0L, 0L, System.currentTimeMillis(), 0L, 0L);
+    }
+
+    public UserPoint userPoint() {
+        return new UserPoint(userId, point, updateMillis);
+    }
+
+    public PointHistory pointHistory() {
+        return new PointHistory(historyId, userId, amount, type, historyMillis);
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(version);
+        out.writeByte(kind.ordinal());
+        out.writeLong(userId);
+        out.writeByte(type == null ? NO_TYPE : type.ordinal());
+        out.writeLong(amount);
+        out.writeLong(point);
+        out.writeLong(updateMillis);
+        out.writeLong(historyId);
+        out.writeLong(historyMillis);
+    }
+
+    public static ReplicationRecord readFrom(DataInputStream in) throws IOException {
+        long version = in.readLong();
+        Kind kind = KINDS[in.readByte()];
+        long userId = in.readLong();
+        int type = in.readByte();
+        return new ReplicationRecord(version, kind, userId, type == NO_TYPE ? null : TYPES[type],
+                in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.replication;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 복제 모드에서 응답에 버전(X-Replication-Version)과 지연 시간(X-Replication-Lag-Millis)을 붙인다.
+ * - primary 는 응답 시점의 최신 버전을 알려주므로, 쓰기 응답의 버전을 follower 조회의 X-Min-Version 으로 쓸 수 있다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${point.replication.role:none}' != 'none'")
+public class ReplicationResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String VERSION_HEADER = "X-Replication-Version";
+    public static final String LAG_HEADER = "X-Replication-Lag-Millis";
+    static final String VERSION_ATTRIBUTE = ReplicationResponseAdvice.class.getName() + ".version";
+
+    private final ReplicationStatus replicationStatus;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        long version = replicationStatus.version();
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(VERSION_ATTRIBUTE) instanceof Long observed) {
+            version = observed;
+        }
+        response.getHeaders().set(VERSION_HEADER, String.valueOf(version));
+        response.getHeaders().set(LAG_HEADER, String.valueOf(replicationStatus.lagMillis()));
+        return body;
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.replication;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * primary 의 변경 스트림 TCP 서버
+ * - follower 는 접속 후 마지막으로 받은 로그의 epoch(long)와 다음에 받을 버전(long)을 보낸다.
+ *   primary 는 자신의 epoch(long)와 follower 가 상태를 비워야 하는지(boolean)를 답하고, 그 버전부터 레코드를 계속 보낸다.
+ * - epoch 가 다르거나(primary 재시작) 요청한 버전이 현재 버전보다 앞서 있으면, follower 가 가진 상태를 믿을 수 없으므로
+ *   비우게 한 뒤 전체 스냅샷부터 보낸다.
+ * - 요청한 버전이 로그에서 이미 밀려났으면 전체 스냅샷을 먼저 보낸 뒤 스냅샷 버전 다음부터 이어서 보낸다.
+ * - 보낼 변경이 없으면 heartbeatInterval 마다 HEARTBEAT 로 현재 버전과 시각을 알린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.replication", name = "role", havingValue = "primary")
+public class ReplicationServer {
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final ReplicationLog replicationLog;
+    private final PointService pointService;
+    private final ReplicationProperties properties;
+    private final Set<Socket> followers = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocket serverSocket;
+
+    public ReplicationServer(ReplicationLog replicationLog, PointService pointService, ReplicationProperties properties) {
+        this.replicationLog = replicationLog;
+        this.pointService = pointService;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(properties.port());
+        Thread acceptor = new Thread(this::acceptLoop, "replication-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("replication server started on port {}", serverSocket.getLocalPort());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        serverSocket.close();
+        for (Socket follower : followers) {
+            follower.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                followers.add(socket);
+                Thread sender = new Thread(() -> serve(socket), "replication-sender-" + socket.getRemoteSocketAddress());
+                sender.setDaemon(true);
+                sender.start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("replication accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            long followerEpoch = in.readLong();
+            long nextVersion = in.readLong();
+            boolean resync = (followerEpoch != 0L && followerEpoch != replicationLog.epoch())
+                    || nextVersion > replicationLog.version() + 1;
+            log.info("follower connected: {}, from version {}{}", socket.getRemoteSocketAddress(), nextVersion,
+                    resync ? " (resync: epoch " + followerEpoch + " -> " + replicationLog.epoch() + ")" : "");
+            out.writeLong(replicationLog.epoch());
+            out.writeBoolean(resync);
+            if (resync) {
+                nextVersion = sendSnapshot(out) + 1;
+            }
+            out.flush();
+            long heartbeatMillis = properties.heartbeatInterval().toMillis();
+            while (!socket.isClosed()) {
+                List<ReplicationRecord> records = replicationLog.read(nextVersion, BATCH_SIZE, heartbeatMillis);
+                if (records == null) {
+                    nextVersion = sendSnapshot(out) + 1;
+                } else if (records.isEmpty()) {
+                    ReplicationRecord.heartbeat(nextVersion - 1).writeTo(out);
+                } else {
+                    for (ReplicationRecord record : records) {
+                        record.writeTo(out);
+                    }
+                    nextVersion += records.size();
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.info("follower disconnected: {} ({})", socket.getRemoteSocketAddress(), e.getMessage());
+        } finally {
+            followers.remove(socket);
+        }
+    }
+
+    // 스냅샷 시작 전 버전을 기준으로 삼는다. 스냅샷 중에 반영된 변경은 이후 스트림으로 다시 전달되며,
+    // COMMIT 은 반영 후 잔고를 담고 내역은 ID 로 중복을 거르므로 두 번 적용돼도 결과가 같다.
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        long version = replicationLog.version();
+        log.info("sending snapshot at version {}", version);
+        for (Long userId : pointService.findAllUserIds()) {
+            PointSnapshot snapshot = pointService.findSnapshot(userId, Long.MAX_VALUE);
+            ReplicationRecord.balance(version, snapshot.userPoint()).writeTo(out);
+            for (PointHistory history : snapshot.histories()) {
+                ReplicationRecord.history(version, history).writeTo(out);
+            }
+        }
+        ReplicationRecord.snapshotEnd(version).writeTo(out);
+        return version;
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.replication;
+
+/**
+ * 응답 헤더로 알려줄 복제 상태
+ */
+public interface ReplicationStatus {
+
+    // 이 인스턴스에 반영된 마지막 변경 버전
+    long version();
+
+    // primary 대비 지연 시간 (primary 는 0)
+    long lagMillis();
+}
@@ -8,4 +8,36 @@ import java.util.List;
 public interface PointHistoryRepository {
     PointHistory save(long userId, long amount, TransactionType type, long updateMillis);
     List<PointHistory> findAllById(long userId);
+
+    /**
+     * 최근 limit 건의 내역을 시간순(오래된 것부터)으로 반환한다.
+     * 기본 구현은 findAllById 의 뒷부분을 잘라 내며, 최근 내역만 읽을 수 있는 저장소는 재정의한다.
+     */
+    default List<PointHistory> findRecentById(long userId, int limit) {
+        List<PointHistory> histories = findAllById(userId);
+        return histories.subList(Math.max(histories.size() - limit, 0), histories.size());
+    }
+
+    /**
+     * 이 프로세스의 PointService 를 거치지 않고도 내역이 추가될 수 있으면 true
+     * (다른 프로세스와 함께 쓰는 DB, primary 의 변경을 받아 채우는 복제본 등)
+     * 커밋 이벤트만으로는 이런 저장소의 최근 내역을 따라갈 수 없으므로 최근 내역 캐시를 쓰지 않는다.
+     */
+    default boolean externallyWritten() {
+        return false;
+    }
+
+    /**
+     * 정렬된 userIds[from, to) 유저들의 내역 합계(충전 - 사용 - 소멸)를 같은 순서로 반환한다.
+     * 기본 구현은 유저마다 findAllById 를 호출하며, 범위를 한 번에 훑을 수 있는 저장소는 재정의한다.
+     */
+    default long[] sumByUsers(long[] userIds, int from, int to) {
+        long[] sums = new long[to - from];
+        for (int i = from; i < to; i++) {
+            for (PointHistory history : findAllById(userIds[i])) {
+                sums[i - from] += history.type().signed(history.amount());
+            }
+        }
+        return sums;
+    }
 }
@@ -4,12 +4,14 @@ import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "table", matchIfMissing = true)
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
 
     private final PointHistoryTable pointHistoryTable;
@@ -2,7 +2,26 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.UserPoint;
 
+import java.util.Collection;
+
 public interface UserPointRepository {
     UserPoint findById(Long id);
+    // 조회한 version 과 상관없이 잔고를 덮어쓴다. (다른 인스턴스에서 옮겨 온 잔고 반영 등)
     UserPoint saveOrUpdate(long id, long amount);
+    Collection<Long> findAllIds();
+
+    // 잔고 단건 조회 API 의 조회. 응답 지연을 줄이기 위해 같은 조회를 한 번 더 실행할 수 있는 저장소는 재정의한다.
+    default UserPoint findForRead(Long id) {
+        return findById(id);
+    }
+
+    // 갱신 기준 version 과 함께 조회한다. 조회 후 갱신하는 쓰기 요청은 이 결과의 version 으로 update 를 호출한다.
+    default VersionedUserPoint findForUpdate(long id) {
+        return VersionedUserPoint.unversioned(findById(id));
+    }
+
+    // 저장된 version 이 expectedVersion 과 같을 때만 갱신하고, 갱신 후 version 과 함께 반환한다.
+    default VersionedUserPoint update(long id, long expectedVersion, long amount) {
+        return VersionedUserPoint.unversioned(saveOrUpdate(id, amount));
+    }
 }
@@ -2,22 +2,47 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.hedge.HedgedReader;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.balance", name = "store", havingValue = "table", matchIfMissing = true)
 public class UserPointRepositoryImpl implements UserPointRepository {
 
     private final UserPointTable userPointTable;
+    private final HedgedReader hedgedReader;
+    // UserPointTable 은 전체 조회 API 가 없으므로 저장된 유저 ID 를 따로 기록한다.
+    private final Set<Long> ids = new ConcurrentSkipListSet<>();
 
     @Override
     public UserPoint findById(Long id) {
         return userPointTable.selectById(id);
     }
 
+    // selectById 의 지연이 길어지면 같은 조회를 한 번 더 실행해 먼저 끝난 결과를 쓴다.
+    // 쓰기 요청의 조회, 감사, 상태 이전 등은 부하를 늘리지 않도록 findById 로 한 번만 조회한다.
+    @Override
+    public UserPoint findForRead(Long id) {
+        return hedgedReader.read(() -> userPointTable.selectById(id));
+    }
+
     @Override
     public UserPoint saveOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        ids.add(id);
+        return userPoint;
+    }
+
+    @Override
+    public Collection<Long> findAllIds() {
+        return Collections.unmodifiableSet(ids);
     }
 }
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 갱신 기준 version 과 함께 조회한 잔고
+ * - 조회한 version 을 그대로 UserPointRepository.update 에 넘겨, 그 사이 다른 요청이 잔고를 바꿨으면 갱신이 실패하게 한다.
+ * - version 을 관리하지 않는 저장소(UserPointTable)는 UNVERSIONED 를 담고, 갱신할 때 version 을 확인하지 않는다.
+ *
+ * @param userPoint 조회한 잔고
+ * @param version 조회한 시점의 version
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version
+) {
+
+    public static final long UNVERSIONED = -1L;
+
+    public static VersionedUserPoint unversioned(UserPoint userPoint) {
+        return new VersionedUserPoint(userPoint, UNVERSIONED);
+    }
+}
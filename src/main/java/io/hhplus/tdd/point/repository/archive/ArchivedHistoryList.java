@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.repository.archive;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 보관 세그먼트와 메모리(hot) 내역을 이어 붙인 읽기 전용 리스트
+ * - 보관 내역은 접근한 위치의 블록만 압축 해제하며, 마지막으로 푼 블록 하나를 재사용한다.
+ * - 한 요청 안에서 쓰이는 것을 전제로 하므로 스레드 간에 공유하지 않는다.
+ */
+final class ArchivedHistoryList extends AbstractList<PointHistory> implements RandomAccess {
+
+    private final List<PointHistorySegment> segments;
+    private final int[] segmentOffsets;
+    private final int archivedSize;
+    private final List<PointHistory> hot;
+
+    private PointHistorySegment cachedSegment;
+    private int cachedBlock = -1;
+    private PointHistory[] cachedEntries;
+
+    ArchivedHistoryList(List<PointHistorySegment> segments, List<PointHistory> hot) {
+        this.segments = segments;
+        this.segmentOffsets = new int[segments.size()];
+        int offset = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            segmentOffsets[i] = offset;
+            offset += segments.get(i).size();
+        }
+        this.archivedSize = offset;
+        this.hot = hot;
+    }
+
+    @Override
+    public PointHistory get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index >= archivedSize) {
+            return hot.get(index - archivedSize);
+        }
+        int s = segmentOf(index);
+        PointHistorySegment segment = segments.get(s);
+        int local = index - segmentOffsets[s];
+        int block = segment.blockOf(local);
+        if (segment != cachedSegment || block != cachedBlock) {
+            cachedEntries = segment.decodeBlock(block);
+            cachedSegment = segment;
+            cachedBlock = block;
+        }
+        return cachedEntries[local - segment.blockOffset(block)];
+    }
+
+    @Override
+    public int size() {
+        return archivedSize + hot.size();
+    }
+
+    private int segmentOf(int index) {
+        int low = 0;
+        int high = segmentOffsets.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segmentOffsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
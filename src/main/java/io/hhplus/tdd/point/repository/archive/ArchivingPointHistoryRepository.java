@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.repository.archive;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 내역은 메모리에 두고, 일정 기간이 지난 내역은 유저별 압축 세그먼트로 옮겨 보관하는 저장소
+ * - point.history.store=archive 일 때 사용한다.
+ * - 조회 시 보관 세그먼트와 최근 내역을 시간순으로 이어 붙여 반환한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "archive")
+public class ArchivingPointHistoryRepository implements PointHistoryRepository {
+
+    // 마지막 세그먼트가 이 블록 수보다 작으면 새로 보관할 내역을 덧붙여 합친다.
+    static final int MERGE_BLOCK_LIMIT = 64;
+
+    private final Map<Long, UserHistory> histories = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        histories.computeIfAbsent(userId, k -> new UserHistory()).append(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> findAllById(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+        return userHistory.view();
+    }
+
+    /**
+     * cutoffMillis 이전에 기록된 내역을 유저별 세그먼트로 옮긴다.
+     * @return 보관 처리된 내역 수
+     */
+    public int compact(long cutoffMillis) {
+        int archived = 0;
+        for (Map.Entry<Long, UserHistory> entry : histories.entrySet()) {
+            archived += entry.getValue().archive(entry.getKey(), cutoffMillis);
+        }
+        return archived;
+    }
+
+    // 유저의 보관 세그먼트 수
+    public int segmentCount(long userId) {
+        UserHistory userHistory = histories.get(userId);
+        return userHistory == null ? 0 : userHistory.segments.size();
+    }
+
+    // 유저 한 명의 보관 세그먼트와 최근 내역. 세그먼트 목록은 교체만 하므로 조회 시 복사 없이 공유한다.
+    // 압축하는 동안 잠금을 오래 잡으므로, 가상 스레드가 기다리며 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+    private static final class UserHistory {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile List<PointHistorySegment> segments = List.of();
+        private final List<PointHistory> hot = new ArrayList<>();
+
+        void append(PointHistory pointHistory) {
+            lock.lock();
+            try {
+                hot.add(pointHistory);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<PointHistory> view() {
+            lock.lock();
+            try {
+                List<PointHistory> hotSnapshot = List.copyOf(hot);
+                if (segments.isEmpty()) {
+                    return hotSnapshot;
+                }
+                return new ArchivedHistoryList(segments, hotSnapshot);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int archive(long userId, long cutoffMillis) {
+            lock.lock();
+            try {
+                int count = 0;
+                while (count < hot.size() && hot.get(count).updateMillis() < cutoffMillis) {
+                    count++;
+                }
+                if (count == 0) {
+                    return 0;
+                }
+                List<PointHistory> aged = hot.subList(0, count);
+                List<PointHistorySegment> next = new ArrayList<>(segments.size() + 1);
+                next.addAll(segments);
+                PointHistorySegment last = next.isEmpty() ? null : next.get(next.size() - 1);
+                if (last != null && last.blockCount() < MERGE_BLOCK_LIMIT) {
+                    // 압축할 때마다 세그먼트가 늘어나 조회가 느려지지 않도록 작은 마지막 세그먼트에 합친다.
+                    next.set(next.size() - 1, last.append(aged));
+                } else {
+                    next.add(PointHistorySegment.of(userId, aged));
+                }
+                segments = List.copyOf(next);
+                aged.clear();
+                return count;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
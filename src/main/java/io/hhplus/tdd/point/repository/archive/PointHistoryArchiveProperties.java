@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.repository.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 보관 설정
+ * @param age 메모리에 유지할 기간. 이보다 오래된 내역은 압축 세그먼트로 옮긴다.
+ * @param compactionInterval 보관 작업 실행 간격
+ */
+@ConfigurationProperties("point.history.archive")
+public record PointHistoryArchiveProperties(
+        @DefaultValue("30d") Duration age,
+        @DefaultValue("PT10M") Duration compactionInterval
+) {
+}
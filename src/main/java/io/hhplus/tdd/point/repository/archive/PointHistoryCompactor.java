@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.repository.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설정된 기간이 지난 포인트 내역을 주기적으로 압축 세그먼트로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "archive")
+public class PointHistoryCompactor {
+
+    private final ArchivingPointHistoryRepository archivingPointHistoryRepository;
+    private final PointHistoryArchiveProperties properties;
+
+    @Scheduled(fixedDelayString = "${point.history.archive.compaction-interval:PT10M}")
+    public void compact() {
+        long startTime = System.currentTimeMillis();
+        int archived = archivingPointHistoryRepository.compact(startTime - properties.age().toMillis());
+        log.info("point history compacted: {} entries, time taken: {} ms", archived, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,249 @@
+package io.hhplus.tdd.point.repository.archive;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 한 유저의 오래된 포인트 내역을 압축 블록 단위로 보관하는 불변 세그먼트
+ * - 블록 내부는 id, 금액, 시각을 직전 값과의 차이(delta)로 저장하고 zigzag varint 로 인코딩한 뒤 deflate 로 압축한다.
+ * - 블록별 건수와 시각 범위만 메모리 인덱스로 유지하고, 실제 내역은 필요한 블록만 조회 시점에 풀어낸다.
+ */
+public final class PointHistorySegment {
+
+    static final int BLOCK_SIZE = 128; // 블록당 최대 내역 수
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final long userId;
+    private final byte[][] blocks;     // 압축된 블록
+    private final int[] blockOffsets;  // 블록 시작 위치 (세그먼트 내 누적 건수)
+    private final long[] firstMillis;  // 블록의 첫 내역 시각
+    private final long[] lastMillis;   // 블록의 마지막 내역 시각
+    private final int size;
+
+    private PointHistorySegment(long userId, byte[][] blocks, int[] blockOffsets,
+                                long[] firstMillis, long[] lastMillis, int size) {
+        this.userId = userId;
+        this.blocks = blocks;
+        this.blockOffsets = blockOffsets;
+        this.firstMillis = firstMillis;
+        this.lastMillis = lastMillis;
+        this.size = size;
+    }
+
+    // 시간순으로 정렬된 한 유저의 내역으로 세그먼트를 만든다.
+    public static PointHistorySegment of(long userId, List<PointHistory> histories) {
+        int blockCount = (histories.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        byte[][] blocks = new byte[blockCount][];
+        int[] blockOffsets = new int[blockCount];
+        long[] firstMillis = new long[blockCount];
+        long[] lastMillis = new long[blockCount];
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (int b = 0; b < blockCount; b++) {
+                int from = b * BLOCK_SIZE;
+                int to = Math.min(from + BLOCK_SIZE, histories.size());
+                List<PointHistory> block = histories.subList(from, to);
+                blocks[b] = compress(deflater, encode(block));
+                blockOffsets[b] = from;
+                firstMillis[b] = block.get(0).updateMillis();
+                lastMillis[b] = block.get(block.size() - 1).updateMillis();
+            }
+        } finally {
+            deflater.end();
+        }
+        return new PointHistorySegment(userId, blocks, blockOffsets, firstMillis, lastMillis, histories.size());
+    }
+
+    /**
+     * 이 세그먼트 뒤에 시간순으로 이어지는 내역을 덧붙인 새 세그먼트를 만든다.
+     * 가득 찬 블록은 압축된 그대로 재사용하고, 마지막 미완성 블록만 새 내역과 함께 다시 인코딩한다.
+     */
+    public PointHistorySegment append(List<PointHistory> histories) {
+        int last = blocks.length - 1;
+        boolean lastBlockFull = size - blockOffsets[last] == BLOCK_SIZE;
+        int reused = lastBlockFull ? blocks.length : last;
+        int base = lastBlockFull ? size : blockOffsets[last];
+        List<PointHistory> tail = new ArrayList<>(BLOCK_SIZE + histories.size());
+        if (!lastBlockFull) {
+            tail.addAll(Arrays.asList(decodeBlock(last)));
+        }
+        tail.addAll(histories);
+        PointHistorySegment tailSegment = of(userId, tail);
+
+        int blockCount = reused + tailSegment.blocks.length;
+        byte[][] mergedBlocks = Arrays.copyOf(blocks, blockCount);
+        int[] mergedOffsets = Arrays.copyOf(blockOffsets, blockCount);
+        long[] mergedFirstMillis = Arrays.copyOf(firstMillis, blockCount);
+        long[] mergedLastMillis = Arrays.copyOf(lastMillis, blockCount);
+        for (int b = 0; b < tailSegment.blocks.length; b++) {
+            mergedBlocks[reused + b] = tailSegment.blocks[b];
+            mergedOffsets[reused + b] = base + tailSegment.blockOffsets[b];
+            mergedFirstMillis[reused + b] = tailSegment.firstMillis[b];
+            mergedLastMillis[reused + b] = tailSegment.lastMillis[b];
+        }
+        return new PointHistorySegment(userId, mergedBlocks, mergedOffsets,
+                mergedFirstMillis, mergedLastMillis, base + tailSegment.size);
+    }
+
+    // 모든 블록의 압축을 풀어 시간순 내역으로 복원한다.
+    public List<PointHistory> histories() {
+        List<PointHistory> histories = new ArrayList<>(size);
+        for (int b = 0; b < blocks.length; b++) {
+            histories.addAll(Arrays.asList(decodeBlock(b)));
+        }
+        return histories;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int blockCount() {
+        return blocks.length;
+    }
+
+    public long firstMillis() {
+        return firstMillis[0];
+    }
+
+    public long lastMillis() {
+        return lastMillis[lastMillis.length - 1];
+    }
+
+    // 세그먼트 내 index 번째 내역이 속한 블록 번호
+    int blockOf(int index) {
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (blockOffsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    int blockOffset(int block) {
+        return blockOffsets[block];
+    }
+
+    // 블록 하나의 압축을 풀어 내역으로 복원한다.
+    PointHistory[] decodeBlock(int block) {
+        int count = (block + 1 < blockOffsets.length ? blockOffsets[block + 1] : size) - blockOffsets[block];
+        byte[] raw = decompress(blocks[block]);
+        PointHistory[] histories = new PointHistory[count];
+        int[] pos = {0};
+        long id = 0;
+        long amount = 0;
+        long millis = 0;
+        for (int i = 0; i < count; i++) {
+            id += readVarLong(raw, pos);
+            amount += readVarLong(raw, pos);
+            millis += readVarLong(raw, pos);
+            TransactionType type = TYPES[raw[pos[0]++]];
+            histories[i] = new PointHistory(id, userId, amount, type, millis);
+        }
+        return histories;
+    }
+
+    // 직전 값과의 차이를 zigzag varint 로 기록한다. 첫 내역은 0 과의 차이, 즉 원래 값이 기록된다.
+    private static byte[] encode(List<PointHistory> block) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(block.size() * 8);
+        long id = 0;
+        long amount = 0;
+        long millis = 0;
+        for (PointHistory history : block) {
+            writeVarLong(out, history.id() - id);
+            writeVarLong(out, history.amount() - amount);
+            writeVarLong(out, history.updateMillis() - millis);
+            out.write(history.type().ordinal());
+            id = history.id();
+            amount = history.amount();
+            millis = history.updateMillis();
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(byte[] raw, int[] pos) {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = raw[pos[0]++];
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static byte[] compress(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+        byte[] buffer = new byte[512];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            out.write(buffer, 0, n);
+        }
+        // 원본 길이를 앞에 붙여 압축 해제 시 버퍼를 한 번에 할당한다.
+        byte[] compressed = out.toByteArray();
+        byte[] framed = new byte[compressed.length + 4];
+        framed[0] = (byte) (raw.length >>> 24);
+        framed[1] = (byte) (raw.length >>> 16);
+        framed[2] = (byte) (raw.length >>> 8);
+        framed[3] = (byte) raw.length;
+        System.arraycopy(compressed, 0, framed, 4, compressed.length);
+        return framed;
+    }
+
+    private static byte[] decompress(byte[] framed) {
+        int length = ((framed[0] & 0xFF) << 24) | ((framed[1] & 0xFF) << 16)
+                | ((framed[2] & 0xFF) << 8) | (framed[3] & 0xFF);
+        byte[] raw = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(framed, 4, framed.length - 4);
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalStateException("손상된 포인트 내역 블록입니다.");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 포인트 내역 블록입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.repository.hedge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔고 조회 hedging 설정
+ * @param enabled false 면 조회를 호출 스레드에서 그대로 실행한다. 두 번째 조회만큼 부하가 늘어나므로 기본값은 false 다.
+ * @param quantile 이 분위수의 최근 조회 시간이 지나도 응답이 없으면 두 번째 조회를 시작한다.
+ * @param budgetPercent 두 번째 조회는 전체 조회의 이 비율까지만 허용한다.
+ * @param minDelay 두 번째 조회까지 기다리는 최소 시간 (표본이 적거나 조회가 매우 빠를 때)
+ * @param samples 분위수를 계산할 최근 조회 시간 표본 수
+ * @param maxThreads 조회를 실행하는 최대 스레드 수. 모두 사용 중이면 호출 스레드에서 hedging 없이 조회한다.
+ */
+@ConfigurationProperties("point.hedge")
+public record HedgeProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.9") double quantile,
+        @DefaultValue("10") int budgetPercent,
+        @DefaultValue("5ms") Duration minDelay,
+        @DefaultValue("1024") int samples,
+        @DefaultValue("256") int maxThreads
+) {
+}
@@ -0,0 +1,182 @@
+package io.hhplus.tdd.point.repository.hedge;
+
+import io.hhplus.tdd.ExecutionMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 조회가 최근 조회 시간의 분위수(기본 p90)를 넘기면 같은 조회를 한 번 더 실행하고 먼저 끝난 결과를 쓴다.
+ * - 두 번째 조회는 토큰 버킷으로 전체 조회의 budgetPercent 이내로 제한한다.
+ * - 늦게 끝난 쪽은 인터럽트로 취소한다.
+ * - 읽기 전용이고 몇 번 실행해도 결과가 같은 조회에만 사용한다. 지금은 잔고 단건 조회 API 의 조회(UserPointRepository.findForRead)만 쓴다.
+ * - 조회 스레드는 maxThreads 개까지만 만든다. 모두 사용 중이면 첫 조회는 호출 스레드에서 그대로 실행하고, 두 번째 조회는 하지 않는다.
+ */
+@Component
+public class HedgedReader {
+
+    private static final long TOKEN = 1_000L;            // 두 번째 조회 한 번에 필요한 토큰 (milli-token)
+    private static final long MAX_TOKENS = 10 * TOKEN;   // 한꺼번에 허용할 수 있는 두 번째 조회 수
+    private static final int RECOMPUTE_INTERVAL = 64;    // 이 횟수마다 분위수를 다시 계산한다.
+
+    private final HedgeProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLongArray samples;               // 최근 조회 응답 시간 (nanos) 링 버퍼
+    private final AtomicInteger sampleCursor = new AtomicInteger();
+    private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+    private volatile long hedgeDelayNanos;
+
+    private final Timer latency;
+    private final Counter hedged;
+    private final Counter hedgeWon;
+    private final Counter budgetExhausted;
+    private final Counter saturated;
+
+    public HedgedReader(HedgeProperties properties, MeterRegistry meterRegistry, ExecutionMode executionMode) {
+        this.properties = properties;
+        this.samples = new AtomicLongArray(properties.samples());
+        this.hedgeDelayNanos = properties.minDelay().toNanos();
+        // 조회마다 스레드 하나가 throttle 동안 잠들어 있으므로, 가상 스레드 모드에서는 가상 스레드로 실행한다.
+        this.executor = new ThreadPoolExecutor(0, properties.maxThreads(), 30, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), executionMode.threadFactory("point-hedged-read-"));
+        this.latency = Timer.builder("point.read.latency")
+                .description("잔고 조회 응답 시간 (hedging 포함)")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.hedged = Counter.builder("point.read.hedged").description("두 번째 조회를 시작한 횟수").register(meterRegistry);
+        this.hedgeWon = Counter.builder("point.read.hedge.won").description("두 번째 조회가 먼저 끝난 횟수").register(meterRegistry);
+        this.budgetExhausted = Counter.builder("point.read.hedge.budget.exhausted")
+                .description("예산이 없어 두 번째 조회를 하지 못한 횟수").register(meterRegistry);
+        this.saturated = Counter.builder("point.read.hedge.saturated")
+                .description("조회 스레드가 모두 사용 중이라 hedging 없이 조회한 횟수").register(meterRegistry);
+        Gauge.builder("point.read.hedge.delay", this, reader -> reader.hedgeDelayNanos / 1_000_000.0)
+                .description("두 번째 조회까지 기다리는 시간 (ms)").register(meterRegistry);
+    }
+
+    public <T> T read(Supplier<T> lookup) {
+        if (!properties.enabled()) {
+            return lookup.get();
+        }
+        long startTime = System.nanoTime();
+        addBudget();
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        Future<?> primary;
+        try {
+            primary = executor.submit(() -> attempt(lookup, winner, false));
+        } catch (RejectedExecutionException e) {
+            saturated.increment();
+            return lookup.get();
+        }
+        T result;
+        try {
+            try {
+                result = winner.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                Future<?> hedge = null;
+                if (tryAcquireBudget()) {
+                    try {
+                        hedge = executor.submit(() -> attempt(lookup, winner, true));
+                        hedged.increment();
+                    } catch (RejectedExecutionException rejected) {
+                        tokens.addAndGet(TOKEN); // 두 번째 조회를 하지 않았으므로 예산을 돌려준다.
+                        saturated.increment();
+                    }
+                } else {
+                    budgetExhausted.increment();
+                }
+                try {
+                    result = winner.get();
+                } finally {
+                    // 늦게 끝난 쪽을 취소한다. (UserPointTable 의 지연은 인터럽트되면 바로 끝난다)
+                    primary.cancel(true);
+                    if (hedge != null) {
+                        hedge.cancel(true);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new IllegalStateException("조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+        long elapsed = System.nanoTime() - startTime;
+        latency.record(elapsed, TimeUnit.NANOSECONDS);
+        recordSample(elapsed);
+        return result;
+    }
+
+    // 현재 두 번째 조회를 시작하기까지 기다리는 시간
+    public long hedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void attempt(Supplier<T> lookup, CompletableFuture<T> winner, boolean hedge) {
+        try {
+            T result = lookup.get();
+            if (winner.complete(result) && hedge) {
+                hedgeWon.increment();
+            }
+        } catch (RuntimeException e) {
+            winner.completeExceptionally(e);
+        }
+    }
+
+    private void recordSample(long nanos) {
+        int index = sampleCursor.getAndIncrement();
+        samples.set(Math.floorMod(index, samples.length()), nanos);
+        if (index % RECOMPUTE_INTERVAL == RECOMPUTE_INTERVAL - 1) {
+            recomputeDelay(Math.min(index + 1, samples.length()));
+        }
+    }
+
+    private void recomputeDelay(int count) {
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        long quantile = sorted[Math.min((int) (count * properties.quantile()), count - 1)];
+        hedgeDelayNanos = Math.max(quantile, properties.minDelay().toNanos());
+    }
+
+    private void addBudget() {
+        long refill = TOKEN * properties.budgetPercent() / 100;
+        tokens.getAndUpdate(current -> Math.min(current + refill, MAX_TOKENS));
+    }
+
+    private boolean tryAcquireBudget() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.repository.jdbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * JDBC 내역 저장소 설정
+ * @param batchSize 한 번의 배치 INSERT 에 묶는 최대 내역 수
+ */
+@ConfigurationProperties("point.history.jdbc")
+public record JdbcHistoryProperties(
+        @DefaultValue("256") int batchSize
+) {
+}
@@ -0,0 +1,181 @@
+package io.hhplus.tdd.point.repository.jdbc;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * H2 point_history 테이블에 내역을 저장하는 저장소 (point.history.store=jdbc)
+ * - 여러 요청의 INSERT 를 쓰기 스레드 하나가 모아 배치 문장 하나, 트랜잭션 하나로 실행한다.
+ *   앞선 배치를 실행하는 동안 쌓인 요청이 다음 배치가 되므로, 동시 요청이 많을수록 배치가 커진다.
+ * - save() 는 자신이 속한 배치가 커밋된 뒤에 반환하므로 반환 후 조회하면 저장된 내역이 보인다.
+ * - 종료(stop) 후의 save() 는 바로 실패한다. 종료할 때 쓰기 스레드는 실행 중인 배치까지만 커밋하고, 큐에 남은 요청은 실패시킨다.
+ * - ID 는 DB 의 identity 컬럼이 발급한다. 같은 DB 를 쓰는 여러 프로세스가 동시에 저장해도 겹치지 않는다.
+ * - 다른 프로세스가 같은 DB 에 저장할 수 있으므로 최근 내역은 캐시하지 않고 (user_id, id) 인덱스로 최근 limit 건만 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "jdbc")
+public class JdbcPointHistoryRepository implements PointHistoryRepository {
+
+    private static final String INSERT =
+            "INSERT INTO point_history (user_id, amount, type, update_millis) VALUES (?, ?, ?, ?)";
+    private static final String[] GENERATED_COLUMNS = {"id"};
+    private static final String STOPPED = "포인트 내역 저장소가 종료되었습니다.";
+    private static final String SELECT =
+            "SELECT id, user_id, amount, type, update_millis FROM point_history WHERE user_id = ? ORDER BY id";
+    private static final String SELECT_RECENT =
+            "SELECT id, user_id, amount, type, update_millis FROM point_history WHERE user_id = ? ORDER BY id DESC LIMIT ?";
+    private static final String SUM_BY_USERS =
+            "SELECT user_id, SUM(CASE type WHEN 'CHARGE' THEN amount ELSE -amount END) FROM point_history "
+                    + "WHERE user_id BETWEEN ? AND ? GROUP BY user_id";
+
+    private static final RowMapper<PointHistory> HISTORY_ROW = (rs, rowNum) -> new PointHistory(rs.getLong(1),
+            rs.getLong(2), rs.getLong(3), TransactionType.valueOf(rs.getString(4)), rs.getLong(5));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+    private final Thread writer = new Thread(this::writeLoop, "point-history-batch-writer");
+    private volatile boolean running = true;
+
+    public JdbcPointHistoryRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                      JdbcHistoryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = properties.batchSize();
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!running) {
+            throw new IllegalStateException(STOPPED);
+        }
+        PendingInsert pending = new PendingInsert(userId, amount, type, updateMillis, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException(STOPPED); // 넣는 사이 종료되었다. 꺼내지 못했으면 stop() 이 실패 처리한다.
+        }
+        try {
+            return new PointHistory(pending.id().join(), userId, amount, type, updateMillis);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public List<PointHistory> findAllById(long userId) {
+        return jdbcTemplate.query(SELECT, HISTORY_ROW, userId);
+    }
+
+    @Override
+    public List<PointHistory> findRecentById(long userId, int limit) {
+        List<PointHistory> histories = new ArrayList<>(jdbcTemplate.query(SELECT_RECENT, HISTORY_ROW, userId, limit));
+        Collections.reverse(histories);
+        return histories;
+    }
+
+    @Override
+    public boolean externallyWritten() {
+        return true;
+    }
+
+    // 유저 ID 범위를 인덱스로 한 번 훑어 유저별 합계를 구한다. 범위 안이지만 요청하지 않은 유저의 합계는 버린다.
+    @Override
+    public long[] sumByUsers(long[] userIds, int from, int to) {
+        long[] sums = new long[to - from];
+        jdbcTemplate.query(SUM_BY_USERS, rs -> {
+            int index = Arrays.binarySearch(userIds, from, to, rs.getLong(1));
+            if (index >= 0) {
+                sums[index - from] = rs.getLong(2);
+            }
+        }, userIds[from], userIds[to - 1]);
+        return sums;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join();
+        PendingInsert pending;
+        while ((pending = queue.poll()) != null) {
+            pending.id().completeExceptionally(new IllegalStateException(STOPPED));
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingInsert> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return; // 종료 중이다. 큐에 남은 요청은 stop() 이 실패 처리한다.
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT, GENERATED_COLUMNS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            PendingInsert pending = batch.get(i);
+                            ps.setLong(1, pending.userId());
+                            ps.setLong(2, pending.amount());
+                            ps.setString(3, pending.type().name());
+                            ps.setLong(4, pending.updateMillis());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder));
+            // 발급된 ID 는 배치에 넣은 순서대로 돌아온다.
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).id().complete(((Number) keys.get(i).values().iterator().next()).longValue());
+            }
+        } catch (RuntimeException e) {
+            log.error("point history batch insert failed: {} entries", batch.size(), e);
+            batch.forEach(pending -> pending.id().completeExceptionally(e));
+        }
+    }
+
+    private record PendingInsert(long userId, long amount, TransactionType type, long updateMillis,
+                                 CompletableFuture<Long> id) {
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.repository.jdbc;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * H2 user_point 테이블에 잔고를 저장하는 저장소 (point.balance.store=jdbc)
+ * - findForUpdate 로 조회한 version 을 update 에 넘기면 UPDATE ... WHERE version=? 로 갱신한다.
+ *   그 사이 다른 프로세스가 잔고를 바꿨다면 갱신이 실패한다.
+ * - saveOrUpdate 는 version 을 확인하지 않고 덮어쓴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.balance", name = "store", havingValue = "jdbc")
+public class JdbcUserPointRepository implements UserPointRepository {
+
+    private static final String SELECT = "SELECT point, version, update_millis FROM user_point WHERE id = ?";
+    private static final String UPDATE =
+            "UPDATE user_point SET point = ?, version = version + 1, update_millis = ? WHERE id = ? AND version = ?";
+    private static final String OVERWRITE =
+            "UPDATE user_point SET point = ?, version = version + 1, update_millis = ? WHERE id = ?";
+    private static final String INSERT = "INSERT INTO user_point (id, point, version, update_millis) VALUES (?, ?, 1, ?)";
+    private static final long NEW = 0L; // 아직 행이 없는 유저의 version
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUserPointRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public UserPoint findById(Long id) {
+        return findForUpdate(id).userPoint();
+    }
+
+    @Override
+    public VersionedUserPoint findForUpdate(long id) {
+        List<long[]> rows = jdbcTemplate.query(SELECT,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, id);
+        if (rows.isEmpty()) {
+            return new VersionedUserPoint(UserPoint.empty(id), NEW);
+        }
+        long[] row = rows.get(0);
+        return new VersionedUserPoint(new UserPoint(id, row[0], row[2]), row[1]);
+    }
+
+    @Override
+    public VersionedUserPoint update(long id, long expectedVersion, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        if (expectedVersion == NEW) {
+            try {
+                jdbcTemplate.update(INSERT, id, amount, updateMillis);
+            } catch (DuplicateKeyException e) {
+                throw new OptimisticLockingFailureException("다른 요청이 먼저 유저 포인트를 생성했습니다: " + id, e);
+            }
+        } else if (jdbcTemplate.update(UPDATE, amount, updateMillis, id, expectedVersion) == 0) {
+            throw new OptimisticLockingFailureException("다른 요청이 먼저 유저 포인트를 변경했습니다: " + id);
+        }
+        return new VersionedUserPoint(new UserPoint(id, amount, updateMillis), expectedVersion + 1);
+    }
+
+    @Override
+    public UserPoint saveOrUpdate(long id, long amount) {
+        long updateMillis = System.currentTimeMillis();
+        if (jdbcTemplate.update(OVERWRITE, amount, updateMillis, id) == 0) {
+            try {
+                jdbcTemplate.update(INSERT, id, amount, updateMillis);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(OVERWRITE, amount, updateMillis, id); // 그 사이 다른 요청이 행을 만들었다.
+            }
+        }
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    @Override
+    public Collection<Long> findAllIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM user_point ORDER BY id", Long.class);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.repository.sharded;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 샤드 내역 저장소 설정
+ * @param shards 샤드 수 (2의 거듭제곱으로 올림). 샤드가 다른 유저의 쓰기는 서로 경합하지 않는다.
+ */
+@ConfigurationProperties("point.history.sharded")
+public record ShardedHistoryProperties(
+        @DefaultValue("64") int shards
+) {
+}
@@ -0,0 +1,128 @@
+package io.hhplus.tdd.point.repository.sharded;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저를 샤드로 나누어 샤드마다 독립적으로 ID 를 발급하고 유저별 append-only 로그에 저장하는 저장소
+ * - point.history.store=sharded 일 때 사용한다.
+ * - ID 는 샤드 번호에서 시작해 샤드 수 간격으로 증가하므로 샤드끼리 겹치지 않는다.
+ *   같은 유저의 내역은 항상 같은 샤드에 있으므로 유저별로는 ID 가 증가하는 순서와 저장 순서가 같다.
+ * - 조회는 락 없이 로그에 공개된 길이까지만 복사한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "sharded")
+public class ShardedPointHistoryRepository implements PointHistoryRepository {
+
+    private final Shard[] shards;
+    private final int mask;
+    private final Map<Long, UserLog> logs = new ConcurrentHashMap<>();
+
+    public ShardedPointHistoryRepository(ShardedHistoryProperties properties) {
+        int count = Integer.highestOneBit(Math.max(properties.shards() - 1, 1)) << 1;
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i);
+        }
+        this.mask = count - 1;
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        Shard shard = shards[shardOf(userId)];
+        UserLog userLog = logs.computeIfAbsent(userId, k -> new UserLog());
+        shard.lock.lock();
+        try {
+            PointHistory pointHistory = new PointHistory(shard.nextId(shards.length), userId, amount, type, updateMillis);
+            userLog.append(pointHistory);
+            return pointHistory;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> findAllById(long userId) {
+        UserLog userLog = logs.get(userId);
+        if (userLog == null) {
+            return List.of();
+        }
+        return userLog.view();
+    }
+
+    // 유저별 로그를 복사하지 않고 공개된 길이까지 더한다.
+    @Override
+    public long[] sumByUsers(long[] userIds, int from, int to) {
+        long[] sums = new long[to - from];
+        for (int i = from; i < to; i++) {
+            UserLog userLog = logs.get(userIds[i]);
+            if (userLog != null) {
+                sums[i - from] = userLog.sum();
+            }
+        }
+        return sums;
+    }
+
+    private int shardOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long nextId;
+
+        Shard(int index) {
+            this.nextId = index + 1L;
+        }
+
+        // 샤드 락을 잡은 상태에서 호출한다.
+        long nextId(int stride) {
+            long id = nextId;
+            nextId += stride;
+            return id;
+        }
+    }
+
+    // 쓰기는 샤드 락 안에서만 일어난다. 원소를 쓰고 배열을 교체한 뒤 size 를 늘려 공개하므로,
+    // size 를 먼저 읽은 조회는 그 길이까지의 원소를 온전하게 본다.
+    private static final class UserLog {
+        private volatile PointHistory[] entries = new PointHistory[4];
+        private volatile int size;
+
+        void append(PointHistory pointHistory) {
+            PointHistory[] current = entries;
+            int n = size;
+            if (n == current.length) {
+                current = Arrays.copyOf(current, n * 2);
+                entries = current;
+            }
+            current[n] = pointHistory;
+            size = n + 1;
+        }
+
+        List<PointHistory> view() {
+            int n = size;
+            return List.of(Arrays.copyOf(entries, n));
+        }
+
+        long sum() {
+            int n = size;
+            PointHistory[] current = entries;
+            long sum = 0L;
+            for (int i = 0; i < n; i++) {
+                sum += current[i].type().signed(current[i].amount());
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 포인트 API 설정
+ * @param workers 테이블 조회/저장을 실행하는 최대 스레드 수. 처리량 한도는 workers / 평균 처리 시간이다.
+ *                기본값(512)은 측정값이 아니라 여유를 둔 상한이다. 환경마다 부하 테스트로 정한다.
+ *                (예: gradle loadTest -PloadArgs="rate=5000 app.point.async.workers=16" 로 workers 를 바꿔 가며
+ *                p99 와 503 비율이 목표 안에 드는 가장 작은 값)
+ * @param maxPending 실행을 기다리는 최대 작업 수. 넘치면 503 으로 응답한다.
+ * @param queueTimeout 실행을 기다리는 최대 시간. 넘긴 작업은 실행하지 않고 503 으로 응답한다.
+ */
+@ConfigurationProperties("point.async")
+public record AsyncPointProperties(
+        @DefaultValue("512") int workers,
+        @DefaultValue("100000") int maxPending,
+        @DefaultValue("5s") Duration queueTimeout
+) {
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointResult;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PointService 의 비동기 API. 호출 스레드(요청 스레드)는 작업을 맡기고 바로 반환된다.
+ * - 충전/사용은 유저별 메일박스로 순서대로 실행해, 같은 유저의 요청이 몰려도 락을 기다리는 스레드가 생기지 않는다.
+ *   메일박스 작업은 PointService 의 유저 락을 그대로 잡으므로 소멸/스냅샷 조회 같은 동기 호출과도 배타적으로 실행된다.
+ * - 조회는 기존과 같이 락 없이 실행기에서 바로 실행한다.
+ * - 테이블 호출은 여전히 블로킹이므로 대기 시간은 workers 스레드가 나눠 진다. (가상 스레드 모드에서는 가상 스레드)
+ *   처리량은 최대 workers / 작업 하나의 처리 시간이다. 이 한도를 넘는 요청은 maxPending 까지 쌓였다가 503 으로 거절된다.
+ */
+@Service
+public class AsyncPointService {
+
+    private final PointService pointService;
+    private final AsyncPointProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, UserMailbox> mailboxes = new ConcurrentHashMap<>(); // 작업이 남은 유저만 둔다.
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public AsyncPointService(PointService pointService, AsyncPointProperties properties, ExecutionMode executionMode) {
+        this.pointService = pointService;
+        this.properties = properties;
+        // 대기 작업 수는 pending 으로 제한하므로 실행기 큐는 제한하지 않는다.
+        this.executor = new ThreadPoolExecutor(properties.workers(), properties.workers(),
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                executionMode.threadFactory("point-async-"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public CompletableFuture<PointResult> chargeAsync(long id, long amount) {
+        return enqueue(id, () -> pointService.tryCharge(id, amount));
+    }
+
+    public CompletableFuture<PointResult> useAsync(long id, long amount) {
+        return enqueue(id, () -> pointService.tryUse(id, amount));
+    }
+
+    public CompletableFuture<UserPoint> findPointAsync(long id) {
+        return submit(() -> pointService.findPoint(id));
+    }
+
+    public CompletableFuture<List<PointHistory>> findHistoryAsync(long id) {
+        return submit(() -> pointService.findHistory(id));
+    }
+
+    public CompletableFuture<List<PointHistory>> findRecentHistoryAsync(long id, int limit) {
+        return submit(() -> pointService.findRecentHistory(id, limit));
+    }
+
+    // 실행을 기다리는 작업 수
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    // 작업이 남아 있는 유저 메일박스 수 (비면 정리된다.)
+    public int mailboxCount() {
+        return mailboxes.size();
+    }
+
+    private <T> CompletableFuture<T> enqueue(long id, Supplier<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (reserve(future)) {
+            long deadline = System.nanoTime() + properties.queueTimeout().toNanos();
+            UserMailbox.submit(mailboxes, id, executor, () -> run(operation, future, deadline));
+        }
+        return future;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (reserve(future)) {
+            long deadline = System.nanoTime() + properties.queueTimeout().toNanos();
+            executor.execute(() -> run(operation, future, deadline));
+        }
+        return future;
+    }
+
+    private boolean reserve(CompletableFuture<?> future) {
+        if (pending.incrementAndGet() > properties.maxPending()) {
+            pending.decrementAndGet();
+            future.completeExceptionally(new PointOverloadedException("처리 대기 중인 요청이 많아 요청을 받을 수 없습니다."));
+            return false;
+        }
+        return true;
+    }
+
+    // 대기 시간을 넘긴 작업은 실행하지 않는다. 시작한 작업은 끝까지 실행한다.
+    private <T> void run(Supplier<T> operation, CompletableFuture<T> future, long deadline) {
+        pending.decrementAndGet();
+        if (System.nanoTime() - deadline > 0) {
+            future.completeExceptionally(new PointOverloadedException("대기 시간 안에 요청을 처리하지 못했습니다."));
+            return;
+        }
+        try {
+            future.complete(operation.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
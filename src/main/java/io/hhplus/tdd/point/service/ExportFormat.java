@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 잔고/내역 일괄 내보내기 형식
+ * - CSV : record 컬럼으로 잔고(balance)와 내역(history) 행을 구분한다.
+ * - NDJSON : 한 줄에 JSON 객체 하나를 기록한다.
+ */
+public enum ExportFormat {
+    CSV("text/csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("record,user_id,history_id,amount,type,point,update_millis\n");
+        }
+
+        @Override
+        void writeBalance(Writer writer, UserPoint userPoint) throws IOException {
+            writer.write("balance,");
+            writer.write(Long.toString(userPoint.id()));
+            writer.write(",,,,");
+            writer.write(Long.toString(userPoint.point()));
+            writer.write(',');
+            writer.write(Long.toString(userPoint.updateMillis()));
+            writer.write('\n');
+        }
+
+        @Override
+        void writeHistory(Writer writer, PointHistory pointHistory) throws IOException {
+            writer.write("history,");
+            writer.write(Long.toString(pointHistory.userId()));
+            writer.write(',');
+            writer.write(Long.toString(pointHistory.id()));
+            writer.write(',');
+            writer.write(Long.toString(pointHistory.amount()));
+            writer.write(',');
+            writer.write(pointHistory.type().name());
+            writer.write(',');
+            writer.write(',');
+            writer.write(Long.toString(pointHistory.updateMillis()));
+            writer.write('\n');
+        }
+    },
+    NDJSON("application/x-ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeBalance(Writer writer, UserPoint userPoint) throws IOException {
+            writer.write("{\"record\":\"balance\",\"id\":");
+            writer.write(Long.toString(userPoint.id()));
+            writer.write(",\"point\":");
+            writer.write(Long.toString(userPoint.point()));
+            writer.write(",\"updateMillis\":");
+            writer.write(Long.toString(userPoint.updateMillis()));
+            writer.write("}\n");
+        }
+
+        @Override
+        void writeHistory(Writer writer, PointHistory pointHistory) throws IOException {
+            writer.write("{\"record\":\"history\",\"id\":");
+            writer.write(Long.toString(pointHistory.id()));
+            writer.write(",\"userId\":");
+            writer.write(Long.toString(pointHistory.userId()));
+            writer.write(",\"amount\":");
+            writer.write(Long.toString(pointHistory.amount()));
+            writer.write(",\"type\":\"");
+            writer.write(pointHistory.type().name());
+            writer.write("\",\"updateMillis\":");
+            writer.write(Long.toString(pointHistory.updateMillis()));
+            writer.write("}\n");
+        }
+    };
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeBalance(Writer writer, UserPoint userPoint) throws IOException;
+
+    abstract void writeHistory(Writer writer, PointHistory pointHistory) throws IOException;
+}
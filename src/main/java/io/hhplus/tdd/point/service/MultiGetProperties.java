@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 여러 유저 잔고 동시 조회 설정
+ * @param parallelism 조회에 쓰는 최대 스레드 수. 모든 요청이 함께 쓴다. (selectById 는 대기 시간이 대부분이므로 크게 둔다)
+ *                    기본값은 최대 크기의 요청 두 개가 함께 조회할 수 있는 크기다.
+ * @param perRequestParallelism 요청 하나가 동시에 쓸 수 있는 최대 스레드 수. ID 가 많은 요청 하나가 풀을 모두 차지하지 않게 한다.
+ *                              기본값은 maxIds 와 같아, 최대 크기의 요청도 한 번의 조회 시간 안에 끝난다. 줄이면 그만큼 여러 번에 나눠 조회한다.
+ * @param queueCapacity 스레드가 모두 사용 중일 때 대기할 수 있는 조회 수. 넘치면 해당 ID 는 REJECTED 로 응답한다.
+ * @param timeout 요청 하나의 전체 조회 제한 시간. 넘기면 끝나지 않은 ID 는 TIMEOUT 으로 응답한다.
+ * @param maxIds 요청 하나에 담을 수 있는 최대 ID 수 (중복 제거 후)
+ */
+@ConfigurationProperties("point.multi-get")
+public record MultiGetProperties(
+        @DefaultValue("2000") int parallelism,
+        @DefaultValue("1000") int perRequestParallelism,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue("1000") int maxIds
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 여러 유저 잔고 조회 결과. 조회에 실패한 ID 는 points 대신 errors 에 담긴다.
+ */
+public record MultiPointResult(
+        List<UserPoint> points,
+        List<Error> errors
+) {
+    /**
+     * @param code TIMEOUT | REJECTED | NOT_OWNER | ERROR
+     */
+    public record Error(
+            long id,
+            String code,
+            String message
+    ) {
+    }
+}
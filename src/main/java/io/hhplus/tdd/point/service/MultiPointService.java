@@ -0,0 +1,205 @@
+package io.hhplus.tdd.point.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cluster.ClusterForwardingInterceptor;
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 유저의 잔고를 크기가 정해진 스레드 풀에서 동시에 조회한다.
+ * - 중복 ID 는 한 번만 조회하고, 전체 제한 시간 안에 끝난 결과와 ID 별 실패 사유를 함께 돌려준다.
+ * - 풀은 모든 요청이 함께 쓰므로, 요청 하나가 동시에 쓰는 스레드는 perRequestParallelism 으로 제한한다.
+ * - 클러스터 모드에서는 다른 인스턴스가 담당하는 ID 를 담당 인스턴스별로 묶어 POST /point/batch 로 한 번씩 전달한다.
+ *   전달받은 요청에서 담당이 아닌 ID 와 담당이 옮겨지는 중인 ID 는 다시 전달하지 않고 NOT_OWNER 로 담당 인스턴스를 알려준다.
+ */
+@Slf4j
+@Service
+public class MultiPointService {
+
+    static final String BATCH_PATH = "/point/batch";
+
+    private final PointService pointService;
+    private final ClusterMembership clusterMembership; // 클러스터 모드가 아니면 null
+    private final MultiGetProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final HttpClient httpClient;
+
+    public MultiPointService(PointService pointService, ObjectProvider<ClusterMembership> clusterMembership,
+                             MultiGetProperties properties, ExecutionMode executionMode, ObjectMapper objectMapper) {
+        this.pointService = pointService;
+        this.clusterMembership = clusterMembership.getIfAvailable();
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        // 가상 스레드 모드에서도 동시에 조회하는 유저 수는 parallelism 으로 제한한다.
+        this.executor = new ThreadPoolExecutor(properties.parallelism(), properties.parallelism(),
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.queueCapacity()),
+                executionMode.threadFactory("point-multi-get-"));
+        this.executor.allowCoreThreadTimeOut(true); // 요청이 없으면 스레드를 정리한다.
+        this.httpClient = this.clusterMembership == null ? null : HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.timeout())
+                .build();
+    }
+
+    public MultiPointResult findPoints(Collection<Long> ids) {
+        return findPoints(ids, false);
+    }
+
+    /**
+     * @param forwarded 다른 인스턴스가 전달한 요청이면 true. 담당이 아닌 ID 를 다시 전달하지 않는다.
+     */
+    public MultiPointResult findPoints(Collection<Long> ids, boolean forwarded) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > properties.maxIds()) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 유저는 최대 " + properties.maxIds() + "명입니다.");
+        }
+        long deadline = System.nanoTime() + properties.timeout().toNanos();
+        List<MultiPointResult.Error> errors = new ArrayList<>();
+        List<Long> localIds = new ArrayList<>(uniqueIds.size());
+        Map<String, List<Long>> remoteIds = new LinkedHashMap<>();
+        for (Long id : uniqueIds) {
+            if (clusterMembership == null || clusterMembership.isLocal(id)) {
+                localIds.add(id);
+            } else if (forwarded || clusterMembership.isMoving(id)) {
+                errors.add(new MultiPointResult.Error(id, "NOT_OWNER", clusterMembership.nextOwnerOf(id)));
+            } else {
+                remoteIds.computeIfAbsent(clusterMembership.ownerOf(id), k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        // 다른 인스턴스 조회를 먼저 보내고, 응답을 기다리는 동안 로컬 조회를 한다.
+        Map<String, CompletableFuture<MultiPointResult>> forwards = new LinkedHashMap<>();
+        remoteIds.forEach((owner, ownerIds) -> forwards.put(owner, forward(owner, ownerIds, deadline)));
+
+        Semaphore permits = new Semaphore(properties.perRequestParallelism());
+        Map<Long, Future<UserPoint>> futures = new LinkedHashMap<>();
+        for (Long id : localIds) {
+            try {
+                if (!permits.tryAcquire(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)) {
+                    errors.add(new MultiPointResult.Error(id, "TIMEOUT", "제한 시간 안에 조회하지 못했습니다."));
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.add(new MultiPointResult.Error(id, "TIMEOUT", "조회가 중단되었습니다."));
+                continue;
+            }
+            try {
+                futures.put(id, executor.submit(() -> {
+                    try {
+                        return pointService.findPoint(id);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                errors.add(new MultiPointResult.Error(id, "REJECTED", "조회 요청이 많아 처리하지 못했습니다."));
+            }
+        }
+
+        List<UserPoint> points = new ArrayList<>(uniqueIds.size());
+        for (Map.Entry<Long, Future<UserPoint>> entry : futures.entrySet()) {
+            long id = entry.getKey();
+            Future<UserPoint> future = entry.getValue();
+            try {
+                points.add(future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                errors.add(new MultiPointResult.Error(id, "TIMEOUT", "제한 시간 안에 조회하지 못했습니다."));
+            } catch (ExecutionException e) {
+                log.warn("multi-get failed: {}", id, e.getCause());
+                errors.add(new MultiPointResult.Error(id, "ERROR", String.valueOf(e.getCause().getMessage())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                errors.add(new MultiPointResult.Error(id, "TIMEOUT", "조회가 중단되었습니다."));
+            }
+        }
+
+        for (Map.Entry<String, CompletableFuture<MultiPointResult>> entry : forwards.entrySet()) {
+            List<Long> ownerIds = remoteIds.get(entry.getKey());
+            CompletableFuture<MultiPointResult> future = entry.getValue();
+            try {
+                MultiPointResult result = future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                points.addAll(result.points());
+                errors.addAll(result.errors());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                ownerIds.forEach(id -> errors.add(new MultiPointResult.Error(id, "TIMEOUT", "제한 시간 안에 조회하지 못했습니다.")));
+            } catch (ExecutionException e) {
+                log.warn("multi-get forward failed: {} ({} ids)", entry.getKey(), ownerIds.size(), e.getCause());
+                String message = String.valueOf(e.getCause().getMessage());
+                ownerIds.forEach(id -> errors.add(new MultiPointResult.Error(id, "ERROR", message)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                ownerIds.forEach(id -> errors.add(new MultiPointResult.Error(id, "TIMEOUT", "조회가 중단되었습니다.")));
+            }
+        }
+        return new MultiPointResult(points, errors);
+    }
+
+    // 담당 인스턴스에 ID 묶음을 한 번에 조회한다. 남은 제한 시간을 요청 제한 시간으로 쓴다.
+    private CompletableFuture<MultiPointResult> forward(String owner, List<Long> ids, long deadline) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(owner + BATCH_PATH))
+                    .timeout(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 1L)))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(ClusterForwardingInterceptor.FORWARDED_HEADER, clusterMembership.self())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(ids)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(owner + " 조회가 실패했습니다: " + response.statusCode());
+            }
+            try {
+                return objectMapper.readValue(response.body(), MultiPointResult.class);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 포인트 충전/사용/소멸이 저장된 직후 발행되는 이벤트
+ * - 유저 락을 잡은 채로 같은 스레드에서 발행되므로, 한 유저의 이벤트는 처리된 순서대로 전달된다.
+ * @param type 트랜잭션 종류
+ * @param amount 충전/사용/소멸 금액
+ * @param userPoint 반영 후 잔고
+ * @param pointHistory 저장된 포인트 내역
+ */
+public record PointCommittedEvent(
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        PointHistory pointHistory
+) {
+    public long userId() {
+        return userPoint.id();
+    }
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 모든 유저의 잔고와 내역을 한 시점 기준으로 내보낸다.
+ * - 유저 한 명씩 읽어서 바로 기록하므로 데이터 크기와 관계없이 메모리 사용량이 일정하다.
+ * - 내보내기 시작 시각 이후의 변경은 각 유저의 잔고에서 되돌려 같은 시점의 상태로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointExportService {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final PointService pointService;
+
+    public void export(ExportFormat format, long asOfMillis, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long users = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        format.writeHeader(writer);
+        for (Long id : pointService.findAllUserIds()) {
+            PointSnapshot snapshot = pointService.findSnapshot(id, asOfMillis);
+            if (snapshot.isEmpty()) {
+                continue;
+            }
+            format.writeBalance(writer, snapshot.userPoint());
+            for (PointHistory pointHistory : snapshot.histories()) {
+                format.writeHistory(writer, pointHistory);
+            }
+            users++;
+        }
+        writer.flush();
+        log.info("point export completed: {} users, as of: {}, time taken: {} ms",
+                users, asOfMillis, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+
+import java.util.List;
+
+/**
+ * 클러스터 구성원이 바뀔 때 새 담당 인스턴스로 옮기는 유저 상태
+ * @param userId 유저 ID
+ * @param point 잔고
+ * @param histories 시간순 포인트 내역
+ * @param lots 만료 전 충전분(lot)
+ */
+public record PointHandoff(
+        long userId,
+        long point,
+        List<PointHistory> histories,
+        List<PointLotLedger.LotSnapshot> lots
+) {
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 비동기 포인트 API 의 대기 작업이 가득 찼거나, 대기 시간 안에 실행되지 못한 경우
+ */
+public class PointOverloadedException extends RuntimeException {
+
+    public PointOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -2,13 +2,25 @@ package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointRejection;
+import io.hhplus.tdd.point.PointResult;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.monitor.HotUserSketch;
+import io.hhplus.tdd.point.monitor.OperationTrace;
+import io.hhplus.tdd.point.monitor.PointOperation;
+import io.hhplus.tdd.point.monitor.PointPhase;
+import io.hhplus.tdd.point.monitor.SlowOperationRecorder;
+import io.hhplus.tdd.point.recent.RecentHistoryCache;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,60 +32,299 @@ import java.util.concurrent.locks.ReentrantLock;
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final int SNAPSHOT_READ_ATTEMPTS = 3; // 스냅샷 조회 시 잔고를 읽는 최대 횟수
+
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final Map<String, Lock> userLocks = new ConcurrentHashMap<>();
+    private final HotUserSketch hotUserSketch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlowOperationRecorder slowOperationRecorder;
+    private final PointLotLedger pointLotLedger;
+    private final RecentHistoryCache recentHistoryCache;
+    private final Map<Long, Lock> userLocks = new ConcurrentHashMap<>();
   
     public UserPoint findPoint(long id) {
-        return userPointRepository.findById(id);
+        hotUserSketch.recordAccess(id);
+        OperationTrace trace = slowOperationRecorder.begin(PointOperation.FIND_POINT, id);
+        try {
+            UserPoint userPoint = userPointRepository.findForRead(id);
+            trace.mark(PointPhase.SELECT_POINT);
+            return userPoint;
+        } finally {
+            slowOperationRecorder.end(trace);
+        }
     }
 
     public UserPoint charge(long id, long amount) {
-        Lock lock = userLocks.computeIfAbsent(String.valueOf(id), k -> new ReentrantLock(true));
+        return (UserPoint) charge(id, amount, true);
+    }
+
+    // 거절 시 예외 대신 거절 사유를 반환한다.
+    public PointResult tryCharge(long id, long amount) {
+        return charge(id, amount, false);
+    }
+
+    // 금액 검증은 락을 잡기 전에 한다. 거절 사유의 예외 메시지는 UserPoint.charge 와 같다.
+    private PointResult charge(long id, long amount, boolean throwOnRejection) {
+        PointRejection invalidAmount = UserPoint.validateChargeAmount(amount);
+        if (invalidAmount != null) {
+            return throwOnRejection ? UserPoint.orThrow(invalidAmount, 0L) : invalidAmount; // 금액 사유에는 잔액을 붙이지 않는다.
+        }
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        OperationTrace trace = slowOperationRecorder.begin(PointOperation.CHARGE, id);
+        long lockRequestedTime = System.nanoTime();
         lock.lock();
         long lockAcquiredTime = System.currentTimeMillis();
-        log.info("charge lock acquired: {}", id);
         try {
-            UserPoint userPoint = userPointRepository.findById(id);
-            UserPoint updateUserPoint = userPoint.charge(amount);
+            hotUserSketch.recordLockWait(id, System.nanoTime() - lockRequestedTime);
+            trace.mark(PointPhase.LOCK_WAIT);
+            log.debug("charge lock acquired: {}", id);
+            VersionedUserPoint current = userPointRepository.findForUpdate(id);
+            UserPoint userPoint = current.userPoint();
+            trace.mark(PointPhase.SELECT_POINT);
+            PointResult result = userPoint.tryCharge(amount);
+            if (!(result instanceof UserPoint updateUserPoint)) {
+                return throwOnRejection ? UserPoint.orThrow(result, userPoint.point()) : result;
+            }
 
             PointHistory pointHistory = PointHistory.create(id, amount, TransactionType.CHARGE);
-            pointHistory.save(pointHistoryRepository);
+            trace.skip();
+            VersionedUserPoint updated = userPointRepository.update(id, current.version(), updateUserPoint.point());
+            trace.mark(PointPhase.UPDATE_POINT);
 
-            userPointRepository.saveOrUpdate(id, updateUserPoint.point());
+            // 잔고 갱신이 성공한 뒤에 내역을 남긴다. 갱신이 실패하면(JDBC 저장소의 version 충돌) 내역도 남지 않는다.
+            PointHistory savedPointHistory = saveHistory(pointHistory, current, updated);
+            trace.mark(PointPhase.INSERT_HISTORY);
+            eventPublisher.publishEvent(new PointCommittedEvent(TransactionType.CHARGE, amount, updateUserPoint, savedPointHistory));
+            trace.mark(PointPhase.PUBLISH);
 
             return updateUserPoint;
         } finally {
+            slowOperationRecorder.end(trace);
             long tryEndTime = System.currentTimeMillis();
-            log.info("charge completed: {}, time taken: {} ms", id, tryEndTime - lockAcquiredTime);
+            log.debug("charge completed: {}, time taken: {} ms", id, tryEndTime - lockAcquiredTime);
             lock.unlock();
         }
     }
 
     public UserPoint use(long id, long amount) {
-        Lock lock = userLocks.computeIfAbsent(String.valueOf(id), k -> new ReentrantLock(true));
+        return (UserPoint) use(id, amount, true);
+    }
+
+    // 거절 시 예외 대신 거절 사유를 반환한다.
+    public PointResult tryUse(long id, long amount) {
+        return use(id, amount, false);
+    }
+
+    // 금액 검증은 락을 잡기 전에 한다. 거절 사유의 예외 메시지는 UserPoint.use 와 같다.
+    private PointResult use(long id, long amount, boolean throwOnRejection) {
+        PointRejection invalidAmount = UserPoint.validateUseAmount(amount);
+        if (invalidAmount != null) {
+            return throwOnRejection ? UserPoint.orThrow(invalidAmount, 0L) : invalidAmount; // 금액 사유에는 잔액을 붙이지 않는다.
+        }
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        OperationTrace trace = slowOperationRecorder.begin(PointOperation.USE, id);
+        long lockRequestedTime = System.nanoTime();
         lock.lock();
         long lockAcquiredTime = System.currentTimeMillis();
-        log.info("use lock acquired: {}", id);
         try {
-            UserPoint userPoint = userPointRepository.findById(id);
-            UserPoint updateUserPoint = userPoint.use(amount);
+            hotUserSketch.recordLockWait(id, System.nanoTime() - lockRequestedTime);
+            trace.mark(PointPhase.LOCK_WAIT);
+            log.debug("use lock acquired: {}", id);
+            VersionedUserPoint current = userPointRepository.findForUpdate(id);
+            UserPoint userPoint = current.userPoint();
+            trace.mark(PointPhase.SELECT_POINT);
+            PointResult result = userPoint.tryUse(amount);
+            if (!(result instanceof UserPoint updateUserPoint)) {
+                return throwOnRejection ? UserPoint.orThrow(result, userPoint.point()) : result;
+            }
 
             PointHistory pointHistory = PointHistory.create(id, amount, TransactionType.USE);
-            pointHistory.save(pointHistoryRepository);
+            trace.skip();
+            VersionedUserPoint updated = userPointRepository.update(id, current.version(), updateUserPoint.point());
+            trace.mark(PointPhase.UPDATE_POINT);
 
-            userPointRepository.saveOrUpdate(id, updateUserPoint.point());
+            // 잔고 갱신이 성공한 뒤에 내역을 남긴다. 갱신이 실패하면(JDBC 저장소의 version 충돌) 내역도 남지 않는다.
+            PointHistory savedPointHistory = saveHistory(pointHistory, current, updated);
+            trace.mark(PointPhase.INSERT_HISTORY);
+            eventPublisher.publishEvent(new PointCommittedEvent(TransactionType.USE, amount, updateUserPoint, savedPointHistory));
+            trace.mark(PointPhase.PUBLISH);
 
             return updateUserPoint;
         } finally {
+            slowOperationRecorder.end(trace);
             long tryEndTime = System.currentTimeMillis();
-            log.info("charge completed: {}, time taken: {} ms", id, tryEndTime - lockAcquiredTime);
+            log.debug("charge completed: {}, time taken: {} ms", id, tryEndTime - lockAcquiredTime);
             lock.unlock();
         }
     }
 
+    // nowMillis 까지 만료된 충전분을 한 번에 소멸시킨다. 소멸할 포인트가 없으면 현재 잔고를 반환한다.
+    public UserPoint expire(long id, long nowMillis) {
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        OperationTrace trace = slowOperationRecorder.begin(PointOperation.EXPIRE, id);
+        lock.lock();
+        try {
+            trace.mark(PointPhase.LOCK_WAIT);
+            VersionedUserPoint current = userPointRepository.findForUpdate(id);
+            UserPoint userPoint = current.userPoint();
+            trace.mark(PointPhase.SELECT_POINT);
+            // 소멸 금액은 락을 잡은 뒤 계산한다. 그 사이 사용된 lot 은 소멸 대상에서 빠진다.
+            long amount = Math.min(pointLotLedger.expirableAmount(id, nowMillis), userPoint.point());
+            if (amount == 0L) {
+                return userPoint;
+            }
+            UserPoint updateUserPoint = userPoint.expire(amount);
+
+            PointHistory pointHistory = PointHistory.create(id, amount, TransactionType.EXPIRE);
+            trace.skip();
+            VersionedUserPoint updated = userPointRepository.update(id, current.version(), updateUserPoint.point());
+            trace.mark(PointPhase.UPDATE_POINT);
+
+            // 잔고 갱신이 성공한 뒤에 내역을 남긴다. 갱신이 실패하면(JDBC 저장소의 version 충돌) 내역도 남지 않는다.
+            PointHistory savedPointHistory = saveHistory(pointHistory, current, updated);
+            trace.mark(PointPhase.INSERT_HISTORY);
+            eventPublisher.publishEvent(new PointCommittedEvent(TransactionType.EXPIRE, amount, updateUserPoint, savedPointHistory));
+            trace.mark(PointPhase.PUBLISH);
+
+            log.debug("points expired: {}, amount: {}", id, amount);
+            return updateUserPoint;
+        } finally {
+            slowOperationRecorder.end(trace);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 갱신한 잔고의 내역을 저장한다. 내역 저장이 실패하면 잔고를 조회했던 값으로 되돌리고 예외를 다시 던진다.
+     * - JDBC 저장소는 내역을 배치 쓰기 스레드가 따로 커밋하므로 잔고 UPDATE 와 한 트랜잭션으로 묶을 수 없다.
+     * - 되돌리기도 갱신 후 version 을 기준으로 하므로, 그 사이 다른 프로세스가 잔고를 바꿨으면 덮어쓰지 않는다.
+     */
+    private PointHistory saveHistory(PointHistory pointHistory, VersionedUserPoint current, VersionedUserPoint updated) {
+        try {
+            return pointHistory.save(pointHistoryRepository);
+        } catch (RuntimeException e) {
+            UserPoint userPoint = current.userPoint();
+            try {
+                userPointRepository.update(userPoint.id(), updated.version(), userPoint.point());
+                log.warn("point history save failed, balance restored: {}, point: {}", userPoint.id(), userPoint.point());
+            } catch (RuntimeException restoreError) {
+                e.addSuppressed(restoreError);
+                log.error("point history save failed and balance restore failed: {}", userPoint.id(), restoreError);
+            }
+            throw e;
+        }
+    }
+
     public List<PointHistory> findHistory(long id) {
-        return pointHistoryRepository.findAllById(id);
+        hotUserSketch.recordAccess(id);
+        OperationTrace trace = slowOperationRecorder.begin(PointOperation.FIND_HISTORY, id);
+        try {
+            List<PointHistory> histories = pointHistoryRepository.findAllById(id);
+            trace.mark(PointPhase.SELECT_HISTORY);
+            return histories;
+        } finally {
+            slowOperationRecorder.end(trace);
+        }
+    }
+
+    // 최근 limit 건의 내역을 캐시에서 조회한다. 캐시에 없는 유저는 저장소에서 한 번 읽어 채운다.
+    public List<PointHistory> findRecentHistory(long id, int limit) {
+        hotUserSketch.recordAccess(id);
+        OperationTrace trace = slowOperationRecorder.begin(PointOperation.FIND_RECENT_HISTORY, id);
+        try {
+            List<PointHistory> histories = recentHistoryCache.findRecent(id, limit);
+            trace.mark(PointPhase.SELECT_HISTORY);
+            return histories;
+        } finally {
+            slowOperationRecorder.end(trace);
+        }
+    }
+
+    /**
+     * asOfMillis 시점의 잔고와 내역을 조회한다. 유저 락은 잔고 한 건을 읽는 동안만 잡는다.
+     * - 내역은 락 밖에서 읽고, 다시 읽은 잔고가 그대로면 그 사이 끝난 쓰기가 없으므로 함께 읽은 것으로 본다.
+     * - 잔고가 계속 바뀌면 마지막에 읽은 잔고의 시각 이후에 기록된 내역을 걸러낸다.
+     */
+    public PointSnapshot findSnapshot(long id, long asOfMillis) {
+        UserPoint userPoint = findPointLocked(id);
+        List<PointHistory> histories = pointHistoryRepository.findAllById(id);
+        for (int attempt = 1; attempt < SNAPSHOT_READ_ATTEMPTS; attempt++) {
+            UserPoint reread = findPointLocked(id);
+            if (reread.equals(userPoint)) {
+                return PointSnapshot.asOf(userPoint, histories, asOfMillis);
+            }
+            userPoint = reread;
+            histories = pointHistoryRepository.findAllById(id);
+        }
+        long committedMillis = userPoint.updateMillis();
+        List<PointHistory> committed = histories.stream()
+                .filter(history -> history.updateMillis() <= committedMillis)
+                .toList();
+        return PointSnapshot.asOf(userPoint, committed, asOfMillis);
+    }
+
+    private UserPoint findPointLocked(long id) {
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        lock.lock();
+        try {
+            return userPointRepository.findById(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 다른 인스턴스로 옮길 유저의 잔고, 내역, 충전분을 유저 락 안에서 함께 읽는다.
+    public PointHandoff exportUser(long id) {
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        lock.lock();
+        try {
+            UserPoint userPoint = userPointRepository.findById(id);
+            List<PointHistory> histories = List.copyOf(pointHistoryRepository.findAllById(id));
+            return new PointHandoff(id, userPoint.point(), histories, pointLotLedger.snapshot(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 다른 인스턴스로 옮긴 유저의 충전분과 최근 내역 캐시를 정리한다. 잔고와 내역은 나중에 다시 담당하게 될 때 이어 받기 위해 남긴다.
+    public void releaseUser(long id) {
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        lock.lock();
+        try {
+            pointLotLedger.release(id);
+            recentHistoryCache.evict(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 옮겨 온 유저 상태를 반영한다.
+     * - 예전에 이 유저를 담당하며 남긴 내역은 옮겨 온 내역의 앞부분과 같으므로, 그 뒤의 내역만 이어서 저장한다.
+     * - 잔고와 충전분은 옮겨 온 값으로 바꾼다.
+     */
+    public void importUser(PointHandoff handoff) {
+        long id = handoff.userId();
+        Lock lock = userLocks.computeIfAbsent(id, k -> new ReentrantLock(true));
+        lock.lock();
+        try {
+            userPointRepository.saveOrUpdate(id, handoff.point()); // 옮겨 온 잔고로 덮어쓴다.
+            List<PointHistory> histories = handoff.histories();
+            int known = Math.min(pointHistoryRepository.findAllById(id).size(), histories.size());
+            for (PointHistory history : histories.subList(known, histories.size())) {
+                pointHistoryRepository.save(id, history.amount(), history.type(), history.updateMillis());
+            }
+            pointLotLedger.restore(id, handoff.lots());
+            recentHistoryCache.evict(id); // 옮겨 온 내역은 커밋 이벤트 없이 저장되었다.
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 포인트를 보유한 적이 있는 모든 유저 ID
+    public Collection<Long> findAllUserIds() {
+        return userPointRepository.findAllIds();
     }
 
 }
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 특정 시점 기준 유저의 잔고와 내역
+ */
+public record PointSnapshot(
+        UserPoint userPoint,
+        List<PointHistory> histories
+) {
+    // 기준 시점 이후의 내역을 잔고에서 되돌려 기준 시점의 상태를 만든다.
+    public static PointSnapshot asOf(UserPoint current, List<PointHistory> histories, long asOfMillis) {
+        long point = current.point();
+        long updateMillis = current.updateMillis();
+        boolean reverted = false;
+        List<PointHistory> retained = new ArrayList<>(histories.size());
+        for (PointHistory history : histories) {
+            if (history.updateMillis() <= asOfMillis) {
+                retained.add(history);
+                continue;
+            }
+            reverted = true;
+            point -= history.type().signed(history.amount());
+        }
+        if (reverted) {
+            updateMillis = retained.isEmpty() ? 0L : retained.get(retained.size() - 1).updateMillis();
+        }
+        return new PointSnapshot(new UserPoint(current.id(), point, updateMillis), retained);
+    }
+
+    // 기준 시점에 아직 존재하지 않던 유저인지 여부
+    public boolean isEmpty() {
+        return histories.isEmpty() && userPoint.point() == 0;
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 유저 한 명의 작업을 들어온 순서대로 하나씩 실행하는 메일박스
+ * - 작업이 있으면 실행기에 drain 을 하나만 올리고, drain 이 큐를 비운다.
+ *   같은 유저의 작업은 동시에 실행되지 않으므로, 기다리는 작업은 스레드 대신 큐에 남는다.
+ * - 한 번에 DRAIN_BATCH 개까지 실행하고 실행기에 다시 올려 다른 유저의 작업도 실행되게 한다.
+ * - 큐를 비우고 실행 중인 drain 도 없으면 mailboxes 에서 빠진다. 작업 추가와 제거는 mailboxes 의 같은 키 compute 안에서 하므로,
+ *   빠진 메일박스에 작업이 들어가거나 한 유저의 메일박스 두 개가 동시에 실행되지 않는다.
+ */
+final class UserMailbox {
+
+    private static final int DRAIN_BATCH = 16;
+
+    private final long userId;
+    private final Map<Long, UserMailbox> mailboxes;
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private UserMailbox(long userId, Map<Long, UserMailbox> mailboxes, Executor executor) {
+        this.userId = userId;
+        this.mailboxes = mailboxes;
+        this.executor = executor;
+    }
+
+    // userId 의 메일박스에 task 를 넣는다. 없으면 만든다. task 는 예외를 던지지 않아야 한다.
+    static void submit(Map<Long, UserMailbox> mailboxes, long userId, Executor executor, Runnable task) {
+        mailboxes.compute(userId, (k, mailbox) -> {
+            UserMailbox target = mailbox != null ? mailbox : new UserMailbox(userId, mailboxes, executor);
+            target.tasks.offer(task);
+            target.schedule();
+            return target;
+        });
+    }
+
+    private void schedule() {
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                task.run();
+            }
+        } finally {
+            scheduled.set(false);
+            schedule(); // 비운 뒤 들어온 작업
+            mailboxes.computeIfPresent(userId,
+                    (k, mailbox) -> mailbox == this && tasks.isEmpty() && !scheduled.get() ? null : mailbox);
+        }
+    }
+}
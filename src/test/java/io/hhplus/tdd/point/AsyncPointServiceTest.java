@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.point.service.AsyncPointProperties;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.hhplus.tdd.point.service.PointOverloadedException;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncPointServiceTest {
+
+    static final long USER_ID = 1L;
+    static final long OPERATION_MILLIS = 100L; // 충전 한 번의 테이블 처리 시간
+
+    @Mock
+    PointService pointService;
+
+    AsyncPointService asyncPointService;
+
+    @AfterEach
+    void afterEach() {
+        if (asyncPointService != null) {
+            asyncPointService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 유저의 충전 요청은 호출 스레드를 붙잡지 않고, 요청 순서대로 하나씩 실행된다.")
+    void serializeSameUserWithoutBlockingCaller() {
+        //given
+        asyncPointService = new AsyncPointService(pointService,
+                new AsyncPointProperties(64, 10_000, Duration.ofSeconds(10)), ExecutionMode.PLATFORM);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Long> executed = new CopyOnWriteArrayList<>();
+        given(pointService.tryCharge(eq(USER_ID), anyLong())).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            executed.add(invocation.getArgument(1));
+            TimeUnit.MILLISECONDS.sleep(5L);
+            running.decrementAndGet();
+            return new UserPoint(USER_ID, invocation.getArgument(1), 0L);
+        });
+
+        //when
+        long startTime = System.nanoTime();
+        List<CompletableFuture<PointResult>> futures = new ArrayList<>();
+        for (long amount = 1; amount <= 100; amount++) {
+            futures.add(asyncPointService.chargeAsync(USER_ID, amount));
+        }
+        long submitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        //then
+        assertThat(submitMillis).isLessThan(100L); // 100건 x 5ms 를 기다리지 않고 바로 반환된다.
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(executed).hasSize(100).isSorted();
+    }
+
+    @Test
+    @DisplayName("서로 다른 유저의 요청은 동시에 실행된다.")
+    void runDifferentUsersInParallel() {
+        //given
+        asyncPointService = new AsyncPointService(pointService,
+                new AsyncPointProperties(256, 10_000, Duration.ofSeconds(10)), ExecutionMode.PLATFORM);
+        given(pointService.tryCharge(anyLong(), anyLong())).willAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(OPERATION_MILLIS);
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L);
+        });
+
+        //when
+        long startTime = System.currentTimeMillis();
+        List<CompletableFuture<PointResult>> futures = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            futures.add(asyncPointService.chargeAsync(id, 100L));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        //then
+        assertThat(elapsed).isLessThan(OPERATION_MILLIS * 4);
+    }
+
+    @Test
+    @DisplayName("실행을 기다리는 요청이 최대치를 넘으면 실행하지 않고 PointOverloadedException 으로 완료된다.")
+    void rejectWhenPendingExceedsLimit() throws InterruptedException {
+        //given
+        asyncPointService = new AsyncPointService(pointService,
+                new AsyncPointProperties(1, 2, Duration.ofSeconds(10)), ExecutionMode.PLATFORM);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(pointService.tryCharge(anyLong(), anyLong())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L);
+        });
+        CompletableFuture<PointResult> running = asyncPointService.chargeAsync(1L, 100L);
+        started.await();
+        CompletableFuture<PointResult> waiting1 = asyncPointService.chargeAsync(2L, 100L);
+        CompletableFuture<PointResult> waiting2 = asyncPointService.chargeAsync(3L, 100L);
+
+        //when
+        CompletableFuture<PointResult> rejected = asyncPointService.chargeAsync(4L, 100L);
+
+        //then
+        assertThat(asyncPointService.pendingCount()).isEqualTo(2);
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PointOverloadedException.class);
+        release.countDown();
+        assertThat(CompletableFuture.allOf(running, waiting1, waiting2)).succeedsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("작업을 모두 처리한 유저의 메일박스는 정리되고, 같은 유저의 다음 요청은 순서대로 실행된다.")
+    void removeMailboxOnceDrained() throws InterruptedException {
+        //given
+        asyncPointService = new AsyncPointService(pointService,
+                new AsyncPointProperties(64, 100_000, Duration.ofSeconds(10)), ExecutionMode.PLATFORM);
+        List<Long> executed = new CopyOnWriteArrayList<>();
+        given(pointService.tryCharge(anyLong(), anyLong())).willAnswer(invocation -> {
+            if ((long) invocation.getArgument(0) == USER_ID) {
+                executed.add(invocation.getArgument(1));
+            }
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L);
+        });
+
+        //when
+        // 메일박스가 비어 정리되는 중에도 USER_ID 요청이 계속 들어온다.
+        List<CompletableFuture<PointResult>> futures = new ArrayList<>();
+        for (long amount = 1; amount <= 10_000; amount++) {
+            futures.add(asyncPointService.chargeAsync(USER_ID, amount));
+            futures.add(asyncPointService.chargeAsync(amount + 1, 100L));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        //then
+        long deadline = System.currentTimeMillis() + 1_000L;
+        while (asyncPointService.mailboxCount() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L); // 마지막 작업을 완료한 뒤 메일박스가 빠진다.
+        }
+        assertThat(asyncPointService.mailboxCount()).isZero();
+        assertThat(executed).hasSize(10_000).isSorted();
+    }
+}
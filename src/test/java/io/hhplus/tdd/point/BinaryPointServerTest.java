@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.binary.BinaryPointServer;
+import io.hhplus.tdd.point.binary.BinaryProtocol;
+import io.hhplus.tdd.point.binary.BinaryProtocolProperties;
+import io.hhplus.tdd.point.binary.PointBinaryClient;
+import io.hhplus.tdd.point.binary.PointReply;
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.hhplus.tdd.point.service.PointOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryPointServerTest {
+
+    @Mock
+    AsyncPointService asyncPointService;
+    @Mock
+    ObjectProvider<ClusterMembership> clusterMembership;
+
+    BinaryPointServer server;
+    PointBinaryClient client;
+
+    @AfterEach
+    void afterEach() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("응답을 기다리지 않고 보낸 요청도 늦게 끝난 순서와 관계없이 각 요청의 응답을 받는다.")
+    void matchPipelinedRepliesToRequests() throws IOException {
+        //given
+        start(65_536);
+        CompletableFuture<PointResult> slowCharge = new CompletableFuture<>();
+        given(asyncPointService.chargeAsync(1L, 100L)).willReturn(slowCharge);
+        given(asyncPointService.findPointAsync(2L))
+                .willReturn(CompletableFuture.completedFuture(new UserPoint(2L, 500L, 10L)));
+        given(asyncPointService.useAsync(3L, 1_000L))
+                .willReturn(CompletableFuture.completedFuture(PointRejection.INSUFFICIENT_BALANCE));
+
+        //when
+        CompletableFuture<PointReply> charge = client.charge(1L, 100L);
+        CompletableFuture<PointReply> get = client.get(2L);
+        CompletableFuture<PointReply> use = client.use(3L, 1_000L);
+        PointReply getReply = get.join(); // 먼저 보낸 충전이 끝나기 전에 조회 응답을 받는다.
+        slowCharge.complete(new UserPoint(1L, 100L, 20L));
+
+        //then
+        assertThat(getReply.isOk()).isTrue();
+        assertThat(getReply.userPoint()).isEqualTo(new UserPoint(2L, 500L, 10L));
+        assertThat(charge.join().userPoint()).isEqualTo(new UserPoint(1L, 100L, 20L));
+        assertThat(use.join().status()).isEqualTo(BinaryProtocol.Status.REJECTED);
+        assertThat(use.join().rejection()).isEqualTo(PointRejection.INSUFFICIENT_BALANCE);
+    }
+
+    @Test
+    @DisplayName("처리 대기 작업이 가득 차 실행되지 않은 요청은 OVERLOADED 로 응답한다.")
+    void replyOverloaded() throws IOException {
+        //given
+        start(65_536);
+        given(asyncPointService.chargeAsync(1L, 100L))
+                .willReturn(CompletableFuture.failedFuture(new PointOverloadedException("처리 대기 중인 요청이 많아 요청을 받을 수 없습니다.")));
+
+        //when
+        PointReply reply = client.charge(1L, 100L).join();
+
+        //then
+        assertThat(reply.status()).isEqualTo(BinaryProtocol.Status.OVERLOADED);
+        assertThat(reply.userId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("연결의 처리 중 요청이 쓰기 버퍼 한도에 이르면 응답이 나갈 때까지 다음 요청을 읽지 않는다.")
+    void stopReadingWhenInFlightLimitReached() throws IOException, InterruptedException {
+        //given
+        start(BinaryProtocol.RESPONSE_FRAME_SIZE * 4); // 연결당 처리 중 요청 4개
+        List<CompletableFuture<PointResult>> dispatched = new CopyOnWriteArrayList<>();
+        given(asyncPointService.chargeAsync(anyLong(), anyLong())).willAnswer(invocation -> {
+            CompletableFuture<PointResult> future = new CompletableFuture<>();
+            dispatched.add(future);
+            return future;
+        });
+
+        //when
+        List<CompletableFuture<PointReply>> replies = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            replies.add(client.charge(id, 100L));
+        }
+
+        //then
+        waitUntil(() -> dispatched.size() == 4);
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertThat(dispatched).hasSize(4); // 응답이 나가기 전에는 5번째 요청을 읽지 않는다.
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            waitUntil(() -> dispatched.size() > index);
+            dispatched.get(index).complete(new UserPoint(index + 1L, 100L, 0L));
+        }
+        assertThat(CompletableFuture.allOf(replies.toArray(CompletableFuture[]::new))).succeedsWithin(Duration.ofSeconds(2));
+        assertThat(replies).allSatisfy(reply -> assertThat(reply.join().isOk()).isTrue());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5L);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private void start(int bufferSize) throws IOException {
+        server = new BinaryPointServer(asyncPointService, clusterMembership,
+                new BinaryProtocolProperties(true, "localhost", 0, bufferSize, 4));
+        server.start();
+        client = PointBinaryClient.connect("localhost", server.port());
+    }
+}
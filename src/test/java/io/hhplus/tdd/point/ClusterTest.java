@@ -0,0 +1,190 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.cluster.ClusterForwardingInterceptor;
+import io.hhplus.tdd.point.cluster.ConsistentHashRing;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * localhost 에 인스턴스 여러 개를 띄워 클러스터 모드를 검증하는 통합 테스트
+ * - 인스턴스 수에 따른 처리량 비교는 loadTest 소스 셋의 ClusterScalingMain 으로 잰다.
+ */
+class ClusterTest {
+
+    static final int VIRTUAL_NODES = 160;
+
+    final HttpClient httpClient = HttpClient.newHttpClient();
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        instances.forEach(ConfigurableApplicationContext::close);
+        instances.clear();
+    }
+
+    @Test
+    @DisplayName("어느 인스턴스로 요청해도 담당 인스턴스의 포인트로 처리된다.")
+    void anyInstanceServesAnyUser() throws Exception {
+        //given
+        List<String> nodes = startCluster(3);
+
+        //when
+        // 유저마다 서로 다른 인스턴스로 충전하고 조회한다.
+        for (long userId = 1; userId <= 30; userId++) {
+            send(nodes.get((int) (userId % 3)), "PATCH", "/point/" + userId + "/charge", "100");
+        }
+
+        //then
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        for (long userId = 1; userId <= 30; userId++) {
+            String entry = nodes.get((int) ((userId + 1) % 3));
+            HttpResponse<String> response = send(entry, "GET", "/point/" + userId, null);
+            JsonNode body = objectMapper.readTree(response.body());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(body.get("point").asLong()).isEqualTo(100L);
+            if (!ring.ownerOf(userId).equals(entry)) {
+                // 담당이 아닌 인스턴스는 담당 인스턴스로 요청을 전달한다.
+                assertThat(response.headers().firstValue(ClusterForwardingInterceptor.OWNER_HEADER))
+                        .hasValue(ring.ownerOf(userId));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 유저를 한 번에 조회하면 다른 인스턴스 담당 ID 는 담당 인스턴스별로 묶어 조회한다.")
+    void batchReadForwardsIdsGroupedByOwner() throws Exception {
+        //given
+        List<String> nodes = startCluster(3);
+        List<Long> ids = new ArrayList<>();
+        for (long userId = 1; userId <= 30; userId++) {
+            send(nodes.get(0), "PATCH", "/point/" + userId + "/charge", String.valueOf(userId));
+            ids.add(userId);
+        }
+
+        //when
+        HttpResponse<String> response = send(nodes.get(1), "POST", "/point/batch", objectMapper.writeValueAsString(ids));
+
+        //then
+        JsonNode body = objectMapper.readTree(response.body());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(body.get("errors")).isEmpty();
+        assertThat(body.get("points")).hasSize(30);
+        body.get("points").forEach(point -> assertThat(point.get("point").asLong()).isEqualTo(point.get("id").asLong()));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 전달한 요청이라도 담당이 아니면 다시 전달하지 않고 거절한다.")
+    void rejectForwardedRequestForUserOwnedElsewhere() throws Exception {
+        //given
+        List<String> nodes = startCluster(2);
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        long userId = 1;
+        String notOwner = nodes.get(0).equals(ring.ownerOf(userId)) ? nodes.get(1) : nodes.get(0);
+
+        //when
+        HttpRequest request = HttpRequest.newBuilder(URI.create(notOwner + "/point/" + userId))
+                .header(ClusterForwardingInterceptor.FORWARDED_HEADER, "http://localhost:1")
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(421);
+        assertThat(response.headers().firstValue(ClusterForwardingInterceptor.OWNER_HEADER))
+                .hasValue(ring.ownerOf(userId));
+    }
+
+    @Test
+    @DisplayName("구성원을 추가하면 담당이 바뀐 유저의 잔고와 내역이 새 담당 인스턴스로 옮겨진다.")
+    void addNodeHandsOffUserState() throws Exception {
+        //given
+        List<String> nodes = reserveNodes(3);
+        List<String> initial = nodes.subList(0, 2);
+        for (String node : initial) {
+            startInstance(node, initial);
+        }
+        startInstance(nodes.get(2), nodes); // 새 구성원은 바뀔 구성원 목록으로 시작한다.
+        for (long userId = 1; userId <= 30; userId++) {
+            send(nodes.get(0), "PATCH", "/point/" + userId + "/charge", "100");
+            send(nodes.get(1), "PATCH", "/point/" + userId + "/use", "30");
+        }
+
+        //when
+        HttpResponse<String> updated = send(nodes.get(0), "PUT", "/admin/point/cluster/nodes",
+                objectMapper.writeValueAsString(nodes));
+
+        //then
+        assertThat(updated.statusCode()).isEqualTo(200);
+        ConsistentHashRing ring = new ConsistentHashRing(nodes, VIRTUAL_NODES);
+        int movedToNewNode = 0;
+        for (long userId = 1; userId <= 30; userId++) {
+            String owner = ring.ownerOf(userId);
+            movedToNewNode += owner.equals(nodes.get(2)) ? 1 : 0;
+            // 담당 인스턴스에 바로 조회해 전달 없이 옮겨진 상태를 확인한다.
+            JsonNode point = objectMapper.readTree(send(owner, "GET", "/point/" + userId, null).body());
+            JsonNode histories = objectMapper.readTree(send(owner, "GET", "/point/" + userId + "/histories", null).body());
+
+            assertThat(point.get("point").asLong()).isEqualTo(70L);
+            assertThat(histories).hasSize(2);
+        }
+        assertThat(movedToNewNode).isPositive();
+    }
+
+    private List<String> startCluster(int size) throws IOException {
+        List<String> nodes = reserveNodes(size);
+        for (String node : nodes) {
+            startInstance(node, nodes);
+        }
+        return nodes;
+    }
+
+    private List<String> reserveNodes(int size) throws IOException {
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                nodes.add("http://localhost:" + socket.getLocalPort());
+            }
+        }
+        return nodes;
+    }
+
+    private void startInstance(String node, List<String> nodes) {
+        instances.add(new SpringApplicationBuilder(TddApplication.class)
+                .properties(
+                        "server.port=" + URI.create(node).getPort(),
+                        "point.cluster.enabled=true",
+                        "point.cluster.self=" + node,
+                        "point.cluster.nodes=" + String.join(",", nodes),
+                        "point.cluster.virtual-nodes=" + VIRTUAL_NODES,
+                        "logging.level.io.hhplus.tdd.point.service=warn")
+                .run());
+    }
+
+    private HttpResponse<String> send(String node, String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
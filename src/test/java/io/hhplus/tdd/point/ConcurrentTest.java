@@ -1,16 +1,30 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.ExecutionMode;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.expiry.PointExpiryProperties;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.monitor.HotUserProperties;
+import io.hhplus.tdd.point.monitor.HotUserSketch;
+import io.hhplus.tdd.point.monitor.SlowOperationProperties;
+import io.hhplus.tdd.point.monitor.SlowOperationRecorder;
+import io.hhplus.tdd.point.recent.RecentHistoryCache;
+import io.hhplus.tdd.point.recent.RecentHistoryProperties;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.hedge.HedgeProperties;
+import io.hhplus.tdd.point.repository.hedge.HedgedReader;
 import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -24,14 +38,21 @@ public class ConcurrentTest { // 동시성 제어 테스트
     PointHistoryRepository pointHistoryRepository;
     PointHistoryTable pointHistoryTable;
     UserPointTable userPointTable;
+    HotUserSketch hotUserSketch;
 
     @BeforeEach
     void beforeEach() {
         userPointTable = new UserPointTable();
-        userPointRepository = new UserPointRepositoryImpl(userPointTable);
+        userPointRepository = new UserPointRepositoryImpl(userPointTable,
+                new HedgedReader(new HedgeProperties(false, 0.9, 10, Duration.ofMillis(5), 1024, 256), new SimpleMeterRegistry(), ExecutionMode.PLATFORM));
         pointHistoryTable = new PointHistoryTable();
         pointHistoryRepository = new PointHistoryRepositoryImpl(pointHistoryTable);
-        pointService = new PointService(userPointRepository, pointHistoryRepository);
+        hotUserSketch = new HotUserSketch(new HotUserProperties(1024, 10, Duration.ofSeconds(10)));
+        pointService = new PointService(userPointRepository, pointHistoryRepository, hotUserSketch, event -> {},
+                new SlowOperationRecorder(new SlowOperationProperties(Duration.ofSeconds(1), 16)),
+                new PointLotLedger(new PointExpiryProperties(false, Duration.ofDays(365), Duration.ofSeconds(1))),
+                new RecentHistoryCache(pointHistoryRepository,
+                        new RecentHistoryProperties(20, DataSize.ofMegabytes(1), Duration.ofMinutes(10), Duration.ofHours(1), Duration.ofMinutes(1))));
     }
 
     /**
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.point.repository.hedge.HedgeProperties;
+import io.hhplus.tdd.point.repository.hedge.HedgedReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedReaderTest {
+
+    static final int THREADS = 32;
+    static final int READS_PER_THREAD = 100;
+
+    final AtomicLong lookups = new AtomicLong();
+
+    @Test
+    @DisplayName("일부 조회만 오래 걸리면 hedging 으로 p99 응답 시간이 줄어든다.")
+    void hedgingCutsTailLatency() throws InterruptedException {
+        //given
+        HedgedReader withoutHedge = new HedgedReader(properties(false), new SimpleMeterRegistry(), ExecutionMode.PLATFORM);
+        HedgedReader withHedge = new HedgedReader(properties(true), new SimpleMeterRegistry(), ExecutionMode.PLATFORM);
+
+        //when
+        long p99WithoutHedge = p99(withoutHedge);
+        long p99WithHedge = p99(withHedge);
+
+        //then
+        assertThat(p99WithHedge).isLessThan(p99WithoutHedge / 2);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 예산 비율을 넘지 않는다.")
+    void hedgesStayWithinBudget() throws InterruptedException {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgedReader hedgedReader = new HedgedReader(properties(true), meterRegistry, ExecutionMode.PLATFORM);
+
+        //when
+        p99(hedgedReader);
+
+        //then
+        int reads = THREADS * READS_PER_THREAD;
+        double hedged = meterRegistry.counter("point.read.hedged").count();
+        assertThat(hedged).isPositive();
+        assertThat(hedged).isLessThanOrEqualTo(reads * 0.10 + 10); // 예산 10% + 초기 버킷 10회
+        assertThat(lookups.get()).isLessThanOrEqualTo((long) (reads + hedged));
+    }
+
+    @Test
+    @DisplayName("조회 스레드가 모두 사용 중이면 스레드를 더 만들지 않고 호출 스레드에서 조회한다.")
+    void readOnCallerWhenThreadsAreBusy() throws Exception {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgedReader hedgedReader = new HedgedReader(new HedgeProperties(true, 0.9, 10, Duration.ofMillis(5), 1024, 1),
+                meterRegistry, ExecutionMode.PLATFORM);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> hedgedReader.read(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }));
+        started.await();
+
+        //when
+        String readThread = hedgedReader.read(() -> Thread.currentThread().getName());
+
+        //then
+        assertThat(readThread).isEqualTo(Thread.currentThread().getName());
+        assertThat(meterRegistry.counter("point.read.hedge.saturated").count()).isPositive();
+        release.countDown();
+        executorService.shutdown();
+        hedgedReader.shutdown();
+    }
+
+    private static HedgeProperties properties(boolean enabled) {
+        return new HedgeProperties(enabled, 0.9, 10, Duration.ofMillis(5), 1024, 256);
+    }
+
+    // 95% 는 0~20ms, 5% 는 200~400ms 걸리는 조회를 여러 스레드에서 실행하고 p99 응답 시간(ms)을 잰다.
+    private long p99(HedgedReader hedgedReader) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch countDownLatch = new CountDownLatch(THREADS);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < THREADS; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < READS_PER_THREAD; i++) {
+                        long startTime = System.nanoTime();
+                        hedgedReader.read(this::lookup);
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+        hedgedReader.shutdown();
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() * 99 / 100);
+    }
+
+    private long lookup() {
+        lookups.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = random.nextInt(100) < 5 ? 200 + random.nextLong(200) : random.nextLong(20);
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ignored) {
+        }
+        return millis;
+    }
+}
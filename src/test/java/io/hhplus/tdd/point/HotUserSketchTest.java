@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.monitor.HotUserProperties;
+import io.hhplus.tdd.point.monitor.HotUserSketch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotUserSketchTest {
+
+    HotUserSketch hotUserSketch;
+
+    @BeforeEach
+    void beforeEach() {
+        hotUserSketch = new HotUserSketch(new HotUserProperties(4096, 3, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    @DisplayName("요청이 몰리는 유저가 상위 목록에 요청 수 순서대로 노출된다.")
+    void topUsersReturnsHeavyHittersInOrder() {
+        //given
+        // 1만 명에게 고르게 요청이 들어오는 가운데 세 유저에게 요청이 몰린다.
+        for (int round = 0; round < 100; round++) {
+            for (long userId = 1_000; userId < 11_000; userId += 7) {
+                hotUserSketch.recordAccess(userId);
+            }
+            for (int i = 0; i < 300; i++) {
+                hotUserSketch.recordAccess(1L);
+            }
+            for (int i = 0; i < 200; i++) {
+                hotUserSketch.recordAccess(2L);
+            }
+            for (int i = 0; i < 100; i++) {
+                hotUserSketch.recordAccess(3L);
+            }
+        }
+
+        //when
+        List<HotUserSketch.HotUser> hotUsers = hotUserSketch.topUsers();
+
+        //then
+        assertThat(hotUsers).extracting(HotUserSketch.HotUser::userId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("락 대기 시간은 조회를 뺀 락 획득 횟수당 평균으로 집계된다.")
+    void lockWaitIsAveragedPerLockAcquisition() {
+        //given
+        hotUserSketch.recordAccess(1L); // 락 없는 조회
+        hotUserSketch.recordAccess(1L);
+        hotUserSketch.recordLockWait(1L, 2_000_000L); // 2ms 대기
+        hotUserSketch.recordLockWait(1L, 4_000_000L); // 4ms 대기
+
+        //when
+        HotUserSketch.HotUser hotUser = hotUserSketch.topUsers().get(0);
+
+        //then
+        assertThat(hotUser.userId()).isEqualTo(1L);
+        assertThat(hotUser.averageLockWaitMillis()).isEqualTo(3.0);
+        assertThat(hotUser.requestsPerSecond()).isEqualTo(0.2); // 카운터 4 / (window 10초 * 2)
+    }
+
+    @Test
+    @DisplayName("window 가 지날 때마다 카운터가 절반으로 줄어든다.")
+    void decayHalvesCounters() {
+        //given
+        for (int i = 0; i < 40; i++) {
+            hotUserSketch.recordAccess(1L);
+        }
+
+        //when
+        hotUserSketch.decay();
+
+        //then
+        assertThat(hotUserSketch.topUsers().get(0).requestsPerSecond()).isEqualTo(1.0); // 20 / 20
+    }
+}
@@ -0,0 +1,216 @@
+package io.hhplus.tdd.point;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
+import io.hhplus.tdd.point.repository.jdbc.JdbcHistoryProperties;
+import io.hhplus.tdd.point.repository.jdbc.JdbcPointHistoryRepository;
+import io.hhplus.tdd.point.repository.jdbc.JdbcUserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class JdbcPointRepositoryTest {
+
+    static final long USER_ID = 1L; // 테스트에 쓰일 유저 ID
+
+    HikariDataSource dataSource;
+    JdbcTemplate jdbcTemplate;
+    JdbcUserPointRepository userPointRepository;
+    JdbcPointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource("db/point-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        userPointRepository = new JdbcUserPointRepository(jdbcTemplate);
+        pointHistoryRepository = new JdbcPointHistoryRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new JdbcHistoryProperties(64));
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        pointHistoryRepository.stop();
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("조회 후 다른 요청이 먼저 잔고를 바꾸면 갱신에 실패한다.")
+    void failToUpdateWhenVersionChanged() {
+        //given
+        userPointRepository.update(USER_ID, userPointRepository.findForUpdate(USER_ID).version(), 1_000L);
+        VersionedUserPoint read = userPointRepository.findForUpdate(USER_ID);
+        // 다른 프로세스가 잔고를 변경
+        jdbcTemplate.update("UPDATE user_point SET point = 0, version = version + 1 WHERE id = ?", USER_ID);
+
+        //when
+        //then
+        assertThatThrownBy(() -> userPointRepository.update(USER_ID, read.version(), 500L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(userPointRepository.findById(USER_ID).point()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("같은 version 으로 두 번 갱신하면 두 번째 갱신은 실패한다.")
+    void failToUpdateTwiceWithSameVersion() {
+        //given
+        VersionedUserPoint read = userPointRepository.findForUpdate(USER_ID);
+        userPointRepository.update(USER_ID, read.version(), 1_000L);
+
+        //when
+        //then
+        assertThatThrownBy(() -> userPointRepository.update(USER_ID, read.version(), 500L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(userPointRepository.findById(USER_ID).point()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("조회한 version 으로 갱신하면 잔고와 version 이 함께 반영된다.")
+    void updateBalanceWithVersion() {
+        //given
+        VersionedUserPoint created = userPointRepository.update(USER_ID, userPointRepository.findForUpdate(USER_ID).version(), 1_000L);
+
+        //when
+        VersionedUserPoint updated = userPointRepository.update(USER_ID, created.version(), 700L);
+
+        //then
+        assertThat(userPointRepository.findById(USER_ID).point()).isEqualTo(700L);
+        assertThat(updated.version()).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM user_point WHERE id = ?", Long.class, USER_ID))
+                .isEqualTo(2L);
+        assertThat(userPointRepository.findAllIds()).containsExactly(USER_ID);
+    }
+
+    @Test
+    @DisplayName("saveOrUpdate 는 version 과 상관없이 잔고를 덮어쓴다.")
+    void overwriteBalanceWithoutVersion() {
+        //given
+        userPointRepository.saveOrUpdate(USER_ID, 1_000L);
+        VersionedUserPoint read = userPointRepository.findForUpdate(USER_ID);
+
+        //when
+        userPointRepository.saveOrUpdate(USER_ID, 300L);
+
+        //then
+        assertThat(userPointRepository.findById(USER_ID).point()).isEqualTo(300L);
+        assertThatThrownBy(() -> userPointRepository.update(USER_ID, read.version(), 500L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("여러 요청의 내역을 배치로 묶어 저장해도 모든 내역이 고유한 ID 로 저장된다.")
+    void saveHistoriesInBatches() throws InterruptedException {
+        //given
+        int threads = 32;
+        int writes = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch countDownLatch = new CountDownLatch(threads);
+        AtomicInteger unreadable = new AtomicInteger();
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < writes; i++) {
+                        PointHistory saved = pointHistoryRepository.save(userId, i, TransactionType.CHARGE, i);
+                        // save() 가 반환되면 저장된 내역을 바로 조회할 수 있다.
+                        if (!pointHistoryRepository.findAllById(userId).contains(saved)) {
+                            unreadable.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+
+        //then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 0; userId < threads; userId++) {
+            List<PointHistory> histories = pointHistoryRepository.findAllById(userId);
+            assertThat(histories).hasSize(writes);
+            histories.forEach(history -> ids.add(history.id()));
+        }
+        assertThat(ids).hasSize(threads * writes);
+        assertThat(unreadable.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료한 내역 저장소에 저장하면 기다리지 않고 바로 실패한다.")
+    void rejectSaveAfterStop() throws InterruptedException {
+        //given
+        pointHistoryRepository.save(USER_ID, 100L, TransactionType.CHARGE, 1L);
+
+        //when
+        pointHistoryRepository.stop();
+
+        //then
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () ->
+                assertThatThrownBy(() -> pointHistoryRepository.save(USER_ID, 100L, TransactionType.CHARGE, 2L))
+                        .isInstanceOf(IllegalStateException.class));
+        assertThat(pointHistoryRepository.findAllById(USER_ID)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("같은 DB 를 쓰는 여러 저장소가 동시에 저장해도 내역 ID 가 겹치지 않는다.")
+    void saveHistoriesFromTwoProcessesWithUniqueIds() throws InterruptedException {
+        //given
+        // 다른 프로세스의 저장소를 흉내 낸다.
+        JdbcPointHistoryRepository otherProcess = new JdbcPointHistoryRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new JdbcHistoryProperties(64));
+        int threads = 16;
+        int writes = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch countDownLatch = new CountDownLatch(threads);
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            JdbcPointHistoryRepository repository = t % 2 == 0 ? pointHistoryRepository : otherProcess;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < writes; i++) {
+                        repository.save(USER_ID, i, TransactionType.CHARGE, i);
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+        otherProcess.stop();
+
+        //then
+        List<PointHistory> histories = pointHistoryRepository.findAllById(USER_ID);
+        assertThat(histories).hasSize(threads * writes);
+        assertThat(histories).extracting(PointHistory::id).doesNotHaveDuplicates();
+    }
+}
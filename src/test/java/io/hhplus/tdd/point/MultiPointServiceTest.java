@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ExecutionMode;
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.service.MultiGetProperties;
+import io.hhplus.tdd.point.service.MultiPointResult;
+import io.hhplus.tdd.point.service.MultiPointService;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class MultiPointServiceTest {
+
+    static final long LOOKUP_MILLIS = 200L; // selectById 최대 지연과 같은 조회 시간
+
+    @Mock
+    PointService pointService;
+    @Mock
+    ObjectProvider<ClusterMembership> clusterMembership;
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+    MultiPointService multiPointService;
+
+    @AfterEach
+    void afterEach() {
+        if (multiPointService != null) {
+            multiPointService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("기본 설정으로 최대 ID 수만큼 잔고를 동시에 조회해도 한 명을 조회하는 시간과 비슷하게 걸린다.")
+    void findPointsInParallel() {
+        //given
+        MultiGetProperties properties = defaultProperties();
+        multiPointService = new MultiPointService(pointService, clusterMembership,
+                properties, ExecutionMode.PLATFORM, objectMapper);
+        AtomicInteger lookups = new AtomicInteger();
+        given(pointService.findPoint(anyLong())).willAnswer(invocation -> {
+            lookups.incrementAndGet();
+            TimeUnit.MILLISECONDS.sleep(LOOKUP_MILLIS);
+            return new UserPoint(invocation.getArgument(0), 100L, 0L);
+        });
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= properties.maxIds(); id++) {
+            ids.add(id);
+        }
+        ids.addAll(ids.subList(0, 100)); // 중복 ID
+
+        //when
+        long startTime = System.currentTimeMillis();
+        MultiPointResult result = multiPointService.findPoints(ids);
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        //then
+        assertThat(result.points()).hasSize(properties.maxIds());
+        assertThat(result.errors()).isEmpty();
+        assertThat(lookups.get()).isEqualTo(properties.maxIds()); // 중복 ID 는 한 번만 조회한다.
+        assertThat(elapsed).isLessThan(LOOKUP_MILLIS * 4);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않은 조회는 TIMEOUT 으로, 나머지는 잔고로 응답한다.")
+    void returnPartialResultsOnTimeout() {
+        //given
+        multiPointService = new MultiPointService(pointService, clusterMembership,
+                new MultiGetProperties(8, 8, 100, Duration.ofMillis(300), 1_000), ExecutionMode.PLATFORM, objectMapper);
+        given(pointService.findPoint(anyLong())).willAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            TimeUnit.MILLISECONDS.sleep(id == 2L ? 5_000L : 10L);
+            return new UserPoint(id, 100L, 0L);
+        });
+
+        //when
+        MultiPointResult result = multiPointService.findPoints(List.of(1L, 2L, 3L));
+
+        //then
+        assertThat(result.points()).extracting(UserPoint::id).containsExactly(1L, 3L);
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.id()).isEqualTo(2L);
+                    assertThat(error.code()).isEqualTo("TIMEOUT");
+                });
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 유저 수를 넘으면 조회에 실패한다.")
+    void failWhenTooManyIds() {
+        //given
+        multiPointService = new MultiPointService(pointService, clusterMembership,
+                new MultiGetProperties(8, 8, 100, Duration.ofSeconds(1), 2), ExecutionMode.PLATFORM, objectMapper);
+
+        //when
+        //then
+        assertThatThrownBy(() -> multiPointService.findPoints(List.of(1L, 2L, 3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("ID 가 많은 요청도 요청 하나가 동시에 쓰는 스레드 수는 제한된다.")
+    void limitParallelismPerRequest() {
+        //given
+        multiPointService = new MultiPointService(pointService, clusterMembership,
+                new MultiGetProperties(64, 4, 100, Duration.ofSeconds(2), 1_000), ExecutionMode.PLATFORM, objectMapper);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(pointService.findPoint(anyLong())).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(20L);
+            running.decrementAndGet();
+            return new UserPoint(invocation.getArgument(0), 100L, 0L);
+        });
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            ids.add(id);
+        }
+
+        //when
+        MultiPointResult result = multiPointService.findPoints(ids);
+
+        //then
+        assertThat(result.points()).hasSize(40);
+        assertThat(result.errors()).isEmpty();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 전달한 요청에서 담당이 아닌 ID 는 다시 전달하지 않고 NOT_OWNER 로 응답한다.")
+    void doNotForwardAgainWhenRequestIsForwarded() {
+        //given
+        ClusterMembership membership = mock(ClusterMembership.class);
+        given(clusterMembership.getIfAvailable()).willReturn(membership);
+        given(membership.isLocal(1L)).willReturn(true);
+        given(membership.isLocal(2L)).willReturn(false);
+        given(membership.nextOwnerOf(2L)).willReturn("http://localhost:8082");
+        multiPointService = new MultiPointService(pointService, clusterMembership,
+                new MultiGetProperties(8, 8, 100, Duration.ofSeconds(1), 1_000), ExecutionMode.PLATFORM, objectMapper);
+        given(pointService.findPoint(1L)).willReturn(new UserPoint(1L, 100L, 0L));
+
+        //when
+        MultiPointResult result = multiPointService.findPoints(List.of(1L, 2L), true);
+
+        //then
+        assertThat(result.points()).extracting(UserPoint::id).containsExactly(1L);
+        assertThat(result.errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.id()).isEqualTo(2L);
+                    assertThat(error.code()).isEqualTo("NOT_OWNER");
+                    assertThat(error.message()).isEqualTo("http://localhost:8082");
+                });
+    }
+
+    // 설정 파일 없이 바인딩해 @DefaultValue 의 기본값을 쓴다.
+    private static MultiGetProperties defaultProperties() {
+        return new Binder(new MapConfigurationPropertySource())
+                .bindOrCreate("point.multi-get", MultiGetProperties.class);
+    }
+}
@@ -0,0 +1,252 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.audit.PointAuditProperties;
+import io.hhplus.tdd.point.audit.PointAuditResult;
+import io.hhplus.tdd.point.audit.PointAuditRunningException;
+import io.hhplus.tdd.point.audit.PointAuditService;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.sharded.ShardedHistoryProperties;
+import io.hhplus.tdd.point.repository.sharded.ShardedPointHistoryRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PointAuditServiceTest {
+
+    static final int USERS = 10_000;
+
+    @Mock
+    UserPointRepository userPointRepository;
+    @Mock
+    PointService pointService;
+
+    ShardedPointHistoryRepository pointHistoryRepository;
+    Map<Long, Long> balances = new ConcurrentHashMap<>();
+    PointAuditService pointAuditService;
+
+    @BeforeEach
+    void beforeEach() {
+        pointHistoryRepository = new ShardedPointHistoryRepository(new ShardedHistoryProperties(64));
+        for (long userId = 1; userId <= USERS; userId++) {
+            pointHistoryRepository.save(userId, 1_000L, TransactionType.CHARGE, 0L);
+            pointHistoryRepository.save(userId, userId % 500, TransactionType.USE, 1L);
+            balances.put(userId, 1_000L - userId % 500);
+        }
+        given(userPointRepository.findAllIds()).willReturn(balances.keySet());
+    }
+
+    @AfterEach
+    void afterEach() {
+        pointAuditService.shutdown();
+    }
+
+    @Test
+    @DisplayName("잔고가 내역 합계와 다른 유저를 찾는다.")
+    void findMismatchedUsers() {
+        //given
+        givenBalanceLookups(0L);
+        givenSnapshots();
+        balances.put(7L, balances.get(7L) + 100L);   // 내역 없이 늘어난 잔고
+        balances.put(4_242L, 0L);                     // 잃어버린 잔고
+        pointAuditService = auditService(Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        //when
+        PointAuditResult result = pointAuditService.audit();
+
+        //then
+        assertThat(result.auditedUsers()).isEqualTo(USERS);
+        assertThat(result.mismatchCount()).isEqualTo(2L);
+        assertThat(result.mismatches())
+                .extracting(PointAuditResult.Mismatch::userId)
+                .containsExactlyInAnyOrder(7L, 4_242L);
+    }
+
+    @Test
+    @DisplayName("락 없이 읽은 잔고만 다르고 유저 락 안에서 다시 읽어 같으면 불일치로 보지 않는다.")
+    void ignoreMismatchResolvedUnderLock() {
+        //given
+        given(userPointRepository.findById(anyLong())).willAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            long point = id == 7L ? 0L : balances.get(id); // 감사 도중 처리된 요청으로 잠시 달라 보이는 잔고
+            return new UserPoint(id, point, 0L);
+        });
+        given(pointService.findSnapshot(eq(7L), anyLong())).willReturn(
+                new PointSnapshot(new UserPoint(7L, balances.get(7L), 0L), pointHistoryRepository.findAllById(7L)));
+        pointAuditService = auditService(Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        //when
+        PointAuditResult result = pointAuditService.audit();
+
+        //then
+        assertThat(result.mismatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("서비스 요청 p99 가 예산을 넘으면 감사 속도를 줄인다.")
+    void throttleWhenLiveP99ExceedsBudget() {
+        //given
+        givenBalanceLookups(1L);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Timer liveTimer = Timer.builder("http.server.requests")
+                .tag("uri", "/point/{id}")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        for (int i = 0; i < 100; i++) {
+            liveTimer.record(Duration.ofSeconds(2)); // 예산(1초)을 넘는 서비스 응답 시간
+        }
+        pointAuditService = auditService(Duration.ofSeconds(1), meterRegistry);
+        PointAuditService unthrottled = auditService(Duration.ofSeconds(10), meterRegistry);
+
+        //when
+        PointAuditResult throttled = pointAuditService.audit();
+        PointAuditResult result = unthrottled.audit();
+        unthrottled.shutdown();
+
+        //then
+        assertThat(throttled.throttledMillis()).isPositive();
+        assertThat(result.throttledMillis()).isZero();
+        assertThat(throttled.elapsedMillis()).isGreaterThan(result.elapsedMillis());
+    }
+
+    @Test
+    @DisplayName("감사가 진행 중이면 새 감사 요청은 기다리지 않고 거절한다.")
+    void rejectAuditWhileRunning() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        givenBlockedLookups(started, release);
+        pointAuditService = auditService(Duration.ofSeconds(1), new SimpleMeterRegistry());
+        CompletableFuture<PointAuditResult> running = CompletableFuture.supplyAsync(pointAuditService::audit);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when //then
+        assertThatThrownBy(() -> pointAuditService.audit())
+                .isInstanceOf(PointAuditRunningException.class);
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS).mismatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("정기 감사는 스케줄러 스레드를 잡지 않고 감사 전용 스레드에서 실행한다.")
+    void scheduledAuditDoesNotBlockSchedulerThread() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        givenBlockedLookups(started, release);
+        pointAuditService = auditService(Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        //when
+        pointAuditService.scheduledAudit(); // 감사가 끝나기 전에 반환해야 한다.
+
+        //then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> pointAuditService.audit())
+                .isInstanceOf(PointAuditRunningException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("조회를 기다리는 동안 작업 스레드 수보다 많은 범위를 ioParallelism 개까지 동시에 조회한다.")
+    void lookUpMoreRangesThanWorkersWhileWaitingForIo() throws Exception {
+        //given
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        given(userPointRepository.findById(anyLong())).willAnswer(invocation -> {
+            int current = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+            started.countDown();
+            release.await();
+            concurrent.decrementAndGet();
+            long id = invocation.getArgument(0);
+            return new UserPoint(id, balances.get(id), 0L);
+        });
+        pointAuditService = new PointAuditService(userPointRepository, pointHistoryRepository, pointService,
+                new PointAuditProperties("-", 1, 4, 256, Duration.ofSeconds(1), 1_000), new SimpleMeterRegistry());
+
+        //when
+        CompletableFuture<PointAuditResult> running = CompletableFuture.supplyAsync(pointAuditService::audit);
+
+        //then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue(); // 작업 스레드 1개로 4개 범위를 함께 조회한다.
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS).mismatchCount()).isZero();
+        assertThat(maxConcurrent.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("감사는 헤징하는 조회 API 경로를 쓰지 않고 잔고를 한 번씩만 조회한다.")
+    void auditDoesNotUseHedgedRead() {
+        //given
+        givenBalanceLookups(0L);
+        pointAuditService = auditService(Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        //when
+        pointAuditService.audit();
+
+        //then
+        verify(userPointRepository, never()).findForRead(anyLong());
+        verify(userPointRepository, times(USERS)).findById(anyLong());
+    }
+
+    private PointAuditService auditService(Duration p99Budget, MeterRegistry meterRegistry) {
+        return new PointAuditService(userPointRepository, pointHistoryRepository, pointService,
+                new PointAuditProperties("-", 4, 16, 256, p99Budget, 1_000), meterRegistry);
+    }
+
+    // 잔고 조회마다 lookupMillis 만큼 걸린다.
+    private void givenBalanceLookups(long lookupMillis) {
+        given(userPointRepository.findById(anyLong())).willAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            if (lookupMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(lookupMillis);
+            }
+            return new UserPoint(id, balances.get(id), 0L);
+        });
+    }
+
+    // 첫 잔고 조회가 시작되면 started 를 열고, release 가 열릴 때까지 잔고 조회를 막는다.
+    private void givenBlockedLookups(CountDownLatch started, CountDownLatch release) {
+        given(userPointRepository.findById(anyLong())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            long id = invocation.getArgument(0);
+            return new UserPoint(id, balances.get(id), 0L);
+        });
+    }
+
+    private void givenSnapshots() {
+        given(pointService.findSnapshot(anyLong(), anyLong())).willAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            return new PointSnapshot(new UserPoint(id, balances.get(id), 0L), pointHistoryRepository.findAllById(id));
+        });
+    }
+}
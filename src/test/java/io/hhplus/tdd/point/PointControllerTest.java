@@ -1,6 +1,9 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import io.hhplus.tdd.point.service.MultiPointResult;
+import io.hhplus.tdd.point.service.MultiPointService;
+import io.hhplus.tdd.point.service.PointOverloadedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,16 +12,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.CharacterEncodingFilter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -37,7 +44,9 @@ class PointControllerTest {
     MockMvc mvc;
 
     @MockBean
-    PointService pointService;
+    AsyncPointService asyncPointService;
+    @MockBean
+    MultiPointService multiPointService;
     @Autowired
     WebApplicationContext ctx;
 
@@ -55,16 +64,16 @@ class PointControllerTest {
         //given
         // 초기 유저 포인트 객체
         UserPoint userPoint = new UserPoint(USER_ID, 0L, 0L);
-        given(pointService.findPoint(USER_ID)).willReturn(userPoint);
+        given(asyncPointService.findPointAsync(USER_ID)).willReturn(CompletableFuture.completedFuture(userPoint));
 
         //when
         //then
-        mvc.perform(get("/point/{id}", USER_ID)) // 검증할 uri 호출 (포인트 조회)
+        performAsync(get("/point/{id}", USER_ID)) // 검증할 uri 호출 (포인트 조회)
                 .andExpect(status().isOk()) // 결과가 성공인지 검증
                 .andExpect(jsonPath("$.id").value(USER_ID))
                 .andExpect(jsonPath("$.point").value(0L))
                 .andExpect(jsonPath("$.updateMillis").value(0L));
-        verify(pointService).findPoint(USER_ID); // PointService.findPoint() 메서드가 실행되었는지 검증
+        verify(asyncPointService).findPointAsync(USER_ID); // AsyncPointService.findPointAsync() 메서드가 실행되었는지 검증
     }
 
     @Test
@@ -86,16 +95,16 @@ class PointControllerTest {
                 new PointHistory(1L, USER_ID, CHARGE_AMOUNT, TransactionType.CHARGE, 0L),
                 new PointHistory(1L, USER_ID, USE_AMOUNT, TransactionType.USE, 0L)
         );
-        given(pointService.findHistory(USER_ID)).willReturn(histories);
+        given(asyncPointService.findHistoryAsync(USER_ID)).willReturn(CompletableFuture.completedFuture(histories));
 
         //when
         //then
-        mvc.perform(get("/point/{id}/histories", USER_ID)) // 검증할 uri 호출 (포인트 히스토리 조회)
+        performAsync(get("/point/{id}/histories", USER_ID)) // 검증할 uri 호출 (포인트 히스토리 조회)
                 .andExpect(status().isOk()) // 결과가 성공인지 검증
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.[0].amount").value(CHARGE_AMOUNT))
                 .andExpect(jsonPath("$.[1].amount").value(USE_AMOUNT));
-        verify(pointService).findHistory(USER_ID); // PointService.findHistory() 메서드를 호출하였는지 검증
+        verify(asyncPointService).findHistoryAsync(USER_ID); // AsyncPointService.findHistoryAsync() 메서드를 호출하였는지 검증
     }
 
     @Test
@@ -104,7 +113,7 @@ class PointControllerTest {
         //given
         // 예상하는 충전 후 유저 포인트 객체 생성
         UserPoint userPoint = new UserPoint(USER_ID, CHARGE_AMOUNT, 0);
-        given(pointService.charge(USER_ID, CHARGE_AMOUNT)).willReturn(userPoint);
+        given(asyncPointService.chargeAsync(USER_ID, CHARGE_AMOUNT)).willReturn(CompletableFuture.completedFuture(userPoint));
 
         //when
         //then
@@ -119,7 +128,7 @@ class PointControllerTest {
     void useUserPoint() throws Exception {
         //given
         UserPoint userPoint = new UserPoint(USER_ID, CHARGE_AMOUNT - USE_AMOUNT, 0);
-        given(pointService.use(USER_ID, USE_AMOUNT)).willReturn(userPoint);
+        given(asyncPointService.useAsync(USER_ID, USE_AMOUNT)).willReturn(CompletableFuture.completedFuture(userPoint));
 
         //when
         //then
@@ -129,9 +138,66 @@ class PointControllerTest {
                 .andExpect(jsonPath("$.point").value(CHARGE_AMOUNT - USE_AMOUNT));
     }
 
+    @Test
+    @DisplayName("잔액이 부족하면 거절 사유의 고정 메시지로 400 응답한다.")
+    void rejectUseWhenBalanceIsInsufficient() throws Exception {
+        //given
+        given(asyncPointService.useAsync(USER_ID, USE_AMOUNT))
+                .willReturn(CompletableFuture.completedFuture(PointRejection.INSUFFICIENT_BALANCE));
+
+        //when
+        //then
+        performPatch("/point/{id}/use", USE_AMOUNT) // 검증할 uri 호출 (포인트 사용)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("포인트 잔액이 부족합니다."));
+    }
+
+    @Test
+    @DisplayName("처리 대기 중인 요청이 많으면 503 으로 응답한다.")
+    void respondServiceUnavailableWhenOverloaded() throws Exception {
+        //given
+        given(asyncPointService.chargeAsync(USER_ID, CHARGE_AMOUNT))
+                .willReturn(CompletableFuture.failedFuture(new PointOverloadedException("처리 대기 중인 요청이 많아 요청을 받을 수 없습니다.")));
+
+        //when
+        //then
+        performPatch("/point/{id}/charge", CHARGE_AMOUNT)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("503"));
+    }
+
+    @Test
+    @DisplayName("여러 유저의 잔고를 한 번에 조회하면 조회된 잔고와 실패한 ID 를 함께 응답한다.")
+    void returnPointsOfUsers() throws Exception {
+        //given
+        MultiPointResult result = new MultiPointResult(
+                List.of(new UserPoint(1L, 100L, 0L), new UserPoint(2L, 200L, 0L)),
+                List.of(new MultiPointResult.Error(3L, "TIMEOUT", "제한 시간 안에 조회하지 못했습니다.")));
+        given(multiPointService.findPoints(List.of(1L, 2L, 3L, 1L))).willReturn(result);
+
+        //when
+        //then
+        mvc.perform(get("/point").param("ids", "1,2,3,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points[0].id").value(1L))
+                .andExpect(jsonPath("$.points[1].point").value(200L))
+                .andExpect(jsonPath("$.errors[0].id").value(3L))
+                .andExpect(jsonPath("$.errors[0].code").value("TIMEOUT"));
+        verify(multiPointService).findPoints(List.of(1L, 2L, 3L, 1L));
+    }
+
     private ResultActions performPatch(String uri, long amount) throws Exception {
-        return mvc.perform(patch(uri, USER_ID)
+        return performAsync(patch(uri, USER_ID)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(String.valueOf(amount)));
     }
+
+    // CompletableFuture 를 반환하는 API 는 비동기 처리 결과를 디스패치해 검증한다.
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult mvcResult = mvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(mvcResult));
+    }
 }
\ No newline at end of file
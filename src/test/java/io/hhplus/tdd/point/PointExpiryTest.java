@@ -0,0 +1,258 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.cluster.ClusterMembership;
+import io.hhplus.tdd.point.expiry.PointExpiryProperties;
+import io.hhplus.tdd.point.expiry.PointExpiryScheduler;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PointExpiryTest {
+
+    static final long TICK_MILLIS = 1L;
+    static final long PERIOD_MILLIS = 10_000L;
+    static final long USER_ID = 1L;
+
+    PointLotLedger ledger;
+    long baseMillis;
+
+    @BeforeEach
+    void beforeEach() {
+        baseMillis = System.currentTimeMillis();
+        ledger = new PointLotLedger(new PointExpiryProperties(true,
+                Duration.ofMillis(PERIOD_MILLIS), Duration.ofMillis(TICK_MILLIS)));
+    }
+
+    @Test
+    @DisplayName("충전분은 충전 시각에서 소멸 기간이 지난 tick 에 정확히 만료된다.")
+    void lotsExpireAtTheirTick() {
+        //given
+        // 여러 단의 휠에 걸치도록 만료 시각을 흩뜨린다.
+        Random random = new Random(42);
+        Map<Long, Long> expireMillis = new HashMap<>();
+        for (long userId = 1; userId <= 10_000; userId++) {
+            long chargedMillis = baseMillis + random.nextInt(300_000);
+            charge(userId, 100L, chargedMillis);
+            expireMillis.put(userId, chargedMillis + PERIOD_MILLIS);
+        }
+
+        //when
+        Map<Long, Long> expiredMillis = new HashMap<>();
+        for (long now = baseMillis + 1; now <= baseMillis + 320_000; now++) {
+            for (long userId : ledger.advance(now)) {
+                expiredMillis.put(userId, now);
+            }
+        }
+
+        //then
+        assertThat(expiredMillis).isEqualTo(expireMillis);
+        assertThat(ledger.scheduledLots()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용은 오래된 충전분부터 차감하고, 다 쓰인 충전분은 만료되지 않는다.")
+    void useConsumesOldestLotsFirst() {
+        //given
+        charge(USER_ID, 100L, baseMillis + 10);
+        charge(USER_ID, 200L, baseMillis + 1_000);
+
+        //when
+        publish(TransactionType.USE, USER_ID, 150L, baseMillis + 2_000);
+
+        //then
+        long firstExpiry = baseMillis + 10 + PERIOD_MILLIS;
+        long secondExpiry = baseMillis + 1_000 + PERIOD_MILLIS;
+        assertThat(ledger.scheduledLots()).isEqualTo(1L);
+        assertThat(ledger.advance(firstExpiry)).isEmpty();
+        assertThat(ledger.expirableAmount(USER_ID, firstExpiry)).isZero();
+        assertThat(ledger.advance(secondExpiry)).containsExactly(USER_ID);
+        assertThat(ledger.expirableAmount(USER_ID, secondExpiry)).isEqualTo(150L);
+    }
+
+    @Test
+    @DisplayName("같은 tick 에 만료되는 한 유저의 충전분은 한 번에 소멸 대상이 된다.")
+    void lotsInSameTickExpireTogether() {
+        //given
+        ledger = new PointLotLedger(new PointExpiryProperties(true,
+                Duration.ofMillis(PERIOD_MILLIS), Duration.ofMillis(1_000)));
+        long chargedMillis = (baseMillis / 1_000 + 1) * 1_000; // tick 경계
+        charge(USER_ID, 100L, chargedMillis + 100);
+        charge(USER_ID, 200L, chargedMillis + 900);
+
+        //when
+        Set<Long> userIds = ledger.advance(chargedMillis + PERIOD_MILLIS + 1_000);
+
+        //then
+        assertThat(userIds).containsExactly(USER_ID);
+        assertThat(ledger.expirableAmount(USER_ID, chargedMillis + PERIOD_MILLIS + 1_000)).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("소멸이 반영되면 소멸된 충전분은 원장에서 빠진다.")
+    void expireRemovesExpiredLots() {
+        //given
+        charge(USER_ID, 100L, baseMillis + 10);
+        charge(USER_ID, 200L, baseMillis + 5_000);
+        long nowMillis = baseMillis + 10 + PERIOD_MILLIS;
+        ledger.advance(nowMillis);
+
+        //when
+        publish(TransactionType.EXPIRE, USER_ID, ledger.expirableAmount(USER_ID, nowMillis), nowMillis);
+
+        //then
+        assertThat(ledger.expirableAmount(USER_ID, nowMillis)).isZero();
+        assertThat(ledger.expirableAmount(USER_ID, baseMillis + 5_000 + PERIOD_MILLIS)).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("잔고가 부족해 일부만 소멸된 충전분은 다음 tick 에 다시 소멸 대상이 된다.")
+    void rescheduleRemainderWhenExpireIsCapped() {
+        //given
+        charge(USER_ID, 100L, baseMillis + 10);
+        long nowMillis = baseMillis + 10 + PERIOD_MILLIS;
+        ledger.advance(nowMillis);
+        publish(TransactionType.EXPIRE, USER_ID, 40L, nowMillis); // 잔고 40 만큼만 소멸
+
+        //when
+        int rescheduled = ledger.rescheduleOverdue();
+
+        //then
+        assertThat(rescheduled).isEqualTo(1);
+        assertThat(ledger.advance(nowMillis + TICK_MILLIS)).containsExactly(USER_ID);
+        assertThat(ledger.expirableAmount(USER_ID, nowMillis + TICK_MILLIS)).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스로 옮겨진 유저의 만료 충전분은 다시 등록하지 않는다.")
+    void doNotRescheduleReleasedLots() {
+        //given
+        charge(USER_ID, 100L, baseMillis + 10);
+        long nowMillis = baseMillis + 10 + PERIOD_MILLIS;
+        ledger.advance(nowMillis);
+        ledger.release(USER_ID);
+
+        //when
+        int rescheduled = ledger.rescheduleOverdue();
+
+        //then
+        assertThat(rescheduled).isZero();
+        assertThat(ledger.scheduledLots()).isZero();
+    }
+
+    @Test
+    @DisplayName("소멸에 실패하면 만료된 충전분을 다음 tick 에 다시 소멸한다.")
+    void retryExpireOnNextTickWhenExpireFails() throws InterruptedException {
+        //given
+        PointService pointService = mock(PointService.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ClusterMembership> clusterMembership = mock(ObjectProvider.class);
+        PointExpiryScheduler scheduler = new PointExpiryScheduler(ledger, pointService, clusterMembership);
+        charge(USER_ID, 100L, System.currentTimeMillis() - PERIOD_MILLIS - 1_000); // 이미 만료된 충전분
+        given(pointService.expire(eq(USER_ID), anyLong()))
+                .willThrow(new IllegalStateException("소멸 실패"))
+                .willReturn(UserPoint.empty(USER_ID));
+        TimeUnit.MILLISECONDS.sleep(5);
+
+        //when
+        scheduler.expire();
+        TimeUnit.MILLISECONDS.sleep(5);
+        scheduler.expire();
+
+        //then
+        verify(pointService, times(2)).expire(eq(USER_ID), anyLong());
+    }
+
+    @Test
+    @DisplayName("밀린 tick 은 한 번에 다 처리하지 않고 다음 호출에서 이어서 처리한다.")
+    void advanceProcessesBoundedTicksPerCall() {
+        //given
+        // tick 1ms 에서 만료까지 30,000 tick. 한 번에 처리하는 tick(16,384)보다 많다.
+        ledger = new PointLotLedger(new PointExpiryProperties(true,
+                Duration.ofMillis(30_000), Duration.ofMillis(TICK_MILLIS)));
+        charge(USER_ID, 100L, baseMillis);
+        long nowMillis = baseMillis + 40_000;
+
+        //when
+        Set<Long> first = ledger.advance(nowMillis);
+        Set<Long> second = ledger.advance(nowMillis);
+
+        //then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly(USER_ID);
+        assertThat(ledger.scheduledLots()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠을 돌리는 중에 여러 유저가 충전하고 사용해도 남은 충전분 수가 맞는다.")
+    void chargeAndUseWhileAdvancing() throws InterruptedException {
+        //given
+        int users = 8;
+        int charges = 5_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(users + 1);
+        CountDownLatch countDownLatch = new CountDownLatch(users);
+        AtomicBoolean charging = new AtomicBoolean(true);
+
+        //when
+        // 유저마다 한 스레드에서 충전/사용한다. (유저 락 안에서 이벤트가 발행되는 것과 같다.)
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < charges; i++) {
+                        charge(id, 100L, baseMillis);
+                        if (i % 2 == 1) {
+                            publish(TransactionType.USE, id, 200L, baseMillis); // 충전분 두 개를 다 쓴다.
+                        }
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        executorService.submit(() -> {
+            while (charging.get()) {
+                ledger.advance(baseMillis);
+            }
+        });
+        countDownLatch.await();
+        charging.set(false);
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(ledger.scheduledLots()).isZero();
+        assertThat(ledger.advance(baseMillis + PERIOD_MILLIS + 1)).isEmpty();
+    }
+
+    private void charge(long userId, long amount, long chargedMillis) {
+        publish(TransactionType.CHARGE, userId, amount, chargedMillis);
+    }
+
+    private void publish(TransactionType type, long userId, long amount, long updateMillis) {
+        ledger.onCommitted(new PointCommittedEvent(type, amount, new UserPoint(userId, 0L, updateMillis),
+                new PointHistory(updateMillis, userId, amount, type, updateMillis)));
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.service.ExportFormat;
+import io.hhplus.tdd.point.service.PointExportService;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PointExportServiceTest {
+
+    @InjectMocks
+    PointExportService pointExportService; // 테스트 대상 객체 주입
+
+    @Mock
+    PointService pointService;
+
+    static final long AS_OF = 1_000L; // 내보내기 기준 시각
+
+    @Test
+    @DisplayName("기준 시점 이후의 내역은 잔고에서 되돌리고 내역에서 제외한다.")
+    void snapshotRevertsHistoriesAfterAsOf() {
+        //given
+        // 기준 시점 이후에 200 충전, 50 사용이 반영된 잔고
+        UserPoint current = new UserPoint(1L, 250L, 2_000L);
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 500L),
+                new PointHistory(2L, 1L, 200L, TransactionType.CHARGE, 1_500L),
+                new PointHistory(3L, 1L, 50L, TransactionType.USE, 1_800L)
+        );
+
+        //when
+        PointSnapshot snapshot = PointSnapshot.asOf(current, histories, AS_OF);
+
+        //then
+        assertThat(snapshot.userPoint().point()).isEqualTo(100L); // 기준 시점의 잔고
+        assertThat(snapshot.userPoint().updateMillis()).isEqualTo(500L);
+        assertThat(snapshot.histories()).extracting(PointHistory::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("모든 유저의 잔고와 내역을 CSV 로 내보낸다.")
+    void exportAllUsersAsCsv() throws Exception {
+        //given
+        given(pointService.findAllUserIds()).willReturn(List.of(1L, 2L));
+        given(pointService.findSnapshot(1L, AS_OF)).willReturn(new PointSnapshot(
+                new UserPoint(1L, 100L, 500L),
+                List.of(new PointHistory(7L, 1L, 100L, TransactionType.CHARGE, 500L))));
+        // 기준 시점 이후에 생긴 유저는 내보내지 않는다.
+        given(pointService.findSnapshot(2L, AS_OF)).willReturn(new PointSnapshot(
+                new UserPoint(2L, 0L, 0L), List.of()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        pointExportService.export(ExportFormat.CSV, AS_OF, out);
+
+        //then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "record,user_id,history_id,amount,type,point,update_millis\n"
+                        + "balance,1,,,,100,500\n"
+                        + "history,1,7,100,CHARGE,,500\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON 형식은 한 줄에 하나의 JSON 객체를 기록한다.")
+    void exportAsNdjson() throws Exception {
+        //given
+        given(pointService.findAllUserIds()).willReturn(List.of(1L));
+        given(pointService.findSnapshot(1L, AS_OF)).willReturn(new PointSnapshot(
+                new UserPoint(1L, 100L, 500L),
+                List.of(new PointHistory(7L, 1L, 100L, TransactionType.CHARGE, 500L))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        pointExportService.export(ExportFormat.NDJSON, AS_OF, out);
+
+        //then
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "{\"record\":\"balance\",\"id\":1,\"point\":100,\"updateMillis\":500}",
+                "{\"record\":\"history\",\"id\":7,\"userId\":1,\"amount\":100,\"type\":\"CHARGE\",\"updateMillis\":500}");
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.repository.archive.ArchivingPointHistoryRepository;
+import io.hhplus.tdd.point.repository.archive.PointHistorySegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryArchiveTest {
+
+    static final long USER_ID = 1L; // 테스트에 쓰일 유저 ID
+    static final long BASE_MILLIS = 1_700_000_000_000L; // 테스트 내역의 기준 시각
+
+    ArchivingPointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        pointHistoryRepository = new ArchivingPointHistoryRepository();
+    }
+
+    @Test
+    @DisplayName("압축 세그먼트로 옮긴 내역은 원래 값 그대로 복원된다.")
+    void segmentRestoresOriginalHistories() {
+        //given
+        // 여러 블록에 걸치도록 충전/사용 내역을 생성한다.
+        List<PointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            histories.add(new PointHistory(i + 1, USER_ID, 100L * (i % 7), type, BASE_MILLIS + i * 1_000L));
+        }
+
+        //when
+        PointHistorySegment segment = PointHistorySegment.of(USER_ID, histories);
+
+        //then
+        assertThat(segment.histories()).containsExactlyElementsOf(histories);
+        assertThat(segment.size()).isEqualTo(300);
+        assertThat(segment.blockCount()).isEqualTo(3); // 블록당 128건
+        assertThat(segment.firstMillis()).isEqualTo(BASE_MILLIS);
+        assertThat(segment.lastMillis()).isEqualTo(BASE_MILLIS + 299_000L);
+    }
+
+    @Test
+    @DisplayName("세그먼트에 내역을 덧붙여도 원래 값 그대로 복원된다.")
+    void appendedSegmentRestoresOriginalHistories() {
+        //given
+        List<PointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            histories.add(new PointHistory(i + 1, USER_ID, 10L * i, TransactionType.CHARGE, BASE_MILLIS + i));
+        }
+        PointHistorySegment segment = PointHistorySegment.of(USER_ID, histories.subList(0, 200));
+
+        //when
+        // 마지막 블록(72건)이 덜 찬 상태에서 100건을 덧붙인다.
+        PointHistorySegment appended = segment.append(histories.subList(200, 300));
+
+        //then
+        assertThat(appended.histories()).containsExactlyElementsOf(histories);
+        assertThat(appended.blockCount()).isEqualTo(3);
+        assertThat(segment.histories()).containsExactlyElementsOf(histories.subList(0, 200)); // 원래 세그먼트는 그대로
+    }
+
+    @Test
+    @DisplayName("여러 번 보관해도 작은 세그먼트는 하나로 합쳐진다.")
+    void compactMergesSmallSegments() {
+        //given
+        List<PointHistory> expected = new ArrayList<>();
+
+        //when
+        // 50건씩 저장하고 보관하기를 10번 반복한다.
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                long millis = BASE_MILLIS + round * 100L + i;
+                expected.add(pointHistoryRepository.save(USER_ID, 10L + i, TransactionType.CHARGE, millis));
+            }
+            pointHistoryRepository.compact(BASE_MILLIS + round * 100L + 100);
+        }
+
+        //then
+        assertThat(pointHistoryRepository.segmentCount(USER_ID)).isEqualTo(1);
+        assertThat(pointHistoryRepository.findAllById(USER_ID)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("보관된 내역과 최근 내역을 합쳐 시간순으로 조회한다.")
+    void findAllByIdStitchesArchivedAndHotHistories() {
+        //given
+        for (int i = 0; i < 200; i++) {
+            pointHistoryRepository.save(USER_ID, 10L + i, TransactionType.CHARGE, BASE_MILLIS + i);
+        }
+        pointHistoryRepository.save(2L, 500L, TransactionType.CHARGE, BASE_MILLIS); // 다른 유저의 내역
+        List<PointHistory> expected = List.copyOf(pointHistoryRepository.findAllById(USER_ID));
+
+        //when
+        // 앞의 150건만 보관 대상이 된다.
+        int archived = pointHistoryRepository.compact(BASE_MILLIS + 150);
+        List<PointHistory> result = pointHistoryRepository.findAllById(USER_ID);
+
+        //then
+        assertThat(archived).isEqualTo(151); // 유저 1의 150건 + 유저 2의 1건
+        assertThat(result).containsExactlyElementsOf(expected);
+        assertThat(pointHistoryRepository.findAllById(2L))
+                .extracting(PointHistory::amount)
+                .containsExactly(500L);
+    }
+
+    @Test
+    @DisplayName("보관 이후에 저장된 내역도 이어서 조회된다.")
+    void findAllByIdIncludesHistoriesSavedAfterCompaction() {
+        //given
+        pointHistoryRepository.save(USER_ID, 100L, TransactionType.CHARGE, BASE_MILLIS);
+        pointHistoryRepository.save(USER_ID, 30L, TransactionType.USE, BASE_MILLIS + 1);
+        pointHistoryRepository.compact(BASE_MILLIS + 10);
+
+        //when
+        pointHistoryRepository.save(USER_ID, 50L, TransactionType.CHARGE, BASE_MILLIS + 20);
+        List<PointHistory> result = pointHistoryRepository.findAllById(USER_ID);
+
+        //then
+        assertThat(result).extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.USE, TransactionType.CHARGE);
+        assertThat(result).extracting(PointHistory::amount)
+                .containsExactly(100L, 30L, 50L);
+    }
+}
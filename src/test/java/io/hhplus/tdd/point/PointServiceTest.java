@@ -1,22 +1,37 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.monitor.HotUserSketch;
+import io.hhplus.tdd.point.monitor.SlowOperationProperties;
+import io.hhplus.tdd.point.monitor.SlowOperationRecorder;
+import io.hhplus.tdd.point.recent.RecentHistoryCache;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.VersionedUserPoint;
+import io.hhplus.tdd.point.service.PointHandoff;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointSnapshot;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +47,16 @@ class PointServiceTest {
     UserPointRepository userPointRepository;
     @Mock
     PointHistoryRepository pointHistoryRepository;
+    @Mock
+    HotUserSketch hotUserSketch;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    PointLotLedger pointLotLedger;
+    @Mock
+    RecentHistoryCache recentHistoryCache;
+    @Spy
+    SlowOperationRecorder slowOperationRecorder = new SlowOperationRecorder(new SlowOperationProperties(Duration.ofSeconds(1), 16));
 
     static final Long USER_ID = 1L; // 테스트에 쓰일 유저 ID
 
@@ -40,10 +65,6 @@ class PointServiceTest {
     void failToChargeIfAmountIsNotGreaterThanZero() {
         //given
         long chargeAmount = 0L; // 충전할 금액
-        UserPoint userPoint = new UserPoint(USER_ID, chargeAmount, System.currentTimeMillis()); // 초기 유저 포인트 객체
-
-        // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
-        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
 
         //when - then
         assertThatThrownBy(() -> {
@@ -51,6 +72,7 @@ class PointServiceTest {
         })
             .isInstanceOf(IllegalArgumentException.class) // IllegalArgumentException 예외를 발생시키는지 검증
             .hasMessageContaining("0보다 커야 합니다.");
+        verify(userPointRepository, never()).findForUpdate(anyLong()); // 잔고를 조회하기 전에 거절한다.
     }
 
     @Test
@@ -62,10 +84,10 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(USER_ID, chargeAmount, System.currentTimeMillis()); // 초기 유저 포인트 객체
 
         // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
-        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(userPoint));
         // 포인트 충전 후 예상되는 유저 포인트 객체 반환 설정
-        given(userPointRepository.saveOrUpdate(USER_ID, expectedAmount))
-                .willReturn(new UserPoint(USER_ID, expectedAmount, System.currentTimeMillis()));
+        given(userPointRepository.update(USER_ID, VersionedUserPoint.UNVERSIONED, expectedAmount))
+                .willReturn(VersionedUserPoint.unversioned(new UserPoint(USER_ID, expectedAmount, System.currentTimeMillis())));
 
         //when
         UserPoint result = pointService.charge(USER_ID, chargeAmount); // 검증할 메서드 실행
@@ -73,6 +95,7 @@ class PointServiceTest {
         //then
         assertThat(result).isNotNull();
         assertThat(result.point()).isEqualTo(expectedAmount); // 결과 포인트가 예상 금액과 일치하는지 검증
+        verify(userPointRepository, never()).findForRead(anyLong()); // 쓰기 요청의 조회는 hedging 하지 않는다.
         // 부수적인 동작인 포인트 충전 기록을 남기는지 검증
         verify(pointHistoryRepository).save(eq(USER_ID), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
     }
@@ -88,7 +111,7 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(USER_ID, 0L, System.currentTimeMillis()); // 초기 유저 포인트 객체
 
         // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
-        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(userPoint));
 
         //when - then
         assertThatThrownBy(() -> {
@@ -103,14 +126,14 @@ class PointServiceTest {
     void returnUsePointInfoWhenUserExists() {
         //given
         UserPoint expected = new UserPoint(USER_ID, 0L, 0L); // 예상되는 유저 포인트 객체
-        given(userPointRepository.findById(USER_ID)).willReturn(expected); // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
+        given(userPointRepository.findForRead(USER_ID)).willReturn(expected); // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
 
         //when
         UserPoint result = pointService.findPoint(USER_ID); // 검증할 메서드 실행
 
         //then
         assertThat(result.id()).isEqualTo(USER_ID); // 결과 유저 ID가 예상과 일치하는지 검증
-        verify(userPointRepository).findById(eq(USER_ID)); // 해당 메서드가 호출되었는지 검증
+        verify(userPointRepository).findForRead(eq(USER_ID)); // 해당 메서드가 호출되었는지 검증
     }
 
     @Test
@@ -118,10 +141,6 @@ class PointServiceTest {
     void failToUseIfUseAmountIsNotGreaterThanZero() {
         //given
         long useAmount = 0L;
-        UserPoint userPoint = new UserPoint(USER_ID, useAmount, System.currentTimeMillis()); // 초기 유저 포인트 객체
-
-        // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
-        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
 
         //when - then
         assertThatThrownBy(() -> {
@@ -129,6 +148,42 @@ class PointServiceTest {
         })
                 .isInstanceOf(IllegalArgumentException.class) // IllegalArgumentException 예외를 발생시키는지 검증
                 .hasMessageContaining("0보다 커야 합니다.");
+        verify(userPointRepository, never()).findForUpdate(anyLong()); // 잔고를 조회하기 전에 거절한다.
+    }
+
+    @Test
+    @DisplayName("잔고 갱신이 실패하면 내역을 남기지 않는다.")
+    void doNotSaveHistoryWhenBalanceUpdateFails() {
+        //given
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(new UserPoint(USER_ID, 1_000L, System.currentTimeMillis())));
+        given(userPointRepository.update(USER_ID, VersionedUserPoint.UNVERSIONED, 1_500L))
+                .willThrow(new OptimisticLockingFailureException("다른 요청이 먼저 유저 포인트를 변경했습니다: " + USER_ID));
+
+        //when
+        //then
+        assertThatThrownBy(() -> pointService.charge(USER_ID, 500L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(pointHistoryRepository, never()).save(anyLong(), anyLong(), any(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("잔고 갱신 후 내역 저장이 실패하면 잔고를 조회했던 값으로 되돌리고 커밋 이벤트를 발행하지 않는다.")
+    void restoreBalanceWhenHistorySaveFails() {
+        //given
+        UserPoint userPoint = new UserPoint(USER_ID, 1_000L, System.currentTimeMillis());
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(new VersionedUserPoint(userPoint, 3L));
+        given(userPointRepository.update(USER_ID, 3L, 1_500L))
+                .willReturn(new VersionedUserPoint(new UserPoint(USER_ID, 1_500L, System.currentTimeMillis()), 4L));
+        given(pointHistoryRepository.save(eq(USER_ID), eq(500L), eq(TransactionType.CHARGE), anyLong()))
+                .willThrow(new IllegalStateException("내역 저장 실패"));
+
+        //when
+        //then
+        assertThatThrownBy(() -> pointService.charge(USER_ID, 500L))
+                .isInstanceOf(IllegalStateException.class);
+        verify(userPointRepository).update(USER_ID, 4L, 1_000L); // 갱신 후 version 을 기준으로 되돌린다.
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -139,14 +194,14 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(USER_ID, 1_000L, System.currentTimeMillis()); // 초기 유저 포인트 객체
 
         // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
-        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(userPoint));
 
         //when - then
         assertThatThrownBy(() -> {
             pointService.use(USER_ID, useAmount); // 검증할 메서드 실행
         })
                 .isInstanceOf(IllegalArgumentException.class) // IllegalArgumentException 예외를 발생시키는지 검증
-                .hasMessageContaining("잔액이 부족합니다.");
+                .hasMessage("포인트 잔액이 부족합니다. 잔액: 1000"); // UserPoint.use 와 같은 메시지
     }
 
     @Test
@@ -159,10 +214,10 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(USER_ID, chargeAmount, System.currentTimeMillis()); // 초기 유저 포인트 객체
 
         // 유저의 현재 포인트 조회 시 mock 객체 반환 설정
-        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(userPoint));
         // 포인트 충전 후 예상되는 유저 포인트 객체 반환 설정
-        given(userPointRepository.saveOrUpdate(USER_ID, expectedAmount))
-                .willReturn(new UserPoint(USER_ID, expectedAmount, System.currentTimeMillis()));
+        given(userPointRepository.update(USER_ID, VersionedUserPoint.UNVERSIONED, expectedAmount))
+                .willReturn(VersionedUserPoint.unversioned(new UserPoint(USER_ID, expectedAmount, System.currentTimeMillis())));
 
         //when
         UserPoint result = pointService.use(userPoint.id(), useAmount); // 검증할 메서드 실행
@@ -173,6 +228,41 @@ class PointServiceTest {
         verify(pointHistoryRepository).save(eq(USER_ID), eq(useAmount), eq(TransactionType.USE), anyLong());
     }
 
+    @Test
+    @DisplayName("만료된 충전분만큼 포인트를 소멸시키고 소멸 내역을 남긴다.")
+    void expirePointWhenLotsExpired() {
+        //given
+        long nowMillis = System.currentTimeMillis();
+        UserPoint userPoint = new UserPoint(USER_ID, 1_000L, 0L);
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(userPoint));
+        given(pointLotLedger.expirableAmount(USER_ID, nowMillis)).willReturn(300L); // 만료된 충전분 합계
+
+        //when
+        UserPoint result = pointService.expire(USER_ID, nowMillis);
+
+        //then
+        assertThat(result.point()).isEqualTo(700L);
+        verify(pointHistoryRepository).save(eq(USER_ID), eq(300L), eq(TransactionType.EXPIRE), anyLong());
+        verify(userPointRepository).update(USER_ID, VersionedUserPoint.UNVERSIONED, 700L);
+    }
+
+    @Test
+    @DisplayName("만료된 충전분이 없으면 포인트와 내역을 바꾸지 않는다.")
+    void doNothingWhenNoLotsExpired() {
+        //given
+        long nowMillis = System.currentTimeMillis();
+        UserPoint userPoint = new UserPoint(USER_ID, 1_000L, 0L);
+        given(userPointRepository.findForUpdate(USER_ID)).willReturn(VersionedUserPoint.unversioned(userPoint));
+        given(pointLotLedger.expirableAmount(USER_ID, nowMillis)).willReturn(0L); // 그 사이 모두 사용됨
+
+        //when
+        UserPoint result = pointService.expire(USER_ID, nowMillis);
+
+        //then
+        assertThat(result).isEqualTo(userPoint);
+        verify(pointHistoryRepository, never()).save(anyLong(), anyLong(), any(), anyLong());
+    }
+
     @Test
     @DisplayName("특정 유저의 포인트 충전/사용 내역을 조회한다.")
     void returnUserPointHistoryWhenUseExists() {
@@ -195,4 +285,63 @@ class PointServiceTest {
         // 포인트 내역 조회 메서드가 호출되었는지 검증
         verify(pointHistoryRepository).findAllById(eq(USER_ID));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("내역을 읽는 동안 잔고가 바뀌지 않았으면 읽은 잔고와 내역으로 스냅샷을 만든다.")
+    void findSnapshotWhenBalanceIsUnchanged() {
+        //given
+        UserPoint userPoint = new UserPoint(USER_ID, 1_000L, 100L);
+        List<PointHistory> histories = List.of(new PointHistory(1L, USER_ID, 1_000L, TransactionType.CHARGE, 90L));
+        given(userPointRepository.findById(USER_ID)).willReturn(userPoint);
+        given(pointHistoryRepository.findAllById(USER_ID)).willReturn(histories);
+
+        //when
+        PointSnapshot snapshot = pointService.findSnapshot(USER_ID, Long.MAX_VALUE);
+
+        //then
+        assertThat(snapshot.userPoint()).isEqualTo(userPoint);
+        assertThat(snapshot.histories()).isEqualTo(histories);
+        verify(pointHistoryRepository, times(1)).findAllById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("내역을 읽는 동안 잔고가 계속 바뀌면 마지막에 읽은 잔고 이후의 내역은 스냅샷에서 뺀다.")
+    void findSnapshotExcludesHistoriesAfterLastBalance() {
+        //given
+        UserPoint first = new UserPoint(USER_ID, 1_000L, 100L);
+        UserPoint second = new UserPoint(USER_ID, 1_500L, 200L);
+        UserPoint last = new UserPoint(USER_ID, 1_200L, 300L);
+        PointHistory charge = new PointHistory(1L, USER_ID, 1_000L, TransactionType.CHARGE, 90L);
+        PointHistory secondCharge = new PointHistory(2L, USER_ID, 500L, TransactionType.CHARGE, 190L);
+        PointHistory use = new PointHistory(3L, USER_ID, 300L, TransactionType.USE, 290L);
+        PointHistory lateCharge = new PointHistory(4L, USER_ID, 100L, TransactionType.CHARGE, 390L); // 마지막 잔고 이후의 쓰기
+        given(userPointRepository.findById(USER_ID)).willReturn(first, second, last);
+        given(pointHistoryRepository.findAllById(USER_ID)).willReturn(
+                List.of(charge, secondCharge),
+                List.of(charge, secondCharge, use),
+                List.of(charge, secondCharge, use, lateCharge));
+
+        //when
+        PointSnapshot snapshot = pointService.findSnapshot(USER_ID, Long.MAX_VALUE);
+
+        //then
+        assertThat(snapshot.userPoint()).isEqualTo(last);
+        assertThat(snapshot.histories()).containsExactly(charge, secondCharge, use);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 옮겨 온 유저는 최근 내역 캐시에서 내보내 다음 조회 때 옮겨 온 내역까지 읽게 한다.")
+    void evictRecentHistoryWhenUserIsImported() {
+        //given
+        PointHistory charge = new PointHistory(1L, USER_ID, 1_000L, TransactionType.CHARGE, 100L);
+        given(pointHistoryRepository.findAllById(USER_ID)).willReturn(List.of());
+
+        //when
+        pointService.importUser(new PointHandoff(USER_ID, 1_000L, List.of(charge), List.of()));
+
+        //then
+        verify(userPointRepository).saveOrUpdate(USER_ID, 1_000L);
+        verify(pointHistoryRepository).save(USER_ID, 1_000L, TransactionType.CHARGE, 100L);
+        verify(recentHistoryCache).evict(USER_ID);
+    }
+}
@@ -0,0 +1,206 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.recent.RecentHistoryCache;
+import io.hhplus.tdd.point.recent.RecentHistoryProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecentHistoryCacheTest {
+
+    static final long USER_ID = 1L;
+    static final int CAPACITY = 20;
+
+    @Mock
+    PointHistoryRepository pointHistoryRepository;
+
+    @Test
+    @DisplayName("처음 조회할 때만 저장소에서 읽고, 이후 커밋된 내역은 이벤트로 반영된다.")
+    void loadOnceAndFollowCommits() {
+        //given
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        given(pointHistoryRepository.findAllById(USER_ID)).willReturn(histories(1, 30));
+
+        //when
+        List<PointHistory> loaded = cache.findRecent(USER_ID, CAPACITY);
+        cache.onCommitted(committed(history(31)));
+        List<PointHistory> recent = cache.findRecent(USER_ID, 5);
+
+        //then
+        assertThat(loaded).extracting(PointHistory::id).containsExactlyElementsOf(ids(11, 30));
+        assertThat(recent).extracting(PointHistory::id).containsExactly(27L, 28L, 29L, 30L, 31L);
+        verify(pointHistoryRepository, times(1)).findAllById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("저장소를 읽는 동안 커밋된 내역은 중복 없이 한 번만 담긴다.")
+    void mergeCommitsDuringLoadWithoutDuplicates() {
+        //given
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        given(pointHistoryRepository.findAllById(USER_ID)).willAnswer(invocation -> {
+            // 읽는 도중 31번 내역이 커밋되고, 읽은 결과에도 31번이 포함된다.
+            cache.onCommitted(committed(history(31)));
+            return histories(1, 31);
+        });
+
+        //when
+        List<PointHistory> recent = cache.findRecent(USER_ID, CAPACITY);
+
+        //then
+        assertThat(recent).extracting(PointHistory::id).containsExactlyElementsOf(ids(12, 31));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 유저의 커밋 이벤트는 담지 않는다.")
+    void ignoreCommitsOfUncachedUsers() {
+        //given
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+
+        //when
+        cache.onCommitted(committed(history(1)));
+
+        //then
+        assertThat(cache.cachedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 건수가 1 미만이거나 보관 건수를 넘으면 조회에 실패한다.")
+    void failWhenLimitIsOutOfRange() {
+        //given
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+
+        //when
+        //then
+        assertThatThrownBy(() -> cache.findRecent(USER_ID, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.findRecent(USER_ID, CAPACITY + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘는 유저는 내보내고, 유휴 시간이 지난 유저도 정리된다.")
+    void evictOverBudgetAndIdleUsers() throws InterruptedException {
+        //given
+        // 유저 10명 분량의 예산 (HistoryRing 추정 크기 128 + 52 x 20 = 1168 바이트)
+        RecentHistoryCache cache = cache(DataSize.ofBytes(1_168L * 10), Duration.ofMillis(50));
+        given(pointHistoryRepository.findAllById(anyLong())).willReturn(List.of());
+
+        //when
+        for (long userId = 1; userId <= 11; userId++) {
+            cache.findRecent(userId, CAPACITY);
+        }
+        int overBudget = cache.cachedUsers();
+        Thread.sleep(100L);
+        cache.evictIdle();
+
+        //then
+        assertThat(overBudget).isLessThanOrEqualTo(10);
+        assertThat(cache.cachedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 이벤트 없이 내역이 추가되는 저장소면 캐시하지 않고 저장소에서 최근 내역을 읽는다.")
+    void bypassWhenRepositoryIsWrittenExternally() {
+        //given
+        given(pointHistoryRepository.externallyWritten()).willReturn(true);
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        given(pointHistoryRepository.findRecentById(USER_ID, 5))
+                .willReturn(histories(26, 30))
+                .willReturn(histories(27, 31)); // 다른 프로세스가 31번 내역을 저장했다.
+
+        //when
+        cache.findRecent(USER_ID, 5);
+        List<PointHistory> recent = cache.findRecent(USER_ID, 5);
+
+        //then
+        assertThat(recent).extracting(PointHistory::id).containsExactly(27L, 28L, 29L, 30L, 31L);
+        assertThat(cache.cachedUsers()).isZero();
+        verify(pointHistoryRepository, never()).findAllById(anyLong());
+    }
+
+    @Test
+    @DisplayName("내보낸 유저는 다음 조회 때 저장소에서 다시 읽는다.")
+    void reloadAfterEvict() {
+        //given
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+        given(pointHistoryRepository.findAllById(USER_ID))
+                .willReturn(histories(1, 30))
+                .willReturn(histories(1, 32)); // 다른 인스턴스에서 옮겨 온 내역
+        cache.findRecent(USER_ID, CAPACITY);
+
+        //when
+        cache.evict(USER_ID);
+        List<PointHistory> recent = cache.findRecent(USER_ID, 2);
+
+        //then
+        assertThat(recent).extracting(PointHistory::id).containsExactly(31L, 32L);
+        verify(pointHistoryRepository, times(2)).findAllById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("계속 조회되는 유저라도 채운 지 maxAge 가 지나면 저장소에서 다시 읽는다.")
+    void reloadAfterMaxAgeEvenIfReadContinuously() throws InterruptedException {
+        //given
+        RecentHistoryCache cache = cache(DataSize.ofMegabytes(1), Duration.ofMinutes(10), Duration.ofMillis(50));
+        given(pointHistoryRepository.findAllById(USER_ID))
+                .willReturn(histories(1, 30))
+                .willReturn(histories(1, 31));
+        cache.findRecent(USER_ID, CAPACITY);
+
+        //when
+        Thread.sleep(100L);
+        List<PointHistory> recent = cache.findRecent(USER_ID, 1);
+        Thread.sleep(100L);
+        cache.evictIdle(); // 유휴 시간(10분) 안에 조회되었지만 채운 지 maxAge 가 지났다.
+
+        //then
+        assertThat(recent).extracting(PointHistory::id).containsExactly(31L);
+        assertThat(cache.cachedUsers()).isZero();
+    }
+
+    private RecentHistoryCache cache(DataSize memoryBudget, Duration idleTimeout) {
+        return cache(memoryBudget, idleTimeout, Duration.ofHours(1));
+    }
+
+    private RecentHistoryCache cache(DataSize memoryBudget, Duration idleTimeout, Duration maxAge) {
+        return new RecentHistoryCache(pointHistoryRepository,
+                new RecentHistoryProperties(CAPACITY, memoryBudget, idleTimeout, maxAge, Duration.ofMinutes(1)));
+    }
+
+    private static PointHistory history(long id) {
+        return new PointHistory(id, USER_ID, 100L, TransactionType.CHARGE, id);
+    }
+
+    private static List<PointHistory> histories(long fromId, long toId) {
+        List<PointHistory> histories = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            histories.add(history(id));
+        }
+        return histories;
+    }
+
+    private static List<Long> ids(long fromId, long toId) {
+        return histories(fromId, toId).stream().map(PointHistory::id).toList();
+    }
+
+    private static PointCommittedEvent committed(PointHistory history) {
+        return new PointCommittedEvent(history.type(), history.amount(),
+                new UserPoint(history.userId(), 0L, history.updateMillis()), history);
+    }
+}
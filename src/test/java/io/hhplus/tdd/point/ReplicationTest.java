@@ -0,0 +1,247 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.replication.ReplicaReadInterceptor;
+import io.hhplus.tdd.point.replication.ReplicaStore;
+import io.hhplus.tdd.point.replication.ReplicationLog;
+import io.hhplus.tdd.point.replication.ReplicationProperties;
+import io.hhplus.tdd.point.replication.ReplicationRecord;
+import io.hhplus.tdd.point.replication.ReplicationResponseAdvice;
+import io.hhplus.tdd.point.service.PointCommittedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary/follower 읽기 복제 테스트
+ */
+class ReplicationTest {
+
+    final HttpClient httpClient = HttpClient.newHttpClient();
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        instances.forEach(ConfigurableApplicationContext::close);
+        instances.clear();
+    }
+
+    @Test
+    @DisplayName("로그에서 밀려난 버전을 요청하면 null 을 반환해 스냅샷이 필요함을 알린다.")
+    void logReportsGapWhenVersionIsEvicted() throws InterruptedException {
+        //given
+        ReplicationLog replicationLog = new ReplicationLog(properties(4));
+        for (long i = 1; i <= 10; i++) {
+            replicationLog.onCommitted(committed(1L, i, i * 100));
+        }
+
+        //when
+        List<ReplicationRecord> evicted = replicationLog.read(1L, 100, 0L);
+        List<ReplicationRecord> retained = replicationLog.read(7L, 100, 0L);
+
+        //then
+        assertThat(evicted).isNull();
+        assertThat(retained).extracting(ReplicationRecord::version).containsExactly(7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("스냅샷과 스트림으로 같은 변경을 두 번 받아도 follower 상태는 한 번 반영한 것과 같다.")
+    void replicaAppliesDuplicatedRecordsOnce() {
+        //given
+        ReplicaStore replicaStore = new ReplicaStore();
+        PointCommittedEvent first = committed(1L, 1L, 100L);
+        PointCommittedEvent second = committed(1L, 2L, 300L);
+
+        //when
+        // 스냅샷(버전 1 기준)에 이미 두 번째 변경이 포함된 채로 전달된 뒤, 스트림으로 두 번째 변경을 다시 받는다.
+        replicaStore.apply(ReplicationRecord.balance(1L, second.userPoint()));
+        replicaStore.apply(ReplicationRecord.history(1L, first.pointHistory()));
+        replicaStore.apply(ReplicationRecord.history(1L, second.pointHistory()));
+        replicaStore.apply(ReplicationRecord.snapshotEnd(1L));
+        replicaStore.apply(ReplicationRecord.commit(2L, second));
+
+        //then
+        assertThat(replicaStore.version()).isEqualTo(2L);
+        assertThat(replicaStore.findById(1L).point()).isEqualTo(300L);
+        assertThat(replicaStore.findAllById(1L)).extracting(PointHistory::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("primary 로그가 바뀌어 다시 맞춰야 하면 follower 는 스냅샷을 다 받을 때까지 이전 상태로 응답하고, 다 받으면 한 번에 교체한다.")
+    void replicaSwapsStateOnResyncSnapshotEnd() throws InterruptedException {
+        //given
+        ReplicaStore replicaStore = new ReplicaStore();
+        replicaStore.connected(1L, false);
+        replicaStore.apply(ReplicationRecord.commit(1L, committed(1L, 1L, 100L)));
+        replicaStore.apply(ReplicationRecord.commit(2L, committed(1L, 2L, 200L)));
+        PointCommittedEvent restarted = committed(2L, 1L, 500L);
+
+        //when
+        replicaStore.connected(2L, true);
+        replicaStore.apply(ReplicationRecord.balance(1L, restarted.userPoint()));
+        replicaStore.apply(ReplicationRecord.history(1L, restarted.pointHistory()));
+
+        //then
+        // 스냅샷을 받는 중에는 이전 상태를 그대로 조회하고, 새 primary 의 버전을 기다리는 조회는 통과시키지 않는다.
+        assertThat(replicaStore.resyncing()).isTrue();
+        assertThat(replicaStore.epoch()).isEqualTo(1L);
+        assertThat(replicaStore.findById(1L).point()).isEqualTo(200L);
+        assertThat(replicaStore.findAllById(1L)).hasSize(2);
+        assertThat(replicaStore.findById(2L).point()).isZero();
+        assertThat(replicaStore.awaitVersion(1L, Duration.ofMillis(10))).isFalse();
+
+        //when
+        replicaStore.apply(ReplicationRecord.snapshotEnd(1L));
+
+        //then
+        assertThat(replicaStore.resyncing()).isFalse();
+        assertThat(replicaStore.epoch()).isEqualTo(2L);
+        assertThat(replicaStore.version()).isEqualTo(1L);
+        assertThat(replicaStore.findById(1L).point()).isZero();
+        assertThat(replicaStore.findAllById(1L)).isEmpty();
+        assertThat(replicaStore.findById(2L).point()).isEqualTo(500L);
+        assertThat(replicaStore.findAllIds()).containsExactly(2L);
+        assertThat(replicaStore.awaitVersion(1L, Duration.ofMillis(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("primary 가 재시작해 버전이 처음부터 다시 붙어도 follower 는 스냅샷으로 새 상태를 따라간다.")
+    void followerResyncsAfterPrimaryRestart() throws Exception {
+        //given
+        int replicationPort = freePort();
+        String primary = start("primary", replicationPort);
+        ConfigurableApplicationContext primaryInstance = instances.get(0);
+        for (int i = 0; i < 3; i++) {
+            send(primary, "PATCH", "/point/1/charge", "100", null);
+        }
+        String follower = start("follower", replicationPort);
+        awaitPoint(follower, 1L, 300L);
+
+        //when
+        // 재시작한 primary 의 버전(1)은 follower 가 받은 버전(3)보다 작다.
+        primaryInstance.close();
+        instances.remove(primaryInstance);
+        String restarted = start("primary", replicationPort);
+        send(restarted, "PATCH", "/point/2/charge", "500", null);
+
+        //then
+        awaitPoint(follower, 2L, 500L);
+        HttpResponse<String> removed = send(follower, "GET", "/point/1", null, null);
+        assertThat(objectMapper.readTree(removed.body()).get("point").asLong()).isZero();
+        HttpResponse<String> histories = send(follower, "GET", "/point/2/histories", null, null);
+        assertThat(objectMapper.readTree(histories.body())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("primary 쓰기 응답의 버전을 넘기면 follower 에서 쓴 값을 읽을 수 있다.")
+    void followerServesReadYourWrites() throws Exception {
+        //given
+        int replicationPort = freePort();
+        String primary = start("primary", replicationPort);
+
+        HttpResponse<String> charged = send(primary, "PATCH", "/point/1/charge", "1000", null);
+        String follower = start("follower", replicationPort); // 기존 변경은 로그에서 이어 받는다.
+
+        //when
+        HttpResponse<String> used = send(primary, "PATCH", "/point/1/use", "300", null);
+        String version = used.headers().firstValue(ReplicationResponseAdvice.VERSION_HEADER).orElseThrow();
+        HttpResponse<String> read = send(follower, "GET", "/point/1", null, version);
+        HttpResponse<String> histories = send(follower, "GET", "/point/1/histories", null, version);
+
+        //then
+        assertThat(charged.statusCode()).isEqualTo(200);
+        assertThat(read.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(read.body()).get("point").asLong()).isEqualTo(700L);
+        assertThat(Long.parseLong(read.headers().firstValue(ReplicationResponseAdvice.VERSION_HEADER).orElseThrow()))
+                .isGreaterThanOrEqualTo(Long.parseLong(version));
+        JsonNode historyBody = objectMapper.readTree(histories.body());
+        assertThat(historyBody).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("follower 에 충전/사용 요청을 하면 405 로 거절한다.")
+    void followerRejectsWrites() throws Exception {
+        //given
+        int replicationPort = freePort();
+        start("primary", replicationPort);
+        String follower = start("follower", replicationPort);
+
+        //when
+        HttpResponse<String> response = send(follower, "PATCH", "/point/1/charge", "1000", null);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(405);
+    }
+
+    // follower 에 기대한 잔고가 보일 때까지 기다린다. (재접속 간격을 넘을 만큼)
+    private void awaitPoint(String follower, long userId, long expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        long point = -1L;
+        while (System.currentTimeMillis() < deadline) {
+            HttpResponse<String> response = send(follower, "GET", "/point/" + userId, null, null);
+            point = objectMapper.readTree(response.body()).get("point").asLong();
+            if (point == expected) {
+                return;
+            }
+            Thread.sleep(50L);
+        }
+        assertThat(point).isEqualTo(expected);
+    }
+
+    private static ReplicationProperties properties(int logCapacity) {
+        return new ReplicationProperties("primary", 0, "localhost", logCapacity,
+                Duration.ofMillis(100), Duration.ofSeconds(2));
+    }
+
+    private static PointCommittedEvent committed(long userId, long historyId, long point) {
+        UserPoint userPoint = new UserPoint(userId, point, historyId);
+        PointHistory pointHistory = new PointHistory(historyId, userId, 100L, TransactionType.CHARGE, historyId);
+        return new PointCommittedEvent(TransactionType.CHARGE, 100L, userPoint, pointHistory);
+    }
+
+    private String start(String role, int replicationPort) throws IOException {
+        String node = "http://localhost:" + freePort();
+        instances.add(new SpringApplicationBuilder(TddApplication.class)
+                .properties(
+                        "server.port=" + URI.create(node).getPort(),
+                        "point.replication.role=" + role,
+                        "point.replication.port=" + replicationPort,
+                        "logging.level.io.hhplus.tdd.point.service=warn")
+                .run());
+        return node;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private HttpResponse<String> send(String node, String method, String path, String body, String minVersion)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(node + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (minVersion != null) {
+            request.header(ReplicaReadInterceptor.MIN_VERSION_HEADER, minVersion);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.repository.sharded.ShardedHistoryProperties;
+import io.hhplus.tdd.point.repository.sharded.ShardedPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardedPointHistoryRepositoryTest {
+
+    static final int THREADS = 64;
+    static final int USERS = 1_000;
+    static final int WRITES_PER_THREAD = 5_000;
+
+    @Test
+    @DisplayName("64개 스레드가 여러 유저의 내역을 동시에 저장해도 유실되거나 중복된 ID 가 없다.")
+    void noLostEntriesAndNoDuplicatedIdsUnderConcurrentWrites() throws InterruptedException {
+        //given
+        ShardedPointHistoryRepository pointHistoryRepository = new ShardedPointHistoryRepository(new ShardedHistoryProperties(16));
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch countDownLatch = new CountDownLatch(THREADS);
+
+        //when
+        // 스레드마다 전체 유저를 돌아가며 저장하므로 같은 유저, 같은 샤드에 대한 동시 쓰기도 일어난다.
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                        long userId = (offset + i) % USERS;
+                        pointHistoryRepository.save(userId, i, TransactionType.CHARGE, System.currentTimeMillis());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        start.countDown();
+        countDownLatch.await();
+        executorService.shutdown();
+
+        //then
+        List<PointHistory> all = new ArrayList<>();
+        for (long userId = 0; userId < USERS; userId++) {
+            long owner = userId;
+            List<PointHistory> histories = pointHistoryRepository.findAllById(owner);
+            assertThat(histories).allSatisfy(history -> assertThat(history.userId()).isEqualTo(owner));
+            // 같은 유저의 내역은 ID 가 증가하는 순서로 저장된다.
+            assertThat(histories).extracting(PointHistory::id).isSorted();
+            all.addAll(histories);
+        }
+        Set<Long> ids = new HashSet<>();
+        all.forEach(history -> ids.add(history.id()));
+        assertThat(all).hasSize(THREADS * WRITES_PER_THREAD); // 유실된 내역이 없다.
+        assertThat(ids).hasSize(all.size()); // 중복된 ID 가 없다.
+    }
+
+    @Test
+    @DisplayName("저장 중에 조회해도 저장된 순서의 앞부분을 온전하게 읽는다.")
+    void readsConsistentPrefixWhileWriting() throws InterruptedException {
+        //given
+        ShardedPointHistoryRepository pointHistoryRepository = new ShardedPointHistoryRepository(new ShardedHistoryProperties(16));
+        long userId = 1L;
+        int writes = 100_000;
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= writes; i++) {
+                pointHistoryRepository.save(userId, i, TransactionType.CHARGE, i);
+            }
+        });
+
+        //when
+        writer.start();
+        // 조회한 목록마다 앞에서부터 1, 2, 3... 순서로 빠짐없이 저장된 금액이 보여야 한다.
+        int brokenViews = 0;
+        while (writer.isAlive()) {
+            List<PointHistory> view = pointHistoryRepository.findAllById(userId);
+            for (int i = 0; i < view.size(); i++) {
+                if (view.get(i) == null || view.get(i).amount() != i + 1L) {
+                    brokenViews++;
+                    break;
+                }
+            }
+        }
+        writer.join();
+
+        //then
+        assertThat(brokenViews).isZero();
+        assertThat(pointHistoryRepository.findAllById(userId)).hasSize(writes);
+    }
+}
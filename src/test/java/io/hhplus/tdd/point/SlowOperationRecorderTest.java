@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.monitor.OperationTrace;
+import io.hhplus.tdd.point.monitor.PointOperation;
+import io.hhplus.tdd.point.monitor.PointPhase;
+import io.hhplus.tdd.point.monitor.SlowOperationProperties;
+import io.hhplus.tdd.point.monitor.SlowOperationRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowOperationRecorderTest {
+
+    @Test
+    @DisplayName("임계값을 넘은 작업만 구간별 소요 시간과 함께 기록된다.")
+    void recordsOnlySlowOperationsWithPhases() throws InterruptedException {
+        //given
+        SlowOperationRecorder recorder = new SlowOperationRecorder(new SlowOperationProperties(Duration.ofMillis(20), 16));
+
+        //when
+        OperationTrace fast = recorder.begin(PointOperation.FIND_POINT, 1L);
+        fast.mark(PointPhase.SELECT_POINT);
+        recorder.end(fast);
+
+        OperationTrace slow = recorder.begin(PointOperation.CHARGE, 2L);
+        TimeUnit.MILLISECONDS.sleep(30);
+        slow.mark(PointPhase.LOCK_WAIT);
+        slow.mark(PointPhase.SELECT_POINT);
+        recorder.end(slow);
+
+        //then
+        List<SlowOperationRecorder.SlowOperation> recent = recorder.recent();
+        assertThat(recent).hasSize(1);
+        assertThat(recent.get(0).operation()).isEqualTo(PointOperation.CHARGE);
+        assertThat(recent.get(0).userId()).isEqualTo(2L);
+        assertThat(recent.get(0).phaseMillis().get(PointPhase.LOCK_WAIT)).isGreaterThanOrEqualTo(30.0);
+        assertThat(recent.get(0).totalMillis()).isGreaterThanOrEqualTo(recent.get(0).phaseMillis().get(PointPhase.LOCK_WAIT));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 링 버퍼 크기만큼의 최근 작업만 온전하게 남는다.")
+    void keepsLatestOperationsUnderConcurrentWrites() throws InterruptedException {
+        //given
+        SlowOperationRecorder recorder = new SlowOperationRecorder(new SlowOperationProperties(Duration.ZERO, 64));
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch countDownLatch = new CountDownLatch(threads);
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < 10_000; i++) {
+                        OperationTrace trace = recorder.begin(PointOperation.USE, userId);
+                        trace.mark(PointPhase.UPDATE_POINT);
+                        recorder.end(trace);
+                    }
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+
+        //then
+        List<SlowOperationRecorder.SlowOperation> recent = recorder.recent();
+        assertThat(recent).hasSizeLessThanOrEqualTo(64).isNotEmpty();
+        assertThat(recent).allSatisfy(operation -> {
+            assertThat(operation.operation()).isEqualTo(PointOperation.USE);
+            assertThat(operation.userId()).isBetween(0L, (long) threads - 1);
+        });
+    }
+
+    @Test
+    @DisplayName("한 스레드에서 작업이 겹쳐도 작업마다 따로 기록된다.")
+    void nestedOperationsOnSameThreadAreRecordedSeparately() throws InterruptedException {
+        //given
+        SlowOperationRecorder recorder = new SlowOperationRecorder(new SlowOperationProperties(Duration.ofMillis(20), 16));
+
+        //when
+        OperationTrace outer = recorder.begin(PointOperation.CHARGE, 1L);
+        OperationTrace inner = recorder.begin(PointOperation.FIND_POINT, 2L);
+        inner.mark(PointPhase.SELECT_POINT);
+        recorder.end(inner);
+        TimeUnit.MILLISECONDS.sleep(30);
+        outer.mark(PointPhase.LOCK_WAIT);
+        recorder.end(outer);
+
+        //then
+        assertThat(outer).isNotSameAs(inner);
+        List<SlowOperationRecorder.SlowOperation> recent = recorder.recent();
+        assertThat(recent).hasSize(1);
+        assertThat(recent.get(0).operation()).isEqualTo(PointOperation.CHARGE);
+        assertThat(recent.get(0).userId()).isEqualTo(1L);
+        assertThat(recent.get(0).phaseMillis()).containsOnlyKeys(PointPhase.LOCK_WAIT);
+    }
+}
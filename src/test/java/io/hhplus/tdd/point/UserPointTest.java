@@ -106,4 +106,18 @@ public class UserPointTest {
         assertThat(updatedPoint.point()).isEqualTo(50); // 사용한 만큼 포인트가 차감되었는지 검증
     }
 
+    // PointUser tryCharge()/tryUse() 거절 테스트
+    @Test
+    @DisplayName("검증에 실패하면 예외 대신 거절 사유를 반환한다.")
+    void tryChargeAndTryUseShouldReturnRejection() {
+        //given
+        UserPoint userPoint = new UserPoint(USER_ID, 1_000_000L, System.currentTimeMillis());
+
+        //when-then
+        assertThat(userPoint.tryCharge(0L)).isEqualTo(PointRejection.INVALID_CHARGE_AMOUNT);
+        assertThat(userPoint.tryCharge(1L)).isEqualTo(PointRejection.EXCEEDS_MAX_BALANCE);
+        assertThat(userPoint.tryUse(-1L)).isEqualTo(PointRejection.INVALID_USE_AMOUNT);
+        assertThat(userPoint.tryUse(1_000_001L)).isEqualTo(PointRejection.INSUFFICIENT_BALANCE);
+        assertThat(userPoint.tryUse(1L)).isInstanceOf(UserPoint.class); // 성공 시 반영 후 잔고
+    }
 }